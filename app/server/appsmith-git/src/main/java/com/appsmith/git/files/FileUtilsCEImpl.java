@@ -14,6 +14,7 @@ import com.appsmith.external.models.ArtifactGitReference;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.helpers.DSLTransformerHelper;
+import com.appsmith.git.helpers.GitRepositoryCache;
 import io.micrometer.tracing.Span;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -26,11 +27,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -41,6 +42,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -74,6 +76,7 @@ public class FileUtilsCEImpl implements FileInterface {
     private final GitExecutor gitExecutor;
     private final FileOperations fileOperations;
     private final ObservationHelper observationHelper;
+    private final GitRepositoryCache gitRepositoryCache;
 
     private static final String EDIT_MODE_URL_TEMPLATE = "{{editModeUrl}}";
 
@@ -86,15 +89,19 @@ public class FileUtilsCEImpl implements FileInterface {
 
     private static final String CANVAS_WIDGET = "(Canvas)[0-9]*.";
 
+    private static final int MAX_PARALLEL_PAGE_WRITES = 4;
+
     public FileUtilsCEImpl(
             GitServiceConfig gitServiceConfig,
             GitExecutor gitExecutor,
             FileOperations fileOperations,
-            ObservationHelper observationHelper) {
+            ObservationHelper observationHelper,
+            GitRepositoryCache gitRepositoryCache) {
         this.gitServiceConfig = gitServiceConfig;
         this.gitExecutor = gitExecutor;
         this.fileOperations = fileOperations;
         this.observationHelper = observationHelper;
+        this.gitRepositoryCache = gitRepositoryCache;
     }
 
     /**
@@ -243,47 +250,27 @@ public class FileUtilsCEImpl implements FileInterface {
                 applicationGitReference.getPages().entrySet();
 
         Set<String> validPages = new HashSet<>();
+        List<Map.Entry<String, Object>> updatedPageEntries = new ArrayList<>();
         for (Map.Entry<String, Object> pageResource : pageEntries) {
-            Map<String, String> validWidgetToParentMap = new HashMap<>();
             final String pageName = pageResource.getKey();
-            Path pageSpecificDirectory = pageDirectory.resolve(pageName);
             boolean isResourceUpdated =
                     modifiedResources != null && modifiedResources.isResourceUpdated(PAGE_LIST, pageName);
             if (Boolean.TRUE.equals(isResourceUpdated)) {
-                // Save page metadata
-                saveResource(
-                        pageResource.getValue(),
-                        pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION));
-                Map<String, JSONObject> result = DSLTransformerHelper.flatten(
-                        new JSONObject(applicationGitReference.getPageDsl().get(pageName)));
-                result.forEach((key, jsonObject) -> {
-                    // get path with splitting the name via key
-                    String widgetName = key.substring(key.lastIndexOf(CommonConstants.DELIMITER_POINT) + 1);
-                    String childPath = key.replace(CommonConstants.MAIN_CONTAINER, CommonConstants.EMPTY_STRING)
-                            .replace(CommonConstants.DELIMITER_POINT, CommonConstants.DELIMITER_PATH);
-                    // Replace the canvas Widget as a child and add it to the same level as parent
-                    childPath = childPath.replaceAll(CANVAS_WIDGET, CommonConstants.EMPTY_STRING);
-                    if (!DSLTransformerHelper.hasChildren(jsonObject)
-                            && !DSLTransformerHelper.isTabsWidget(jsonObject)) {
-                        // Save the widget as a directory or Save the widget as a file
-                        childPath = childPath.replace(widgetName, CommonConstants.EMPTY_STRING);
-                    }
-                    Path path = Paths.get(
-                            String.valueOf(pageSpecificDirectory.resolve(CommonConstants.WIDGETS)), childPath);
-                    validWidgetToParentMap.put(widgetName, path.toFile().toString());
-                    fileOperations.saveWidgets(jsonObject, widgetName, path);
-                });
-                // Remove deleted widgets from the file system
-                deleteWidgets(
-                        pageSpecificDirectory.resolve(CommonConstants.WIDGETS).toFile(), validWidgetToParentMap);
-
-                // Remove the canvas.json from the file system since the value is stored in the page.json
-                fileOperations.deleteFile(
-                        pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION));
+                updatedPageEntries.add(pageResource);
             }
             validPages.add(pageName);
         }
 
+        // Pages are saved to separate directories, so they can be saved in parallel
+        Flux.fromIterable(updatedPageEntries)
+                .flatMap(
+                        pageResource -> Mono.fromRunnable(
+                                        () -> savePage(applicationGitReference, pageResource, pageDirectory))
+                                .subscribeOn(scheduler),
+                        MAX_PARALLEL_PAGE_WRITES)
+                .then()
+                .block();
+
         fileOperations.scanAndDeleteDirectoryForDeletedResources(validPages, baseRepo.resolve(PAGE_DIRECTORY));
 
         // Save JS Libs if there's at least one change
@@ -416,6 +403,48 @@ public class FileUtilsCEImpl implements FileInterface {
         return validPages;
     }
 
+    /**
+     * Saves the page metadata and each of its widgets to the page's directory, and removes the widgets that have been
+     * deleted from the page.
+     *
+     * @param applicationGitReference application to which the page belongs
+     * @param pageResource            name and metadata of the page
+     * @param pageDirectory           directory in which the directories of all the pages are
+     */
+    protected void savePage(
+            ApplicationGitReference applicationGitReference,
+            Map.Entry<String, Object> pageResource,
+            Path pageDirectory) {
+        Map<String, String> validWidgetToParentMap = new HashMap<>();
+        final String pageName = pageResource.getKey();
+        Path pageSpecificDirectory = pageDirectory.resolve(pageName);
+        // Save page metadata
+        saveResource(pageResource.getValue(), pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION));
+        Map<String, JSONObject> result = DSLTransformerHelper.flatten(
+                new JSONObject(applicationGitReference.getPageDsl().get(pageName)));
+        result.forEach((key, jsonObject) -> {
+            // get path with splitting the name via key
+            String widgetName = key.substring(key.lastIndexOf(CommonConstants.DELIMITER_POINT) + 1);
+            String childPath = key.replace(CommonConstants.MAIN_CONTAINER, CommonConstants.EMPTY_STRING)
+                    .replace(CommonConstants.DELIMITER_POINT, CommonConstants.DELIMITER_PATH);
+            // Replace the canvas Widget as a child and add it to the same level as parent
+            childPath = childPath.replaceAll(CANVAS_WIDGET, CommonConstants.EMPTY_STRING);
+            if (!DSLTransformerHelper.hasChildren(jsonObject) && !DSLTransformerHelper.isTabsWidget(jsonObject)) {
+                // Save the widget as a directory or Save the widget as a file
+                childPath = childPath.replace(widgetName, CommonConstants.EMPTY_STRING);
+            }
+            Path path = Paths.get(String.valueOf(pageSpecificDirectory.resolve(CommonConstants.WIDGETS)), childPath);
+            validWidgetToParentMap.put(widgetName, path.toFile().toString());
+            fileOperations.saveWidgets(jsonObject, widgetName, path);
+        });
+        // Remove deleted widgets from the file system
+        deleteWidgets(pageSpecificDirectory.resolve(CommonConstants.WIDGETS).toFile(), validWidgetToParentMap);
+
+        // Remove the canvas.json from the file system since the value is stored in the page.json
+        fileOperations.deleteFile(
+                pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION));
+    }
+
     /**
      * This method will be used to store the DB resource to JSON file
      *
@@ -506,9 +535,7 @@ public class FileUtilsCEImpl implements FileInterface {
     }
 
     private void writeStringToFile(String sourceEntity, Path path) throws IOException {
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            fileWriter.write(sourceEntity);
-        }
+        fileOperations.writeStringToFile(sourceEntity, path);
     }
 
     /**
@@ -580,6 +607,7 @@ public class FileUtilsCEImpl implements FileInterface {
                 .resolve(baseRepoSuffix)
                 .getParent()
                 .toFile();
+        gitRepositoryCache.invalidate(file.toPath());
         while (file.exists()) {
             FileSystemUtils.deleteRecursively(file);
         }
@@ -28,7 +28,6 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
@@ -146,9 +145,7 @@ public class FileOperationsCEImpl implements FileOperationsCE {
 
     @Override
     public void writeStringToFile(String sourceEntity, Path path) throws IOException {
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            fileWriter.write(sourceEntity);
-        }
+        writeToFileIfChanged(sourceEntity.getBytes(StandardCharsets.UTF_8), path);
     }
 
     @Override
@@ -161,14 +158,30 @@ public class FileOperationsCEImpl implements FileOperationsCE {
         span.tag(RESOURCE_TYPE, resourceType);
         observationHelper.startSpan(span, true);
 
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            gson.toJson(sourceEntity, fileWriter);
+        try {
+            writeToFileIfChanged(gson.toJson(sourceEntity).getBytes(StandardCharsets.UTF_8), path);
             return true;
         } finally {
             observationHelper.endSpan(span, true);
         }
     }
 
+    /**
+     * Writes the content to the file, unless the file already has the same content. Files which are left untouched
+     * keep their last modified time, so git doesn't have to read them again to find out that they haven't changed.
+     *
+     * @param content content to be written to the file
+     * @param path    file path where the content is to be written
+     */
+    protected void writeToFileIfChanged(byte[] content, Path path) throws IOException {
+        if (Files.isRegularFile(path)
+                && Files.size(path) == content.length
+                && Arrays.equals(Files.readAllBytes(path), content)) {
+            return;
+        }
+        Files.write(path, content);
+    }
+
     /**
      * This method will delete the JSON resource available in local git directory on subsequent commit made after the
      * deletion of respective resource from DB
@@ -0,0 +1,171 @@
+package com.appsmith.git.helpers;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.RepositoryCache;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.util.FS;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the repositories opened by the git executor open between operations, so that their config, refs and pack
+ * indexes are not read again from the disk by every operation on the same repository.
+ * <p>
+ * Repositories are reference counted: a repository is only closed once it's no longer used by any operation, and it
+ * has either been idle for too long, been evicted to make room for other repositories, or been invalidated because
+ * its directory is about to be deleted or replaced.
+ */
+@Slf4j
+@Component
+public class GitRepositoryCache {
+
+    private static final int MAX_CACHED_REPOSITORIES = 100;
+
+    private static final long MAX_IDLE_MILLIS = 10 * 60 * 1000L;
+
+    // Ordered from the least to the most recently used repository
+    private final Map<Path, CachedRepository> repositories = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static class CachedRepository {
+        private final Repository repository;
+
+        private int useCount = 0;
+
+        private long lastUsedAt = System.currentTimeMillis();
+
+        private boolean invalidated = false;
+
+        CachedRepository(Repository repository) {
+            this.repository = repository;
+        }
+    }
+
+    /**
+     * Opens the repository at the given path, or reuses it if it's already open, the same way as
+     * {@link Git#open(java.io.File)} would. Closing the returned instance releases the repository instead of closing
+     * it, so it must be closed once the operation is done, exactly as if it had been opened with
+     * {@link Git#open(java.io.File)}.
+     *
+     * @param repoPath Path to the work tree or the git directory of the repository
+     * @return A git instance for the cached repository
+     */
+    public Git open(Path repoPath) throws IOException {
+        Path gitDir = getGitDir(repoPath);
+        CachedRepository cachedRepository;
+        synchronized (repositories) {
+            cachedRepository = repositories.get(gitDir);
+            if (cachedRepository == null) {
+                Repository repository = new FileRepositoryBuilder()
+                        .setGitDir(gitDir.toFile())
+                        .setMustExist(true)
+                        .build();
+                cachedRepository = new CachedRepository(repository);
+                cachedRepository.useCount++;
+                repositories.put(gitDir, cachedRepository);
+                evictIdleRepositories(MAX_CACHED_REPOSITORIES);
+            } else {
+                cachedRepository.useCount++;
+            }
+        }
+
+        CachedRepository usedRepository = cachedRepository;
+        return new Git(usedRepository.repository) {
+            private boolean released = false;
+
+            @Override
+            public void close() {
+                if (!released) {
+                    released = true;
+                    release(usedRepository);
+                }
+            }
+        };
+    }
+
+    /**
+     * Stops reusing the repositories in the given directory or any of its subdirectories, before the directory is
+     * deleted or replaced. Repositories are closed right away if they're not in use, or as soon as the operations that
+     * use them are done.
+     *
+     * @param directory Directory of the repository, or a parent directory of repositories
+     */
+    public void invalidate(Path directory) {
+        Path normalizedDirectory = directory.toAbsolutePath().normalize();
+        synchronized (repositories) {
+            Iterator<Map.Entry<Path, CachedRepository>> iterator =
+                    repositories.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Path, CachedRepository> entry = iterator.next();
+                if (entry.getKey().startsWith(normalizedDirectory)) {
+                    iterator.remove();
+                    CachedRepository cachedRepository = entry.getValue();
+                    cachedRepository.invalidated = true;
+                    if (cachedRepository.useCount == 0) {
+                        cachedRepository.repository.close();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes the repositories that haven't been used for a while, so that their files aren't kept open forever.
+     */
+    @Scheduled(initialDelay = MAX_IDLE_MILLIS, fixedRate = MAX_IDLE_MILLIS)
+    public void closeIdleRepositories() {
+        synchronized (repositories) {
+            evictIdleRepositories(MAX_CACHED_REPOSITORIES);
+        }
+    }
+
+    public int size() {
+        synchronized (repositories) {
+            return repositories.size();
+        }
+    }
+
+    private void release(CachedRepository cachedRepository) {
+        synchronized (repositories) {
+            cachedRepository.useCount--;
+            cachedRepository.lastUsedAt = System.currentTimeMillis();
+            if (cachedRepository.invalidated && cachedRepository.useCount == 0) {
+                cachedRepository.repository.close();
+            }
+        }
+    }
+
+    /**
+     * Closes the repositories that aren't in use and have been idle for too long, and then the least recently used
+     * ones that aren't in use until no more than the given number of repositories are left. Must be called while
+     * holding the lock on the repositories.
+     */
+    private void evictIdleRepositories(int maxSize) {
+        long now = System.currentTimeMillis();
+        Iterator<CachedRepository> iterator = repositories.values().iterator();
+        while (iterator.hasNext()) {
+            CachedRepository cachedRepository = iterator.next();
+            boolean isExpired = now - cachedRepository.lastUsedAt > MAX_IDLE_MILLIS;
+            if (cachedRepository.useCount == 0 && (isExpired || repositories.size() > maxSize)) {
+                log.debug("Closing cached git repository {}", cachedRepository.repository.getDirectory());
+                iterator.remove();
+                cachedRepository.repository.close();
+            }
+        }
+    }
+
+    private static Path getGitDir(Path repoPath) {
+        return RepositoryCache.FileKey.lenient(repoPath.toFile(), FS.DETECTED)
+                .getFile()
+                .toPath()
+                .toAbsolutePath()
+                .normalize();
+    }
+}
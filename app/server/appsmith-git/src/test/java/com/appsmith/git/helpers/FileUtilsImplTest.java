@@ -1,5 +1,6 @@
 package com.appsmith.git.helpers;
 
+import com.appsmith.external.dtos.ModifiedResources;
 import com.appsmith.external.git.operations.FileOperations;
 import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.external.models.ApplicationGitReference;
@@ -10,6 +11,8 @@ import com.appsmith.git.service.GitExecutorImpl;
 import com.google.gson.GsonBuilder;
 import org.apache.commons.io.FileUtils;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.json.JSONArray;
+import org.json.JSONObject;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +23,11 @@ import reactor.core.publisher.Mono;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -28,6 +35,7 @@ import java.util.stream.Stream;
 import static com.appsmith.git.constants.GitDirectories.ACTION_COLLECTION_DIRECTORY;
 import static com.appsmith.git.constants.GitDirectories.ACTION_DIRECTORY;
 import static com.appsmith.git.constants.GitDirectories.PAGE_DIRECTORY;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class FileUtilsImplTest {
     private FileUtilsImpl fileUtils;
@@ -44,7 +52,8 @@ public class FileUtilsImplTest {
         gitServiceConfig.setGitRootPath(localTestDirectoryPath.toString());
         FileOperations fileOperations =
                 new FileOperationsImpl(gitServiceConfig, gitExecutor, new GsonBuilder(), null, ObservationHelper.NOOP);
-        fileUtils = new FileUtilsImpl(gitServiceConfig, gitExecutor, fileOperations, ObservationHelper.NOOP);
+        fileUtils = new FileUtilsImpl(
+                gitServiceConfig, gitExecutor, fileOperations, ObservationHelper.NOOP, new GitRepositoryCache());
     }
 
     @AfterEach
@@ -80,6 +89,80 @@ public class FileUtilsImplTest {
         Assertions.assertFalse(actionCollectionDirectoryPath.toFile().exists());
     }
 
+    @Test
+    public void saveApplicationToGitRepo_unchangedAndChangedPages_onlyChangedFilesRewritten()
+            throws IOException, GitAPIException {
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(new Object());
+        applicationGitReference.setTheme(new Object());
+        applicationGitReference.setMetadata(new Object());
+        applicationGitReference.setActions(new HashMap<>());
+        applicationGitReference.setActionCollections(new HashMap<>());
+        applicationGitReference.setDatasources(new HashMap<>());
+        applicationGitReference.setJsLibraries(new HashMap<>());
+        Map<String, Object> pages = new HashMap<>();
+        Map<String, String> pageDsl = new HashMap<>();
+        for (int i = 1; i <= 10; i++) {
+            pages.put("Page" + i, Map.of("name", "Page" + i));
+            pageDsl.put("Page" + i, getPageDsl("Text" + i, "text"));
+        }
+        applicationGitReference.setPages(pages);
+        applicationGitReference.setPageDsl(pageDsl);
+        ModifiedResources modifiedResources = new ModifiedResources();
+        modifiedResources.setAllModified(true);
+        applicationGitReference.setModifiedResources(modifiedResources);
+
+        fileUtils
+                .saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch")
+                .block();
+
+        Path pageDirectoryPath = localTestDirectoryPath.resolve(PAGE_DIRECTORY);
+        Path unchangedWidgetPath = findFile(pageDirectoryPath.resolve("Page1"), "Text1.json");
+        Path changedWidgetPath = findFile(pageDirectoryPath.resolve("Page2"), "Text2.json");
+        assertThat(pageDirectoryPath.toFile().list()).hasSize(10);
+
+        // Make the existing files look older, so that rewriting them can be detected
+        FileTime oldModifiedTime = FileTime.from(Instant.now().minus(1, ChronoUnit.DAYS));
+        Files.setLastModifiedTime(unchangedWidgetPath, oldModifiedTime);
+        Files.setLastModifiedTime(changedWidgetPath, oldModifiedTime);
+
+        String unchangedWidgetContent = Files.readString(unchangedWidgetPath);
+        pageDsl.put("Page2", getPageDsl("Text2", "updated text"));
+        fileUtils
+                .saveApplicationToGitRepo(Path.of(""), applicationGitReference, "branch")
+                .block();
+
+        assertThat(Files.readString(unchangedWidgetPath)).isEqualTo(unchangedWidgetContent);
+        assertThat(Files.getLastModifiedTime(unchangedWidgetPath)).isEqualTo(oldModifiedTime);
+        assertThat(Files.getLastModifiedTime(changedWidgetPath)).isNotEqualTo(oldModifiedTime);
+        assertThat(Files.readString(changedWidgetPath)).contains("updated text");
+    }
+
+    private static String getPageDsl(String widgetName, String text) {
+        return new JSONObject()
+                .put("widgetName", "MainContainer")
+                .put("type", "CANVAS_WIDGET")
+                .put(
+                        "children",
+                        new JSONArray()
+                                .put(new JSONObject()
+                                        .put("widgetName", widgetName)
+                                        .put("type", "TEXT_WIDGET")
+                                        .put("text", text)))
+                .toString();
+    }
+
+    private static Path findFile(Path directory, String fileName) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(path -> path.getFileName().toString().equals(fileName))
+                    .findFirst()
+                    .orElseThrow();
+        }
+    }
+
     @Test
     public void testScanAndDeleteDirectoryForDeletedResources() {
         Path pageDirectoryPath = localTestDirectoryPath.resolve(PAGE_DIRECTORY);
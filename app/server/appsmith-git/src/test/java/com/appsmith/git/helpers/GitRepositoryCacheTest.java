@@ -0,0 +1,79 @@
+package com.appsmith.git.helpers;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GitRepositoryCacheTest {
+
+    @TempDir
+    Path tempDirectory;
+
+    private GitRepositoryCache gitRepositoryCache;
+
+    private Path repoPath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        gitRepositoryCache = new GitRepositoryCache();
+        repoPath = tempDirectory.resolve("workspace").resolve("application").resolve("repo");
+        try (Git ignored = Git.init().setDirectory(repoPath.toFile()).call()) {
+            // Only the repository needs to exist
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        gitRepositoryCache.invalidate(tempDirectory);
+    }
+
+    @Test
+    public void open_sameRepositoryTwice_reusesRepository() throws Exception {
+        Repository firstRepository;
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            firstRepository = git.getRepository();
+        }
+
+        try (Git git = gitRepositoryCache.open(repoPath.resolve(".git"))) {
+            assertThat(git.getRepository()).isSameAs(firstRepository);
+            assertThat(git.getRepository().getWorkTree().toPath()).isEqualTo(repoPath);
+        }
+        assertThat(gitRepositoryCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void invalidate_parentDirectory_opensNewRepository() throws Exception {
+        Repository firstRepository;
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            firstRepository = git.getRepository();
+
+            gitRepositoryCache.invalidate(tempDirectory.resolve("workspace"));
+            assertThat(gitRepositoryCache.size()).isEqualTo(0);
+
+            // The repository is still usable by the operation that opened it before it was invalidated
+            assertThat(git.branchList().call()).isEmpty();
+        }
+
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            assertThat(git.getRepository()).isNotSameAs(firstRepository);
+        }
+    }
+
+    @Test
+    public void invalidate_otherDirectory_keepsRepository() throws Exception {
+        try (Git ignored = gitRepositoryCache.open(repoPath)) {
+            // Open the repository once so that it's cached
+        }
+
+        gitRepositoryCache.invalidate(tempDirectory.resolve("workspace").resolve("otherApplication"));
+
+        assertThat(gitRepositoryCache.size()).isEqualTo(1);
+    }
+}
@@ -197,4 +197,11 @@ public interface GitExecutor {
     Path createRepoPath(Path suffix);
 
     Mono<BranchTrackingStatus> getBranchTrackingStatus(Path repoPath, String branchName);
+
+    /**
+     * @param repoSuffix suffixedPath used to generate the base repo path this includes orgId, defaultAppId, repoName
+     * @param branchName name of the local branch
+     * @return id of the last commit of the branch, or an empty string if the branch doesn't exist
+     */
+    Mono<String> getBranchCommitId(Path repoSuffix, String branchName);
 }
@@ -0,0 +1,109 @@
+package com.appsmith.external.helpers;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of values computed from their keys, for pure functions that are called over and over with the same
+ * input, like parsing a binding.
+ * <p>
+ * A value is only cached once its key has been requested a second time, so that keys that never repeat neither take up
+ * the cache nor push out the keys that do. Once the cache is full, an arbitrary entry is evicted for every new one. The
+ * cache doesn't lock, so it can be used on hot paths by many threads at once.
+ * <p>
+ * Hits and misses are counted as <code>appsmith.memoization.cache.requests</code>, tagged with the name of the cache and
+ * the result, so that the hit rate of each cache can be followed along with its size.
+ *
+ * @param <K> Type of the keys, which must be immutable
+ * @param <V> Type of the values, which must not be modified once computed
+ */
+public class MemoizingCache<K, V> {
+
+    private static final String REQUESTS_METRIC = "appsmith.memoization.cache.requests";
+
+    private final Map<K, V> cache = new ConcurrentHashMap<>();
+
+    // The hashes of the keys that were last computed without being cached, one per slot. Racy updates only make a key
+    // wait for one more request before being cached.
+    private final int[] computedKeyHashes;
+
+    private final int maxSize;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    public MemoizingCache(String name, int maxSize) {
+        this(name, maxSize, Metrics.globalRegistry);
+    }
+
+    public MemoizingCache(String name, int maxSize, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.computedKeyHashes = new int[Integer.highestOneBit(Math.max(maxSize, 1) * 2 - 1)];
+
+        FunctionCounter.builder(REQUESTS_METRIC, hitCount, LongAdder::sum)
+                .description("Number of lookups in the memoization cache")
+                .tags("cache", name, "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder(REQUESTS_METRIC, missCount, LongAdder::sum)
+                .description("Number of lookups in the memoization cache")
+                .tags("cache", name, "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("appsmith.memoization.cache.size", cache, Map::size)
+                .description("Number of entries in the memoization cache")
+                .tags("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the value cached for the key, computing it otherwise, and caching it if the key was requested before. The
+     * value may be computed more than once if it's requested concurrently before being cached.
+     */
+    public V get(K key, Function<K, V> computeFunction) {
+        V value = cache.get(key);
+        if (value != null) {
+            hitCount.increment();
+            return value;
+        }
+
+        missCount.increment();
+        value = computeFunction.apply(key);
+
+        int hash = key.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & (computedKeyHashes.length - 1);
+        if (computedKeyHashes[slot] != hash) {
+            computedKeyHashes[slot] = hash;
+            return value;
+        }
+
+        if (cache.size() >= maxSize) {
+            Iterator<K> keys = cache.keySet().iterator();
+            if (keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        cache.put(key, value);
+        return value;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
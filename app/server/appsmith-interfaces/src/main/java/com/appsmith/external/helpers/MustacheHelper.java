@@ -71,6 +71,20 @@ public class MustacheHelper {
     public static final int EXECUTABLE_ENTITY_REFERENCES = 0b01;
     public static final int WIDGET_ENTITY_REFERENCES = 0b10;
 
+    /*
+     * The same bindings are parsed again on every layout update, action save and on page load computation, so the
+     * tokens and possible parents found in them are cached, keyed by the binding itself. Unusually long templates, like
+     * large query bodies, are parsed every time so that they don't take up the cache.
+     */
+    private static final int MAX_CACHED_TEMPLATES = 20000;
+    private static final int MAX_CACHED_TEMPLATE_LENGTH = 16 * 1024;
+
+    private static final MemoizingCache<String, List<MustacheBindingToken>> tokensCache =
+            new MemoizingCache<>("mustache.tokens", MAX_CACHED_TEMPLATES);
+
+    private static final MemoizingCache<String, Set<String>> possibleParentsCache =
+            new MemoizingCache<>("mustache.possibleParents", MAX_CACHED_TEMPLATES);
+
     /**
      * Tokenize a Mustache template string into a list of plain text and Mustache interpolations.
      *
@@ -84,6 +98,26 @@ public class MustacheHelper {
             return Collections.emptyList();
         }
 
+        if (!template.contains("{{")) {
+            // Plain text is a single token, which isn't worth caching
+            List<MustacheBindingToken> tokens = new ArrayList<>();
+            tokens.add(new MustacheBindingToken(template, 0, false));
+            return tokens;
+        }
+
+        if (template.length() > MAX_CACHED_TEMPLATE_LENGTH) {
+            return parseTokens(template);
+        }
+
+        // Tokens can be modified by the caller, so they are copied out of the cache
+        List<MustacheBindingToken> tokens = new ArrayList<>();
+        for (MustacheBindingToken token : tokensCache.get(template, MustacheHelper::parseTokens)) {
+            tokens.add(new MustacheBindingToken(token.getValue(), token.getStartIndex(), token.isIncludesHandleBars()));
+        }
+        return tokens;
+    }
+
+    private static List<MustacheBindingToken> parseTokens(String template) {
         List<MustacheBindingToken> tokens = new ArrayList<>();
 
         int length = template.length();
@@ -505,6 +539,13 @@ public class MustacheHelper {
     }
 
     public static Set<String> getPossibleParents(String mustacheKey) {
+        if (mustacheKey.length() > MAX_CACHED_TEMPLATE_LENGTH) {
+            return findPossibleParents(mustacheKey);
+        }
+        return new HashSet<>(possibleParentsCache.get(mustacheKey, MustacheHelper::findPossibleParents));
+    }
+
+    private static Set<String> findPossibleParents(String mustacheKey) {
         Set<String> bindingNames = new HashSet<>();
         String key = mustacheKey.trim();
 
@@ -0,0 +1,107 @@
+package com.appsmith.external.helpers;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Keeps a running estimate of the size of a result set, in bytes, as its rows are read. Each row is measured once
+ * when it's added, which keeps checking the size against the maximum supported response size cheap. Serializing the
+ * whole result set every so often, like {@link Sizeof} does, gets slower with each row read.
+ * <p>
+ * The estimate approximates the size of the rows once serialized as JSON, and is not meant to be exact.
+ */
+@Getter
+public class RowSizeEstimator {
+
+    // Approximate size of a number whose digits are not worth counting
+    private static final int NUMBER_SIZE = 8;
+
+    private final long maxSize;
+
+    private long estimatedSize = 0;
+
+    public RowSizeEstimator(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds the estimated size of the row to the running estimate.
+     *
+     * @return true if the estimated size of all the rows added so far exceeds the maximum size
+     */
+    public boolean addRow(Map<String, ?> row) {
+        estimatedSize += estimateSize(row);
+        return isMaxSizeExceeded();
+    }
+
+    public boolean isMaxSizeExceeded() {
+        return estimatedSize > maxSize;
+    }
+
+    public static long estimateSize(Object value) {
+        if (value == null) {
+            return 4;
+        }
+        if (value instanceof CharSequence charSequence) {
+            return charSequence.length() + 2L;
+        }
+        if (value instanceof Boolean) {
+            return 5;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return countDigits(((Number) value).longValue());
+        }
+        if (value instanceof BigDecimal bigDecimal) {
+            return bigDecimal.precision() + 2L;
+        }
+        if (value instanceof BigInteger bigInteger) {
+            // Each decimal digit takes a little over 3.3 bits
+            return bigInteger.bitLength() * 3L / 10 + 2;
+        }
+        if (value instanceof Number) {
+            return NUMBER_SIZE;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = 2;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                // Quotes around the key, colon and separator
+                size += String.valueOf(entry.getKey()).length() + 4L + estimateSize(entry.getValue());
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = 2;
+            for (Object element : collection) {
+                size += estimateSize(element) + 1;
+            }
+            return size;
+        }
+        if (value instanceof byte[] bytes) {
+            // Binary data ends up base64 encoded
+            return bytes.length * 4L / 3 + 4;
+        }
+        if (value instanceof Object[] array) {
+            long size = 2;
+            for (Object element : array) {
+                size += estimateSize(element) + 1;
+            }
+            return size;
+        }
+
+        // Dates, times, UUIDs, driver specific objects etc. are sent as their string representation
+        return String.valueOf(value).length() + 2L;
+    }
+
+    private static int countDigits(long number) {
+        int digits = number < 0 ? 2 : 1;
+        while (number >= 10 || number <= -10) {
+            number /= 10;
+            digits++;
+        }
+        return digits;
+    }
+}
@@ -8,8 +8,11 @@ import com.appsmith.external.helpers.restApiUtils.constants.ResponseDataType;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.Connection;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Property;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
 import com.appsmith.util.WebClientUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -42,7 +45,9 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
@@ -62,6 +67,36 @@ public class RestAPIActivateUtils {
             "application/x-binary");
     public static HeaderUtils headerUtils = new HeaderUtils();
 
+    private static final String CONNECTION_PROVIDER_NAME = "rest-api-provider";
+    private static final int MAX_CONNECTIONS_PER_HOST = 100;
+    private static final int MAX_PENDING_ACQUIRES_PER_HOST = 1000;
+    private static final Duration PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(45);
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(30);
+    private static final Duration MAX_LIFE_TIME = Duration.ofSeconds(600);
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(60);
+    private static final int MAX_CACHED_HTTP_CLIENTS = 100;
+    // Longer than any execution can take, including waiting for a connection, since executions time out after a minute
+    private static final Duration EVICTED_HTTP_CLIENT_DISPOSE_DELAY = Duration.ofMinutes(5);
+
+    // Least recently used clients are evicted once there are too many, e.g. with many distinct self-signed
+    // certificates. Executions that are still using an evicted client keep their connections: its idle connections are
+    // closed by the background eviction of its pool, and the pool itself is only disposed of once all of the executions
+    // that could be using it are over, since its background eviction would otherwise keep it alive.
+    private static final Map<HttpClientKey, HttpClient> httpClientCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<HttpClientKey, HttpClient> eldest) {
+            if (size() <= MAX_CACHED_HTTP_CLIENTS) {
+                return false;
+            }
+            ConnectionProvider connectionProvider =
+                    eldest.getValue().configuration().connectionProvider();
+            Mono.delay(EVICTED_HTTP_CLIENT_DISPOSE_DELAY)
+                    .then(Mono.defer(connectionProvider::disposeLater))
+                    .subscribe();
+            return true;
+        }
+    };
+
     public Mono<ActionExecutionResult> triggerApiCall(
             WebClient client,
             HttpMethod httpMethod,
@@ -305,17 +340,53 @@ public class RestAPIActivateUtils {
         if (httpProtocol == null) {
             httpProtocol = HttpProtocol.HTTP11;
         }
+
+        // Clients are shared between executions with the same protocol and SSL configuration, so that the connections
+        // they pool are reused. Connections are pooled per remote host within a client, which gives each datasource
+        // its own pool of keep-alive (or multiplexed, for HTTP/2) connections.
+        final HttpClientKey key = HttpClientKey.of(datasourceConfiguration, httpProtocol);
+        synchronized (httpClientCache) {
+            return httpClientCache.computeIfAbsent(key, k -> createHttpClient(datasourceConfiguration, k.protocol()));
+        }
+    }
+
+    private static HttpClient createHttpClient(
+            DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
         // Initializing webClient to be used for http call
-        final ConnectionProvider provider = ConnectionProvider.builder("rest-api-provider")
-                .maxIdleTime(Duration.ofSeconds(600))
-                .maxLifeTime(Duration.ofSeconds(600))
+        final ConnectionProvider provider = ConnectionProvider.builder(CONNECTION_PROVIDER_NAME)
+                .maxConnections(MAX_CONNECTIONS_PER_HOST)
+                .pendingAcquireMaxCount(MAX_PENDING_ACQUIRES_PER_HOST)
+                .pendingAcquireTimeout(PENDING_ACQUIRE_TIMEOUT)
+                .maxIdleTime(MAX_IDLE_TIME)
+                .maxLifeTime(MAX_LIFE_TIME)
+                .evictInBackground(EVICTION_INTERVAL)
+                .metrics(true)
                 .build();
 
-        HttpClient httpClient = HttpClient.create(provider)
+        return HttpClient.create(provider)
                 .protocol(httpProtocol)
                 .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
                 .compress(true);
+    }
 
-        return httpClient;
+    /**
+     * Identifies the configuration an HTTP client is created with. Executions whose configuration is equal can share the
+     * same client, and the connections it pools.
+     */
+    record HttpClientKey(HttpProtocol protocol, SSLDetails.AuthType sslAuthType, String certificate) {
+
+        static HttpClientKey of(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+            final Connection connection = datasourceConfiguration.getConnection();
+            final SSLDetails ssl = connection == null ? null : connection.getSsl();
+            if (ssl == null || ssl.getAuthType() != SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
+                return new HttpClientKey(httpProtocol, null, null);
+            }
+
+            final UploadedFile certificateFile = ssl.getCertificateFile();
+            return new HttpClientKey(
+                    httpProtocol,
+                    ssl.getAuthType(),
+                    certificateFile == null ? null : certificateFile.getBase64Content());
+        }
     }
 }
@@ -14,6 +14,13 @@ public class FilterDataService extends FilterDataServiceCE implements IFilterDat
         super();
     }
 
+    /**
+     * Creates an instance separate from the shared one, which filters only on H2 when columnar filtering is disabled.
+     */
+    FilterDataService(boolean isColumnarFilteringEnabled) {
+        super(isColumnarFilteringEnabled);
+    }
+
     public static FilterDataService getInstance() {
 
         if (instance == null) {
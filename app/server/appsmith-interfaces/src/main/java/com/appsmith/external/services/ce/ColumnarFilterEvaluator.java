@@ -0,0 +1,636 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.resolveValueDataType;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Evaluates the UQI where, sort and pagination conditions directly over typed column arrays, instead of creating,
+ * populating, querying and dropping an H2 table for every request.
+ * <p>
+ * The results are the same as those of the SQL generated by {@link FilterDataServiceCE}: values are coerced the same
+ * way they would be on insert, comparisons against NULL never match and NULLs sort before every other value. Any
+ * input that cannot be evaluated with exactly the same semantics (date columns, malformed conditions, values that
+ * fail to parse, etc.) raises {@link UnsupportedFilterException}, upon which the caller falls back to H2.
+ */
+class ColumnarFilterEvaluator {
+
+    private static final Set<ConditionalOperator> IS_NULL_OPERATORS = Set.of(
+            ConditionalOperator.EQ,
+            ConditionalOperator.IN,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.LTE,
+            ConditionalOperator.LT);
+
+    private static final Set<ConditionalOperator> IS_NOT_NULL_OPERATORS = Set.of(
+            ConditionalOperator.NOT_IN, ConditionalOperator.NOT_EQ, ConditionalOperator.GTE, ConditionalOperator.GT);
+
+    private final ObjectMapper objectMapper;
+
+    ColumnarFilterEvaluator(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param items                 - data
+     * @param schema                - schema generated for the data
+     * @param uqiDataFilterParams   - filter conditions to apply on data
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return filtered rows, in the same shape as the rows read back from H2
+     * @throws UnsupportedFilterException if the request can only be served by H2
+     */
+    List<Map<String, Object>> evaluate(
+            ArrayNode items,
+            Map<String, DataType> schema,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
+        Map<String, Column> columns = loadColumns(items, schema, dataTypeConversionMap);
+        int rowCount = items.size();
+
+        BitSet selection = new BitSet(rowCount);
+        selection.set(0, rowCount);
+        Condition condition = uqiDataFilterParams.getCondition();
+        if (Condition.isValid(condition)) {
+            if (!(condition.getValue() instanceof List)) {
+                throw new UnsupportedFilterException("where condition is not a list of conditions");
+            }
+            BitSet matches =
+                    evaluateGroup((List<?>) condition.getValue(), condition.getOperator(), columns, schema, rowCount);
+            if (matches != null) {
+                selection = matches;
+            }
+        }
+
+        int[] rows = selection.stream().toArray();
+        rows = sortRows(rows, uqiDataFilterParams.getSortBy(), columns);
+        rows = paginateRows(rows, uqiDataFilterParams.getPaginateBy());
+
+        List<Column> projection = getProjection(uqiDataFilterParams.getProjectionColumns(), columns);
+        List<Map<String, Object>> rowsList = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            Map<String, Object> result = new LinkedHashMap<>(projection.size());
+            for (Column column : projection) {
+                Object value = column.getValue(row);
+
+                // Set null values to empty strings
+                result.put(column.name, value == null ? "" : value);
+            }
+            rowsList.add(result);
+        }
+
+        return rowsList;
+    }
+
+    /**
+     * Converts the row oriented data into one typed array per column, coercing every value exactly the way it would
+     * be coerced when inserted into the H2 table.
+     */
+    private Map<String, Column> loadColumns(
+            ArrayNode items, Map<String, DataType> schema, Map<DataType, DataType> dataTypeConversionMap) {
+
+        int rowCount = items.size();
+        Column[] columnArray = new Column[schema.size()];
+        Map<String, Column> columns = new LinkedHashMap<>();
+        int columnIndex = 0;
+        for (Map.Entry<String, DataType> entry : schema.entrySet()) {
+            Column column = new Column(entry.getKey(), entry.getValue(), rowCount);
+            columnArray[columnIndex++] = column;
+            columns.put(column.name, column);
+        }
+
+        int row = 0;
+        for (JsonNode item : items) {
+            for (Column column : columnArray) {
+                JsonNode fieldNode = item.get(column.name);
+                // Missing fields are inserted as null, same as empty values
+                String value = fieldNode == null ? "" : fieldNode.asText();
+                column.set(row, value, resolveValueDataType(value, column.dataType, dataTypeConversionMap));
+            }
+            row++;
+        }
+
+        return columns;
+    }
+
+    /**
+     * Mirrors `generateLogicalExpression`, including the cases in which it generates SQL that H2 would reject.
+     *
+     * @return rows matching the group, or null if the group does not generate any expression
+     */
+    private BitSet evaluateGroup(
+            List<?> conditions,
+            ConditionalOperator logicOp,
+            Map<String, Column> columns,
+            Map<String, DataType> schema,
+            int rowCount) {
+
+        if (logicOp != ConditionalOperator.AND && logicOp != ConditionalOperator.OR) {
+            throw new UnsupportedFilterException("logical operator " + logicOp);
+        }
+
+        BitSet result = null;
+        boolean firstCondition = true;
+        for (Object element : conditions) {
+            if (!(element instanceof Condition condition) || condition.getOperator() == null) {
+                throw new UnsupportedFilterException("malformed condition");
+            }
+
+            ConditionalOperator operator = condition.getOperator();
+            BitSet matches;
+            if (operator == ConditionalOperator.AND || operator == ConditionalOperator.OR) {
+                if (!(condition.getValue() instanceof List)) {
+                    throw new UnsupportedFilterException("malformed condition group");
+                }
+                matches = evaluateGroup((List<?>) condition.getValue(), operator, columns, schema, rowCount);
+                if (matches == null) {
+                    continue;
+                }
+                if (result == null) {
+                    // H2 would reject a group that is not preceded by another condition
+                    throw new UnsupportedFilterException("condition group without a preceding condition");
+                }
+            } else {
+                if (firstCondition) {
+                    firstCondition = false;
+                    if (result != null) {
+                        // H2 would reject a condition that directly follows a group without an operator in between
+                        throw new UnsupportedFilterException("condition without a preceding operator");
+                    }
+                }
+                matches = evaluateCondition(condition, columns, schema, rowCount);
+            }
+
+            if (result == null) {
+                result = matches;
+            } else if (logicOp == ConditionalOperator.AND) {
+                result.and(matches);
+            } else {
+                result.or(matches);
+            }
+        }
+
+        return result;
+    }
+
+    private BitSet evaluateCondition(
+            Condition condition, Map<String, Column> columns, Map<String, DataType> schema, int rowCount) {
+
+        String path = condition.getPath();
+        Column column = columns.get(path);
+        if (StringUtils.isEmpty(path) || column == null) {
+            throw new UnsupportedFilterException("unknown column " + path);
+        }
+        if (condition.getValue() != null && !(condition.getValue() instanceof String)) {
+            throw new UnsupportedFilterException("non string value for column " + path);
+        }
+
+        ConditionalOperator operator = condition.getOperator();
+        String value = (String) condition.getValue();
+        BitSet matches = new BitSet(rowCount);
+
+        if (StringUtils.isEmpty(value)) {
+            if (IS_NULL_OPERATORS.contains(operator)) {
+                matches.or(column.nulls);
+            } else if (IS_NOT_NULL_OPERATORS.contains(operator)) {
+                matches.set(0, rowCount);
+                matches.andNot(column.nulls);
+            } else {
+                throw new UnsupportedFilterException("operator " + operator);
+            }
+            return matches;
+        }
+
+        DataType paramDataType = schema.get(path);
+        switch (operator) {
+            case IN, NOT_IN -> {
+                List<Object> params = toParams(value, column, paramDataType);
+                if (operator == ConditionalOperator.NOT_IN && params.contains(null)) {
+                    // `x NOT IN (.., NULL)` is never true
+                    return matches;
+                }
+                for (int row = 0; row < rowCount; row++) {
+                    if (!column.isNull(row)
+                            && containsValue(column, row, params) == (operator == ConditionalOperator.IN)) {
+                        matches.set(row);
+                    }
+                }
+            }
+            case CONTAINS -> {
+                if (column.kind != ColumnKind.STRING) {
+                    throw new UnsupportedFilterException("like on non string column " + path);
+                }
+                // The LIKE pattern itself can never be a null value, hence only the type of the column matters here
+                if (resolveValueDataType("%" + value + "%", paramDataType, null) == DataType.NULL) {
+                    return matches;
+                }
+                for (int row = 0; row < rowCount; row++) {
+                    if (!column.isNull(row) && column.strings[row].contains(value)) {
+                        matches.set(row);
+                    }
+                }
+            }
+            case EQ, NOT_EQ, LT, LTE, GT, GTE -> {
+                Object param = toParam(value, column, paramDataType);
+                if (param == null) {
+                    // Comparisons with NULL are never true
+                    return matches;
+                }
+                for (int row = 0; row < rowCount; row++) {
+                    if (!column.isNull(row) && isMatch(operator, column.compareTo(row, param))) {
+                        matches.set(row);
+                    }
+                }
+            }
+            default -> throw new UnsupportedFilterException("operator " + operator);
+        }
+
+        return matches;
+    }
+
+    private static boolean isMatch(ConditionalOperator operator, int comparison) {
+        return switch (operator) {
+            case EQ -> comparison == 0;
+            case NOT_EQ -> comparison != 0;
+            case LT -> comparison < 0;
+            case LTE -> comparison <= 0;
+            case GT -> comparison > 0;
+            case GTE -> comparison >= 0;
+            default -> throw new UnsupportedFilterException("operator " + operator);
+        };
+    }
+
+    private static boolean containsValue(Column column, int row, List<Object> params) {
+        for (Object param : params) {
+            if (param != null && column.compareTo(row, param) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Object> toParams(String value, Column column, DataType paramDataType) {
+        List<Object> arrayValues;
+        try {
+            arrayValues = objectMapper.readValue(value, List.class);
+        } catch (IOException e) {
+            throw new UnsupportedFilterException(value + " could not be parsed into an array");
+        }
+        if (arrayValues.isEmpty()) {
+            throw new UnsupportedFilterException("empty array");
+        }
+
+        List<Object> params = new ArrayList<>(arrayValues.size());
+        for (Object fieldValue : arrayValues) {
+            params.add(toParam(String.valueOf(fieldValue), column, paramDataType));
+        }
+        return params;
+    }
+
+    /**
+     * Converts a condition value the same way it is bound to the prepared statement, i.e. as per the column's data
+     * type and without any data type conversion map.
+     *
+     * @return the value to compare column values with, or null for a NULL value
+     */
+    private static Object toParam(String value, Column column, DataType paramDataType) {
+        DataType dataType = resolveValueDataType(value, paramDataType, null);
+        String strNumericValue = value.trim().replace(",", "");
+        try {
+            Object param =
+                    switch (dataType) {
+                        case NULL -> null;
+                        case INTEGER -> (long) Integer.parseInt(strNumericValue);
+                        case LONG -> Long.parseLong(strNumericValue);
+                        case FLOAT, DOUBLE -> new BigDecimal(strNumericValue);
+                        case BOOLEAN -> Boolean.parseBoolean(value);
+                        default -> value;
+                    };
+            if (param != null && !column.kind.paramType.isInstance(param)) {
+                throw new UnsupportedFilterException("value " + value + " does not match column " + column.name);
+            }
+            return param;
+        } catch (NumberFormatException e) {
+            throw new UnsupportedFilterException("value " + value + " could not be parsed as " + dataType);
+        }
+    }
+
+    private static int[] sortRows(int[] rows, List<Map<String, String>> sortBy, Map<String, Column> columns) {
+        if (CollectionUtils.isEmpty(sortBy)) {
+            return rows;
+        }
+
+        Comparator<Integer> comparator = null;
+        for (Map<String, String> sortCondition : sortBy) {
+            String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+            if (isBlank(columnName)) {
+                continue;
+            }
+
+            Column column = columns.get(columnName);
+            String sortTypeValue = sortCondition.get(SORT_BY_TYPE_KEY);
+            if (column == null || sortTypeValue == null) {
+                throw new UnsupportedFilterException("sort condition on column " + columnName);
+            }
+            SortType sortType;
+            try {
+                sortType = SortType.valueOf(sortTypeValue.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new UnsupportedFilterException("sort type " + sortTypeValue);
+            }
+
+            Comparator<Integer> columnComparator = column::compareRows;
+            if (sortType == SortType.DESCENDING) {
+                columnComparator = columnComparator.reversed();
+            }
+            comparator = comparator == null ? columnComparator : comparator.thenComparing(columnComparator);
+        }
+
+        if (comparator == null) {
+            return rows;
+        }
+
+        return IntStream.of(rows)
+                .boxed()
+                .sorted(comparator)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static int[] paginateRows(int[] rows, Map<String, String> paginateBy) {
+        if (CollectionUtils.isEmpty(paginateBy)) {
+            return rows;
+        }
+
+        int limit = toPaginationValue(paginateBy.get(PAGINATE_LIMIT_KEY), "20");
+        int offset = toPaginationValue(paginateBy.get(PAGINATE_OFFSET_KEY), "0");
+        if (offset >= rows.length) {
+            return new int[0];
+        }
+
+        int end = (int) Math.min(rows.length, (long) offset + limit);
+        return Arrays.copyOfRange(rows, offset, end);
+    }
+
+    private static int toPaginationValue(String value, String defaultValue) {
+        if (isBlank(value)) {
+            value = defaultValue;
+        }
+        if (resolveValueDataType(value, DataType.INTEGER, null) == DataType.NULL) {
+            throw new UnsupportedFilterException("null pagination value");
+        }
+        try {
+            int paginationValue = Integer.parseInt(value.trim().replace(",", ""));
+            if (paginationValue < 0) {
+                throw new UnsupportedFilterException("negative pagination value " + value);
+            }
+            return paginationValue;
+        } catch (NumberFormatException e) {
+            throw new UnsupportedFilterException("pagination value " + value);
+        }
+    }
+
+    private static List<Column> getProjection(List<String> projectionColumns, Map<String, Column> columns) {
+        if (CollectionUtils.isEmpty(projectionColumns)) {
+            return new ArrayList<>(columns.values());
+        }
+
+        List<Column> projection = new ArrayList<>(projectionColumns.size());
+        for (String columnName : projectionColumns) {
+            Column column = columns.get(columnName);
+            if (column == null) {
+                throw new UnsupportedFilterException("unknown column " + columnName);
+            }
+            projection.add(column);
+        }
+        return projection;
+    }
+
+    /**
+     * The H2 column type that a column of the schema is created with, along with the type of the condition values
+     * that are compared against it.
+     */
+    private enum ColumnKind {
+        INT(Long.class),
+        BIGINT(Long.class),
+        REAL(BigDecimal.class),
+        DOUBLE(BigDecimal.class),
+        BOOLEAN(Boolean.class),
+        STRING(String.class);
+
+        private final Class<?> paramType;
+
+        ColumnKind(Class<?> paramType) {
+            this.paramType = paramType;
+        }
+
+        static ColumnKind of(DataType dataType) {
+            return switch (dataType) {
+                case INTEGER -> INT;
+                case LONG -> BIGINT;
+                case FLOAT -> REAL;
+                case DOUBLE -> DOUBLE;
+                case BOOLEAN -> BOOLEAN;
+                case DATE, TIMESTAMP -> throw new UnsupportedFilterException("column of type " + dataType);
+                    // Columns of all the other data types are created as VARCHAR
+                default -> STRING;
+            };
+        }
+    }
+
+    /**
+     * Values of a single column, stored in a primitive array as per the column type.
+     */
+    private static class Column {
+        private final String name;
+        private final DataType dataType;
+        private final ColumnKind kind;
+        private final int rowCount;
+        private final BitSet nulls;
+
+        private long[] longs;
+        private float[] floats;
+        private double[] doubles;
+        private boolean[] booleans;
+        private String[] strings;
+
+        // Decimal representation of REAL and DOUBLE values, which is how H2 compares them with condition values
+        private BigDecimal[] decimals;
+
+        Column(String name, DataType dataType, int rowCount) {
+            this.name = name;
+            this.dataType = dataType;
+            this.kind = ColumnKind.of(dataType);
+            this.rowCount = rowCount;
+            this.nulls = new BitSet(rowCount);
+            switch (kind) {
+                case INT, BIGINT -> longs = new long[rowCount];
+                case REAL -> floats = new float[rowCount];
+                case DOUBLE -> doubles = new double[rowCount];
+                case BOOLEAN -> booleans = new boolean[rowCount];
+                case STRING -> strings = new String[rowCount];
+            }
+        }
+
+        /**
+         * Stores the value the way `setValueInStatement` binds it, followed by the conversion H2 applies while
+         * storing the bound value in a column of this kind.
+         */
+        void set(int row, String value, DataType valueDataType) {
+            String strNumericValue = value.trim().replace(",", "");
+            try {
+                switch (valueDataType) {
+                    case NULL -> nulls.set(row);
+                    case INTEGER -> setLong(row, Integer.parseInt(strNumericValue));
+                    case LONG -> setLong(row, Long.parseLong(strNumericValue));
+                    case FLOAT, DOUBLE -> setDecimal(row, new BigDecimal(strNumericValue));
+                    case BOOLEAN -> {
+                        checkKind(ColumnKind.BOOLEAN);
+                        booleans[row] = Boolean.parseBoolean(value);
+                    }
+                    default -> {
+                        checkKind(ColumnKind.STRING);
+                        strings[row] = value;
+                    }
+                }
+            } catch (NumberFormatException | ArithmeticException e) {
+                throw new UnsupportedFilterException("value " + value + " of column " + name);
+            }
+        }
+
+        private void setLong(int row, long value) {
+            if (kind == ColumnKind.INT && (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)) {
+                throw new UnsupportedFilterException("integer overflow in column " + name);
+            }
+            if (kind != ColumnKind.INT && kind != ColumnKind.BIGINT) {
+                throw new UnsupportedFilterException("integer value in column " + name);
+            }
+            longs[row] = value;
+        }
+
+        private void setDecimal(int row, BigDecimal value) {
+            switch (kind) {
+                case INT, BIGINT -> setLong(row, value.longValueExact());
+                case REAL -> {
+                    float floatValue = value.floatValue();
+                    if (!Float.isFinite(floatValue)) {
+                        throw new UnsupportedFilterException("real overflow in column " + name);
+                    }
+                    floats[row] = floatValue;
+                }
+                case DOUBLE -> {
+                    double doubleValue = value.doubleValue();
+                    if (!Double.isFinite(doubleValue)) {
+                        throw new UnsupportedFilterException("double overflow in column " + name);
+                    }
+                    doubles[row] = doubleValue;
+                }
+                default -> throw new UnsupportedFilterException("decimal value in column " + name);
+            }
+        }
+
+        private void checkKind(ColumnKind expectedKind) {
+            if (kind != expectedKind) {
+                throw new UnsupportedFilterException("unexpected value in column " + name);
+            }
+        }
+
+        boolean isNull(int row) {
+            return nulls.get(row);
+        }
+
+        /**
+         * @return the value as it is read back from H2
+         */
+        Object getValue(int row) {
+            if (nulls.get(row)) {
+                return null;
+            }
+            return switch (kind) {
+                case INT -> (int) longs[row];
+                case BIGINT -> longs[row];
+                case REAL -> floats[row];
+                case DOUBLE -> doubles[row];
+                case BOOLEAN -> booleans[row];
+                case STRING -> strings[row];
+            };
+        }
+
+        /**
+         * Compares a non null value of the column with a condition value of {@link ColumnKind#paramType}.
+         */
+        int compareTo(int row, Object param) {
+            return switch (kind) {
+                case INT, BIGINT -> Long.compare(longs[row], (Long) param);
+                case REAL, DOUBLE -> getDecimal(row).compareTo((BigDecimal) param);
+                case BOOLEAN -> Boolean.compare(booleans[row], (Boolean) param);
+                case STRING -> strings[row].compareTo((String) param);
+            };
+        }
+
+        /**
+         * Compares the values of two rows for sorting, with NULLs being smaller than every other value.
+         */
+        int compareRows(int row1, int row2) {
+            boolean isNull1 = nulls.get(row1);
+            boolean isNull2 = nulls.get(row2);
+            if (isNull1 || isNull2) {
+                return Boolean.compare(isNull2, isNull1);
+            }
+            return switch (kind) {
+                case INT, BIGINT -> Long.compare(longs[row1], longs[row2]);
+                case REAL -> Float.compare(floats[row1], floats[row2]);
+                case DOUBLE -> Double.compare(doubles[row1], doubles[row2]);
+                case BOOLEAN -> Boolean.compare(booleans[row1], booleans[row2]);
+                case STRING -> strings[row1].compareTo(strings[row2]);
+            };
+        }
+
+        private BigDecimal getDecimal(int row) {
+            if (decimals == null) {
+                decimals = new BigDecimal[rowCount];
+            }
+            if (decimals[row] == null) {
+                decimals[row] = kind == ColumnKind.REAL
+                        ? new BigDecimal(Float.toString(floats[row]))
+                        : BigDecimal.valueOf(doubles[row]);
+            }
+            return decimals[row];
+        }
+    }
+
+    /**
+     * Raised when a request cannot be evaluated with exactly the same results as H2.
+     */
+    static class UnsupportedFilterException extends RuntimeException {
+        UnsupportedFilterException(String message) {
+            super(message);
+        }
+    }
+}
@@ -29,12 +29,17 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -52,10 +57,26 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public static final String PAGINATE_OFFSET_KEY = "offset";
 
     private final ObjectMapper objectMapper;
+    private final ColumnarFilterEvaluator columnarFilterEvaluator;
     private Connection connection;
 
+    // Requests are evaluated in memory over typed columns, falling back to H2 only for what the evaluator can not
+    // handle. Only turned off to compare with H2.
+    private final boolean isColumnarFilteringEnabled;
+
     private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE";
 
+    // Each filter request works on its own pooled connection with a session-private temporary table, so that
+    // concurrent requests neither wait on a shared connection nor change the shared schema.
+    private static final int MAX_POOLED_CONNECTIONS =
+            Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    private static final long CONNECTION_ACQUIRE_TIMEOUT_SECONDS = 30;
+    private final BlockingQueue<Connection> idleConnections = new LinkedBlockingQueue<>();
+    private final AtomicInteger pooledConnectionCount = new AtomicInteger();
+
+    // Number of rows inserted in one JDBC batch
+    private static final int INSERT_BATCH_SIZE = 1000;
+
     private static final Map<DataType, String> SQL_DATATYPE_MAP = Map.of(
             DataType.INTEGER, "INT",
             DataType.LONG, "BIGINT",
@@ -97,8 +118,14 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             DataType.TIMESTAMP, Set.of());
 
     public FilterDataServiceCE() {
+        this(true);
+    }
+
+    protected FilterDataServiceCE(boolean isColumnarFilteringEnabled) {
 
+        this.isColumnarFilteringEnabled = isColumnarFilteringEnabled;
         objectMapper = SerializationUtils.getObjectMapperWithSourceInLocationEnabled();
+        columnarFilterEvaluator = new ColumnarFilterEvaluator(objectMapper);
 
         try {
             connection = DriverManager.getConnection(URL);
@@ -134,17 +161,45 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
 
         Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
-        String tableName = generateTable(schema);
 
-        // insert the data
-        insertAllData(tableName, items, schema, dataTypeConversionMap);
+        if (isColumnarFilteringEnabled) {
+            try {
+                List<Map<String, Object>> finalResults =
+                        columnarFilterEvaluator.evaluate(items, schema, uqiDataFilterParams, dataTypeConversionMap);
+                return objectMapper.valueToTree(finalResults);
+            } catch (ColumnarFilterEvaluator.UnsupportedFilterException e) {
+                log.debug("Filtering on H2 instead of in memory : {}", e.getMessage());
+            }
+        }
+
+        return filterDataOnH2(items, schema, uqiDataFilterParams, dataTypeConversionMap);
+    }
+
+    private ArrayNode filterDataOnH2(
+            ArrayNode items,
+            Map<String, DataType> schema,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
+        List<Map<String, Object>> finalResults;
+        Connection conn = acquirePooledConnection();
+        boolean isReusable = false;
+        try {
+            String tableName = generateTable(conn, schema, true);
+
+            // insert the data
+            insertAllData(conn, tableName, items, schema, dataTypeConversionMap);
 
-        // Filter the data
-        List<Map<String, Object>> finalResults =
-                executeFilterQueryNew(tableName, schema, uqiDataFilterParams, dataTypeConversionMap);
+            // Filter the data
+            finalResults = executeFilterQueryNew(conn, tableName, schema, uqiDataFilterParams, dataTypeConversionMap);
 
-        // Now that the data has been filtered. Clean Up. Drop the table
-        dropTable(tableName);
+            // Now that the data has been filtered. Clean Up. Drop the table
+            dropTable(conn, tableName);
+            isReusable = true;
+        } finally {
+            // A connection that failed midway may still hold the temporary table, close it instead of reusing it
+            releasePooledConnection(conn, isReusable);
+        }
 
         ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
 
@@ -152,6 +207,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     }
 
     private List<Map<String, Object>> executeFilterQueryNew(
+            Connection conn,
             String tableName,
             Map<String, DataType> schema,
             UQIDataFilterParams uqiDataFilterParams,
@@ -162,8 +218,6 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
         Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
 
-        Connection conn = checkAndGetConnection();
-
         StringBuilder sb = new StringBuilder();
 
         // Add projection columns condition otherwise use `select *`
@@ -369,99 +423,70 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             ArrayNode items,
             Map<String, DataType> schema,
             Map<DataType, DataType> dataTypeConversionMap) {
+        insertAllData(checkAndGetConnection(), tableName, items, schema, dataTypeConversionMap);
+    }
+
+    /**
+     * Inserts all the rows using a single-row prepared statement that is executed in JDBC batches, so that the
+     * insert query is parsed only once irrespective of the number of rows.
+     */
+    private void insertAllData(
+            Connection conn,
+            String tableName,
+            ArrayNode items,
+            Map<String, DataType> schema,
+            Map<DataType, DataType> dataTypeConversionMap) {
 
         List<String> columnNames = schema.keySet().stream().collect(Collectors.toList());
 
         List<String> quotedColumnNames =
                 columnNames.stream().map(name -> "\"" + name + "\"").collect(Collectors.toList());
 
-        StringBuilder insertQueryBuilder = new StringBuilder("INSERT INTO ");
-        insertQueryBuilder.append(tableName);
-
-        StringBuilder columnNamesBuilder = new StringBuilder("(");
-        columnNamesBuilder.append(String.join(", ", quotedColumnNames));
-        columnNamesBuilder.append(")");
-
         // In order data types of all the columns
         List<DataType> columnTypes = new ArrayList<>();
         for (String columnName : columnNames) {
             columnTypes.add(schema.get(columnName));
         }
 
-        insertQueryBuilder.append(columnNamesBuilder);
-        insertQueryBuilder.append(" VALUES ");
-
-        StringBuilder valuesMasterBuilder = new StringBuilder();
+        String insertQuery = "INSERT INTO " + tableName + " (" + String.join(", ", quotedColumnNames) + ") VALUES ("
+                + String.join(",", Collections.nCopies(columnNames.size(), "?")) + ");";
 
-        int counter = 0;
-        List<String> inOrderValues = new ArrayList<>();
-
-        for (JsonNode item : items) {
-
-            // If the number of values inserted is greater than 1000, the insert would fail. Once we have reached 1000
-            // rows, execute the insert for rows so far and start afresh for the rest of the rows
-            if (counter == 1000) {
-
-                insertReadyData(
-                        insertQueryBuilder.toString(),
-                        valuesMasterBuilder,
-                        inOrderValues,
-                        columnTypes,
-                        dataTypeConversionMap);
-                // Reset the values builder and counter for new insert queries.
-                valuesMasterBuilder = new StringBuilder();
-                counter = 0;
-                inOrderValues = new ArrayList<>();
-            }
-
-            StringBuilder valuesBuilder = new StringBuilder();
-
-            if (counter != 0) {
-                // If not the first row, add a separator between rows
-                valuesBuilder.append(",");
-            }
-
-            // Start the row
-            valuesBuilder.append("(");
-
-            Boolean firstEntry = true;
-            for (String columnName : columnNames) {
-
-                if (!firstEntry) {
-                    // Add a separator before adding a new entry
-                    valuesBuilder.append(",");
-                } else {
-                    // For future iterations, set flag to false
-                    firstEntry = false;
+        try (PreparedStatement preparedStatement = conn.prepareStatement(insertQuery)) {
+            int counter = 0;
+            for (JsonNode item : items) {
+                for (int columnIndex = 0; columnIndex < columnNames.size(); columnIndex++) {
+                    JsonNode fieldNode = item.get(columnNames.get(columnIndex));
+                    // Missing fields are inserted as null, same as empty values
+                    String value = fieldNode == null ? "" : fieldNode.asText();
+                    setValueInStatement(
+                            preparedStatement,
+                            columnIndex + 1,
+                            value,
+                            columnTypes.get(columnIndex),
+                            dataTypeConversionMap);
                 }
+                preparedStatement.addBatch();
+                counter++;
 
-                JsonNode fieldNode = item.get(columnName);
-                if (fieldNode != null) {
-                    valuesBuilder.append("?");
-                    inOrderValues.add(fieldNode.asText());
+                if (counter == INSERT_BATCH_SIZE) {
+                    preparedStatement.executeBatch();
+                    counter = 0;
                 }
             }
 
-            // End the row
-            valuesBuilder.append(")");
-
-            valuesMasterBuilder.append(valuesBuilder);
-            counter++;
-        }
-
-        if (valuesMasterBuilder.length() > 0) {
-            insertReadyData(
-                    insertQueryBuilder.toString(),
-                    valuesMasterBuilder,
-                    inOrderValues,
-                    columnTypes,
-                    dataTypeConversionMap);
+            if (counter > 0) {
+                preparedStatement.executeBatch();
+            }
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error in ingesting the data : " + e.getMessage());
         }
     }
 
-    private void executeDbQuery(String query) {
+    private void executeDbQuery(Connection conn, String query) {
 
-        Connection conn = checkAndGetConnection();
         log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), query);
 
         try (Statement statement = conn.createStatement()) {
@@ -473,44 +498,69 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
     }
 
-    private void insertReadyData(
-            String partialInsertQuery,
-            StringBuilder valuesBuilder,
-            List<String> inOrderValues,
-            List<DataType> columnTypes,
-            Map<DataType, DataType> dataTypeConversionMap) {
-
-        Connection conn = checkAndGetConnection();
-
-        StringBuilder insertQueryBuilder = new StringBuilder(partialInsertQuery);
-        insertQueryBuilder.append(valuesBuilder);
-        insertQueryBuilder.append(";");
-
-        String finalInsertQuery = insertQueryBuilder.toString();
-
-        try (PreparedStatement preparedStatement = conn.prepareStatement(finalInsertQuery)) {
-            int valueCounter = 0;
-            while (valueCounter < inOrderValues.size()) {
-
-                for (int columnTypeCounter = 0;
-                        columnTypeCounter < columnTypes.size();
-                        columnTypeCounter++, valueCounter++) {
-                    setValueInStatement(
-                            preparedStatement,
-                            valueCounter + 1,
-                            inOrderValues.get(valueCounter),
-                            columnTypes.get(columnTypeCounter),
-                            dataTypeConversionMap);
+    /**
+     * Borrows a connection from the pool, opening a new one if the pool has not reached its limit yet. Otherwise
+     * waits for another filter request to return its connection.
+     */
+    private Connection acquirePooledConnection() {
+        try {
+            Connection conn = idleConnections.poll();
+            while (conn == null) {
+                if (pooledConnectionCount.incrementAndGet() <= MAX_POOLED_CONNECTIONS) {
+                    try {
+                        return DriverManager.getConnection(URL);
+                    } catch (SQLException e) {
+                        pooledConnectionCount.decrementAndGet();
+                        throw e;
+                    }
+                }
+                pooledConnectionCount.decrementAndGet();
+                conn = idleConnections.poll(CONNECTION_ACQUIRE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                if (conn == null) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                            "Timed out while waiting for a connection to the filtering database");
                 }
             }
 
-            preparedStatement.executeUpdate();
-
+            if (conn.isClosed() || !conn.isValid(5)) {
+                // Replace the broken connection with a fresh one, the pool size stays the same
+                closeQuietly(conn);
+                try {
+                    return DriverManager.getConnection(URL);
+                } catch (SQLException e) {
+                    // The broken connection is gone and couldn't be replaced, give its slot back to the pool
+                    pooledConnectionCount.decrementAndGet();
+                    throw e;
+                }
+            }
+            return conn;
         } catch (SQLException e) {
-            e.printStackTrace();
             throw new AppsmithPluginException(
                     AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Error in ingesting the data : " + e.getMessage());
+                    "Failed to connect to the filtering database");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Interrupted while waiting for a connection to the filtering database");
+        }
+    }
+
+    private void releasePooledConnection(Connection conn, boolean isReusable) {
+        if (isReusable) {
+            idleConnections.offer(conn);
+            return;
+        }
+        closeQuietly(conn);
+        pooledConnectionCount.decrementAndGet();
+    }
+
+    private void closeQuietly(Connection conn) {
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close connection to the filtering database", e);
         }
     }
 
@@ -529,6 +579,14 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     }
 
     public String generateTable(Map<String, DataType> schema) {
+        return generateTable(checkAndGetConnection(), schema, false);
+    }
+
+    /**
+     * Creates a table for the schema. Temporary tables are private to the session of the connection, so creating
+     * them does not touch the schema shared by all the connections.
+     */
+    private String generateTable(Connection conn, Map<String, DataType> schema, boolean isTemporary) {
 
         // Generate table name
         String generateUniqueId = RandomStringUtils.randomAlphabetic(16).toUpperCase();
@@ -537,7 +595,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         // which I couldnt solve. Just appending a string to it though works perfectly.
         String tableName = new StringBuilder("tbl_").append(generateUniqueId).toString();
 
-        StringBuilder sb = new StringBuilder("CREATE TABLE ");
+        StringBuilder sb = new StringBuilder(isTemporary ? "CREATE LOCAL TEMPORARY TABLE " : "CREATE TABLE ");
 
         sb.append(tableName);
 
@@ -570,16 +628,20 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
 
         String createTableQuery = sb.toString();
 
-        executeDbQuery(createTableQuery);
+        executeDbQuery(conn, createTableQuery);
 
         return tableName;
     }
 
     public void dropTable(String tableName) {
+        dropTable(checkAndGetConnection(), tableName);
+    }
+
+    private void dropTable(Connection conn, String tableName) {
 
         String dropTableQuery = "DROP TABLE " + tableName + ";";
 
-        executeDbQuery(dropTableQuery);
+        executeDbQuery(conn, dropTableQuery);
     }
 
     /**
@@ -696,38 +758,9 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             DataType topRowDataType,
             Map<DataType, DataType> dataTypeConversionMap) {
 
-        DataType dataType = topRowDataType;
-        if (dataTypeConversionMap != null) {
-            // The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
-            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
-        }
-
+        DataType dataType = resolveValueDataType(value, topRowDataType, dataTypeConversionMap);
         String strNumericValue = value.trim().replaceAll(",", "");
 
-        // Override datatype to null for empty values
-        if (StringUtils.isEmpty(value)) {
-            dataType = DataType.NULL;
-        } else {
-            // value is not empty.
-            DataType currentRowDataType = stringToKnownDataTypeConverter(value);
-            DataType inputDataType = currentRowDataType;
-            if (dataTypeConversionMap != null) {
-                // Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
-                inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
-            }
-            if (DataType.NULL.equals(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-            // We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
-            if (dataTypeConversionMap != null
-                    && inputDataType != dataType
-                    && !datatypeCompatibilityMap
-                            .getOrDefault(dataType, Set.of())
-                            .contains(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-        }
-
         try {
             switch (dataType) {
                 case NULL: {
@@ -775,6 +808,60 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         return preparedStatement;
     }
 
+    /**
+     * Finds the data type a value is stored with in a column of the given data type. This is the column's data type
+     * itself, unless the value is empty, null or incompatible with the column as per the dataTypeConversionMap.
+     *
+     * @param value
+     * @param topRowDataType
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return
+     */
+    static DataType resolveValueDataType(
+            String value, DataType topRowDataType, Map<DataType, DataType> dataTypeConversionMap) {
+
+        DataType dataType = topRowDataType;
+        if (dataTypeConversionMap != null) {
+            // The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
+            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
+        }
+
+        // Override datatype to null for empty values
+        if (StringUtils.isEmpty(value)) {
+            return DataType.NULL;
+        }
+
+        if (dataTypeConversionMap == null) {
+            // Only null values override the column's datatype here, no need to run the complete datatype detection
+            return isNullValue(value) ? DataType.NULL : dataType;
+        }
+
+        // value is not empty.
+        DataType currentRowDataType = stringToKnownDataTypeConverter(value);
+        // Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
+        DataType inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
+        if (DataType.NULL.equals(inputDataType)) {
+            return DataType.NULL;
+        }
+        // We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
+        if (inputDataType != dataType
+                && !datatypeCompatibilityMap.getOrDefault(dataType, Set.of()).contains(inputDataType)) {
+            return DataType.NULL;
+        }
+
+        return dataType;
+    }
+
+    /**
+     * Same as `stringToKnownDataTypeConverter(value) == DataType.NULL`: empty arrays and the `null` literal.
+     */
+    private static boolean isNullValue(String value) {
+        if (value.startsWith("[") && value.endsWith("]")) {
+            return value.substring(1, value.length() - 1).trim().isEmpty();
+        }
+        return "null".equals(value.toLowerCase().trim());
+    }
+
     public boolean validConditionList(List<Condition> conditionList, Map<String, DataType> schema) {
 
         conditionList.stream()
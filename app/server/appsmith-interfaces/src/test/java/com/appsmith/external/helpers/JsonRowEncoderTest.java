@@ -0,0 +1,67 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonRowEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static Map<String, Object> createRow(int i) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", i);
+        row.put("big_id", 10_000_000_000L + i);
+        row.put("username", "user" + i);
+        row.put("balance", new BigDecimal("1024.50").add(BigDecimal.valueOf(i)));
+        row.put("score", i / 7.0);
+        row.put("is_active", i % 2 == 0);
+        row.put("dob", LocalDate.of(2000, 1, 1).plusDays(i % 365).toString());
+        row.put("tags", List.of("a", "b"));
+        row.put("deleted_at", null);
+        return row;
+    }
+
+    @Test
+    public void testAddRow_encodesRowsSameAsValueToTree() {
+        List<Map<String, Object>> rowsList = new ArrayList<>();
+        JsonRowEncoder rowEncoder = new JsonRowEncoder(objectMapper, Long.MAX_VALUE);
+        for (int i = 0; i < 100; i++) {
+            Map<String, Object> row = createRow(i);
+            rowsList.add(row);
+            assertFalse(rowEncoder.addRow(row));
+        }
+
+        ArrayNode rows = rowEncoder.getRows();
+        assertEquals(objectMapper.valueToTree(rowsList), rows);
+
+        // Columns are expected in the same order as they were read from the result set
+        Iterator<String> fieldNames = rows.get(0).fieldNames();
+        for (String columnName : rowsList.get(0).keySet()) {
+            assertEquals(columnName, fieldNames.next());
+        }
+    }
+
+    @Test
+    public void testAddRow_flagsWhenMaxResponseSizeIsExceeded() {
+        Map<String, Object> row = Map.of("name", "a".repeat(100));
+        JsonRowEncoder rowEncoder = new JsonRowEncoder(objectMapper, RowSizeEstimator.estimateSize(row) * 2);
+
+        assertFalse(rowEncoder.addRow(row));
+        assertFalse(rowEncoder.addRow(row));
+        assertTrue(rowEncoder.addRow(row));
+        assertEquals(3, rowEncoder.getRows().size());
+    }
+}
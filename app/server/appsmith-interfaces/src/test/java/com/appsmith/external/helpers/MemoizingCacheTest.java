@@ -0,0 +1,63 @@
+package com.appsmith.external.helpers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MemoizingCacheTest {
+
+    @Test
+    public void get_WhenKeyIsRequestedAgain_CachesValue() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MemoizingCache<String, Integer> cache = new MemoizingCache<>("test", 10, meterRegistry);
+        AtomicInteger computeCount = new AtomicInteger();
+
+        assertThat(cache.get("abc", key -> computeCount.incrementAndGet())).isEqualTo(1);
+        assertThat(cache.get("abc", key -> computeCount.incrementAndGet())).isEqualTo(2);
+        assertThat(cache.get("abc", key -> computeCount.incrementAndGet())).isEqualTo(2);
+        assertThat(cache.get("def", key -> computeCount.incrementAndGet())).isEqualTo(3);
+
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(3);
+        assertThat(meterRegistry
+                        .get("appsmith.memoization.cache.requests")
+                        .tags("cache", "test", "result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("appsmith.memoization.cache.requests")
+                        .tags("cache", "test", "result", "miss")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    public void get_WhenKeysDoNotRepeat_DoesNotCacheThem() {
+        MemoizingCache<String, String> cache = new MemoizingCache<>("test", 100, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 1000; i++) {
+            cache.get("key" + i, String::toUpperCase);
+        }
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void get_WhenCacheIsFull_EvictsAnEntryForEachNewOne() {
+        MemoizingCache<String, String> cache = new MemoizingCache<>("test", 2, new SimpleMeterRegistry());
+
+        for (String key : List.of("a", "b", "c")) {
+            cache.get(key, String::toUpperCase);
+            cache.get(key, String::toUpperCase);
+        }
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("c", key -> "recomputed")).isEqualTo("C");
+    }
+}
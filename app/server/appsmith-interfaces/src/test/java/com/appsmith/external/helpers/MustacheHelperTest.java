@@ -619,4 +619,28 @@ public class MustacheHelperTest {
                         "gtSymbol", "&gt;"));
         assertThat(rendered).isEqualTo("Testing html lt < and gt > symbols");
     }
+
+    @Test
+    public void tokenize_WhenTokensAreModified_LaterCallsReturnOriginalTokens() {
+        String template = "Hello {{ Input1.text }}";
+        List<MustacheBindingToken> expectedTokens = List.of(
+                new MustacheBindingToken("Hello ", 0, false), new MustacheBindingToken("{{ Input1.text }}", 6, true));
+
+        List<MustacheBindingToken> tokens = tokenize(template);
+        assertThat(tokens).isEqualTo(expectedTokens);
+        tokens.get(1).setValue("{{ Input2.text }}");
+        tokens.clear();
+
+        assertThat(tokenize(template)).isEqualTo(expectedTokens);
+    }
+
+    @Test
+    public void getPossibleParents_WhenParentsAreModified_LaterCallsReturnOriginalParents() {
+        Set<String> possibleParents = MustacheHelper.getPossibleParents("JSObject1.myFun1.data + Api1.data");
+        assertThat(possibleParents).containsExactlyInAnyOrder("JSObject1", "JSObject1.myFun1", "Api1", "Api1.data");
+        possibleParents.clear();
+
+        assertThat(MustacheHelper.getPossibleParents("JSObject1.myFun1.data + Api1.data"))
+                .containsExactlyInAnyOrder("JSObject1", "JSObject1.myFun1", "Api1", "Api1.data");
+    }
 }
@@ -0,0 +1,75 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RowSizeEstimatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static Map<String, Object> createRow(int i) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", i);
+        row.put("username", "user" + i);
+        row.put("email", "user" + i + "@example.com");
+        row.put("balance", new BigDecimal("1024.50").add(BigDecimal.valueOf(i)));
+        row.put("score", i / 7.0);
+        row.put("is_active", i % 2 == 0);
+        row.put("dob", LocalDate.of(2000, 1, 1).plusDays(i % 365).toString());
+        row.put("tags", List.of("a", "b"));
+        row.put("deleted_at", null);
+        return row;
+    }
+
+    @Test
+    public void testEstimateSize_scalarValues() {
+        assertEquals(4, RowSizeEstimator.estimateSize(null));
+        assertEquals(7, RowSizeEstimator.estimateSize("hello"));
+        assertEquals(5, RowSizeEstimator.estimateSize(true));
+        assertEquals(1, RowSizeEstimator.estimateSize(0));
+        assertEquals(5, RowSizeEstimator.estimateSize(12345L));
+        assertEquals(6, RowSizeEstimator.estimateSize(-12345));
+        assertEquals(8, RowSizeEstimator.estimateSize(new BigDecimal("123.456")));
+    }
+
+    @Test
+    public void testEstimateSize_closeToSerializedJsonSize() throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        long estimatedSize = 0;
+        for (int i = 0; i < 1000; i++) {
+            Map<String, Object> row = createRow(i);
+            rows.add(row);
+            estimatedSize += RowSizeEstimator.estimateSize(row);
+        }
+
+        long jsonSize = objectMapper.writeValueAsBytes(rows).length;
+        assertTrue(
+                Math.abs(estimatedSize - jsonSize) < jsonSize * 0.2,
+                "Estimated size " + estimatedSize + " is too far from the JSON size " + jsonSize);
+    }
+
+    @Test
+    public void testAddRow_flagsWhenMaxSizeIsExceeded() {
+        Map<String, Object> row = Map.of("name", "a".repeat(100));
+        RowSizeEstimator rowSizeEstimator = new RowSizeEstimator(RowSizeEstimator.estimateSize(row) * 3);
+
+        assertFalse(rowSizeEstimator.addRow(row));
+        assertFalse(rowSizeEstimator.addRow(row));
+        assertFalse(rowSizeEstimator.addRow(row));
+        assertTrue(rowSizeEstimator.addRow(row));
+        assertTrue(rowSizeEstimator.isMaxSizeExceeded());
+        assertEquals(RowSizeEstimator.estimateSize(row) * 4, rowSizeEstimator.getEstimatedSize());
+    }
+}
@@ -0,0 +1,131 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.helpers.restApiUtils.helpers.RestAPIActivateUtils.HttpClientKey;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RestAPIActivateUtilsTest {
+
+    static {
+        // Without this, responses on kept alive connections to the stub server are delayed by Nagle's algorithm
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final RestAPIActivateUtils restAPIActivateUtils = new RestAPIActivateUtils();
+
+    private HttpServer server;
+
+    // Remote ports of the connections the stub server got requests on
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.getRequestBody().readAllBytes();
+            byte[] response = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    private String getServerUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    private static DatasourceConfiguration createDatasourceConfiguration(String certificate) {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        if (certificate != null) {
+            SSLDetails ssl = new SSLDetails();
+            ssl.setAuthType(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE);
+            ssl.setCertificateFile(new UploadedFile("certificate.pem", certificate));
+            Connection connection = new Connection();
+            connection.setSsl(ssl);
+            datasourceConfiguration.setConnection(connection);
+        }
+        return datasourceConfiguration;
+    }
+
+    @Test
+    public void testGetHttpClient_sameConfiguration_reusesClient() {
+        HttpClient httpClient =
+                restAPIActivateUtils.getHttpClient(createDatasourceConfiguration(null), HttpProtocol.HTTP11);
+
+        assertSame(
+                httpClient,
+                restAPIActivateUtils.getHttpClient(createDatasourceConfiguration(null), HttpProtocol.HTTP11));
+        // HTTP/1.1 is the default protocol
+        assertSame(httpClient, restAPIActivateUtils.getHttpClient(createDatasourceConfiguration(null), null));
+        assertNotSame(
+                httpClient, restAPIActivateUtils.getHttpClient(createDatasourceConfiguration(null), HttpProtocol.H2));
+    }
+
+    @Test
+    public void testHttpClientKey_differentCertificate_notEqual() {
+        HttpClientKey key = HttpClientKey.of(createDatasourceConfiguration(null), HttpProtocol.HTTP11);
+        HttpClientKey certificateKey =
+                HttpClientKey.of(createDatasourceConfiguration("certificate"), HttpProtocol.HTTP11);
+
+        assertEquals(
+                certificateKey, HttpClientKey.of(createDatasourceConfiguration("certificate"), HttpProtocol.HTTP11));
+        assertNotEquals(key, certificateKey);
+        assertNotEquals(
+                certificateKey,
+                HttpClientKey.of(createDatasourceConfiguration("another certificate"), HttpProtocol.HTTP11));
+    }
+
+    @Test
+    public void testSequentialExecutions_reuseConnections() {
+        int callCount = 100;
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration(null);
+
+        String url = getServerUrl();
+        for (int i = 0; i < callCount; i++) {
+            restAPIActivateUtils
+                    .getWebClientBuilder(actionConfiguration, datasourceConfiguration)
+                    .build()
+                    .get()
+                    .uri(url)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block();
+        }
+
+        // A connection is released back to the pool right after the response is received, so the next call can
+        // occasionally open another one. Either way, all the calls are made on a handful of pooled connections.
+        assertTrue(clientPorts.size() <= 5, "Calls were made on " + clientPorts.size() + " connections");
+    }
+}
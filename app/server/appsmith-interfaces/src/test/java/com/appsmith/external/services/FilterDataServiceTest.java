@@ -5,16 +5,23 @@ import com.appsmith.external.constants.DataType;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Condition;
 import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -35,6 +42,9 @@ public class FilterDataServiceTest {
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final FilterDataService filterDataService = FilterDataService.getInstance();
 
+    // Filters only on H2, to compare with the columnar evaluation
+    private final FilterDataService h2FilterDataService = new FilterDataService(false);
+
     @Test
     public void testGenerateTable() {
         Map<String, DataType> schema = Map.of(
@@ -1336,4 +1346,159 @@ public class FilterDataServiceTest {
             fail(e.getMessage());
         }
     }
+
+    /**
+     * Runs filters on H2 from many threads at once, each over its own data. Every filter works on its own pooled
+     * connection and temporary table, so concurrent filters must not see each other's data.
+     */
+    @Test
+    public void testConcurrentFiltering_filtersDoNotSeeEachOthersData() throws Exception {
+        int filterCount = 64;
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ArrayNode>> results = new ArrayList<>();
+            for (int i = 0; i < filterCount; i++) {
+                String userName = "user" + i;
+                results.add(executorService.submit(() -> {
+                    ArrayNode items = objectMapper.createArrayNode();
+                    for (int j = 0; j < 100; j++) {
+                        items.addObject()
+                                .put("id", j)
+                                .put("userName", userName)
+                                .put("orderAmount", j)
+                                .put("orderStatus", j % 2 == 0 ? "READY" : "NOT READY");
+                    }
+                    Condition condition = new Condition(
+                            null,
+                            ConditionalOperator.AND,
+                            List.of(
+                                    new Condition("orderAmount", "LT", "10"),
+                                    new Condition("orderStatus", "EQ", "READY")),
+                            null);
+                    return h2FilterDataService.filterDataNew(
+                            items, new UQIDataFilterParams(condition, null, null, null));
+                }));
+            }
+
+            for (int i = 0; i < filterCount; i++) {
+                ArrayNode filteredData = results.get(i).get();
+                assertEquals(5, filteredData.size());
+                for (JsonNode row : filteredData) {
+                    assertEquals("user" + i, row.get("userName").asText());
+                }
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Runs the same requests in memory and on H2 over generated data, and expects identical results. Sorting always
+     * ends with the unique `id` column, since SQL does not define the order of rows with equal sort values.
+     */
+    @Test
+    public void testColumnarFilteringMatchesH2() {
+        Random random = new Random(42);
+        ArrayNode items = objectMapper.createArrayNode();
+        for (int i = 0; i < 500; i++) {
+            ObjectNode item = items.addObject();
+            item.put("rowIndex", String.valueOf(i));
+            item.put("id", i);
+            item.put("amount", random.nextInt(10) == 0 ? "" : (random.nextInt(2000) / 100.0) + "");
+            item.put("ratio", random.nextInt(10) == 0 ? "null" : String.valueOf(random.nextDouble()));
+            item.put("total", random.nextInt(10) == 0 ? "" : String.valueOf(3_000_000_000L + random.nextInt(100)));
+            item.put("active", random.nextInt(10) == 0 ? "" : String.valueOf(random.nextBoolean()));
+            item.put(
+                    "status",
+                    random.nextInt(10) == 0
+                            ? ""
+                            : List.of("READY", "NOT READY", "ready", "50%").get(random.nextInt(4)));
+        }
+        // The first row decides the data type of every column
+        ((ObjectNode) items.get(0))
+                .put("amount", "4.99")
+                .put("ratio", "0.5")
+                .put("total", "3000000000")
+                .put("active", "true")
+                .put("status", "READY");
+
+        List<Condition> conditions = new ArrayList<>();
+        for (String operator : List.of("EQ", "NOT_EQ", "LT", "LTE", "GT", "GTE")) {
+            conditions.add(new Condition("amount", operator, "4.99"));
+            conditions.add(new Condition("amount", operator, "10"));
+            conditions.add(new Condition("ratio", operator, "0.5"));
+            conditions.add(new Condition("total", operator, "3000000050"));
+            conditions.add(new Condition("active", operator, "true"));
+            conditions.add(new Condition("status", operator, "READY"));
+            conditions.add(new Condition("id", operator, "250"));
+            conditions.add(new Condition("amount", operator, ""));
+            conditions.add(new Condition("status", operator, "null"));
+        }
+        conditions.add(new Condition("amount", "IN", "[4.99, 10, 12.5]"));
+        conditions.add(new Condition("status", "IN", "[\"READY\", \"ready\"]"));
+        conditions.add(new Condition("id", "NOT_IN", "[1, 2, 3]"));
+        conditions.add(new Condition("id", "NOT_IN", "[1, null]"));
+        conditions.add(new Condition("status", "CONTAINS", "%"));
+        conditions.add(new Condition("status", "CONTAINS", "READY"));
+        conditions.add(new Condition("status", "CONTAINS", ""));
+
+        List<List<Map<String, String>>> sortByList = List.of(
+                List.of(),
+                List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "id", SORT_BY_TYPE_KEY, VALUE_DESCENDING)),
+                List.of(
+                        Map.of(SORT_BY_COLUMN_NAME_KEY, "amount", SORT_BY_TYPE_KEY, "Ascending"),
+                        Map.of(SORT_BY_COLUMN_NAME_KEY, "id", SORT_BY_TYPE_KEY, "Ascending")),
+                List.of(
+                        Map.of(SORT_BY_COLUMN_NAME_KEY, "status", SORT_BY_TYPE_KEY, VALUE_DESCENDING),
+                        Map.of(SORT_BY_COLUMN_NAME_KEY, "ratio", SORT_BY_TYPE_KEY, "Ascending"),
+                        Map.of(SORT_BY_COLUMN_NAME_KEY, "id", SORT_BY_TYPE_KEY, "Ascending")));
+
+        Map<DataType, DataType> sheetsConversionMap = Map.of(
+                DataType.INTEGER, DataType.DOUBLE,
+                DataType.LONG, DataType.DOUBLE,
+                DataType.FLOAT, DataType.DOUBLE);
+
+        for (int i = 0; i < conditions.size(); i++) {
+            Condition leaf = conditions.get(i);
+            Condition other = conditions.get((i * 7) % conditions.size());
+            List<Condition> whereClauses = List.of(
+                    new Condition(null, ConditionalOperator.AND, List.of(leaf), null),
+                    new Condition(null, ConditionalOperator.OR, List.of(leaf, other), null),
+                    new Condition(
+                            null,
+                            ConditionalOperator.AND,
+                            List.of(other, new Condition(null, ConditionalOperator.OR, List.of(leaf, other), null)),
+                            null));
+            for (Condition where : whereClauses) {
+                List<Map<String, String>> sortBy = sortByList.get(i % sortByList.size());
+                Map<String, String> paginateBy =
+                        i % 2 == 0 ? Map.of() : Map.of(PAGINATE_LIMIT_KEY, "15", PAGINATE_OFFSET_KEY, "5");
+                List<String> projection = i % 3 == 0 ? List.of("status", "id", "amount") : null;
+                for (Map<DataType, DataType> conversionMap : Arrays.asList(null, sheetsConversionMap)) {
+                    UQIDataFilterParams params = new UQIDataFilterParams(where, projection, sortBy, paginateBy);
+
+                    ArrayNode columnarResult = filterDataService.filterDataNew(items, params, conversionMap);
+                    ArrayNode h2Result = h2FilterDataService.filterDataNew(items, params, conversionMap);
+
+                    assertEquals(h2Result, columnarResult, "Results differ for " + where.getValue());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testColumnarFilteringFallsBackToH2ForDateColumns() {
+        ArrayNode items = objectMapper.createArrayNode();
+        items.addObject().put("id", 1).put("createdAt", "2021-01-01");
+        items.addObject().put("id", 2).put("createdAt", "2021-03-01");
+
+        Condition condition = new Condition(
+                null, ConditionalOperator.AND, List.of(new Condition("createdAt", "GT", "2021-02-01")), null);
+
+        ArrayNode filteredData =
+                filterDataService.filterDataNew(items, new UQIDataFilterParams(condition, null, null, null));
+
+        assertEquals(1, filteredData.size());
+        assertEquals(2, filteredData.get(0).get("id").asInt());
+    }
 }
@@ -30,12 +30,16 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.constants.MongoSpecialDataTypes;
 import com.external.plugins.datatypes.MongoSpecificDataTypes;
 import com.external.plugins.exceptions.MongoPluginError;
 import com.external.plugins.exceptions.MongoPluginErrorMessages;
+import com.external.plugins.utils.JsonNodeBsonWriter;
+import com.external.plugins.utils.MongoCursorDrainer;
 import com.external.plugins.utils.MongoErrorUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mongodb.ConnectionString;
@@ -62,8 +66,6 @@ import org.bson.codecs.ValueCodecProvider;
 import org.bson.codecs.configuration.CodecRegistries;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.reactivestreams.Publisher;
@@ -74,14 +76,11 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -107,6 +106,8 @@ import static com.external.plugins.constants.FieldName.BODY;
 import static com.external.plugins.constants.FieldName.COUNT_QUERY;
 import static com.external.plugins.constants.FieldName.DELETE_QUERY;
 import static com.external.plugins.constants.FieldName.DISTINCT_QUERY;
+import static com.external.plugins.constants.FieldName.DRAIN_CURSOR;
+import static com.external.plugins.constants.FieldName.DRAIN_CURSOR_MAX_DOCUMENTS;
 import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
 import static com.external.plugins.constants.FieldName.FIND_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_SORT;
@@ -215,6 +216,8 @@ public class MongoPlugin extends BasePlugin {
 
     private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new org.bson.codecs.BsonTypeClassMap();
 
+    private static final int DEFAULT_DRAIN_CURSOR_MAX_DOCUMENTS = 10000;
+
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -225,6 +228,12 @@ public class MongoPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public MongoPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * also update the datasource and action configuration for pagination and some minor cleanup of the configuration before execution
@@ -312,10 +321,10 @@ public class MongoPlugin extends BasePlugin {
             ActionExecutionResult result = new ActionExecutionResult();
             String query;
             List<RequestParamDTO> requestParams;
+            MongoDatabase database;
+            final Map<String, Object> formData = actionConfiguration.getFormData();
             try {
-                MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
-
-                final Map<String, Object> formData = actionConfiguration.getFormData();
+                database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
 
                 query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
                 Bson command = Document.parse(query);
@@ -352,100 +361,116 @@ public class MongoPlugin extends BasePlugin {
                     .onErrorMap(
                             MongoSocketWriteException.class, error -> new StaleConnectionException(error.getMessage()))
                     .flatMap(mongoOutput -> {
-                        try {
-                            /*
-                             * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
-                             * processing of DbRef Object.
-                             * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
-                             */
-                            DocumentCodec documentCodec =
-                                    new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
-
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
-
-                            // The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
-
-                            if (BigInteger.ONE.equals(status)) {
-                                result.setIsExecutionSuccess(true);
-                                result.setDataTypes(List.of(
-                                        new ParsedDataType(DisplayDataType.JSON),
-                                        new ParsedDataType(DisplayDataType.RAW)));
-
-                                /*
-                                 For the `findAndModify` command, we don't get the count of modifications made. Instead,
-                                 we either get the modified new value or the pre-modified old value (depending on the
-                                 `new` field in the command. Let's return that value to the user.
-                                */
-                                if (outputJson.has(VALUE)) {
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE)))
-                                                    .toString()));
-                                }
+                        /*
+                         * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
+                         * processing of DbRef Object.
+                         * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
+                         */
+                        DocumentCodec documentCodec = new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
+
+                        // The output is converted straight to JSON nodes, with extended JSON types like
+                        // $oid and $date replaced by plain values
+                        ObjectNode outputJson = JsonNodeBsonWriter.toJsonNode(mongoOutput, documentCodec);
+
+                        // The output json contains the key "ok". This is the status of the command
+                        JsonNode status = outputJson.get("ok");
+                        ArrayNode headerArray = objectMapper.createArrayNode();
+
+                        if (status != null && BigInteger.ONE.equals(status.bigIntegerValue())) {
+                            result.setIsExecutionSuccess(true);
+                            result.setDataTypes(List.of(
+                                    new ParsedDataType(DisplayDataType.JSON), new ParsedDataType(DisplayDataType.RAW)));
 
-                                /*
-                                 The json contains key "cursor" when find command was issued and there are 1 or more
-                                 results. In case there are no results for find, this key is not present in the result json.
-                                */
-                                if (outputJson.has("cursor")) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
-                                }
+                            /*
+                             For the `findAndModify` command, we don't get the count of modifications made. Instead,
+                             we either get the modified new value or the pre-modified old value (depending on the
+                             `new` field in the command. Let's return that value to the user.
+                            */
+                            if (outputJson.has(VALUE)) {
+                                ObjectNode body = objectMapper.createObjectNode();
+                                body.set(VALUE, outputJson.get(VALUE));
+                                result.setBody(body);
+                            }
 
-                                /*
-                                 The json contains key "n" when insert/update command is issued. "n" for update
-                                 signifies the no of documents selected for update. "n" in case of insert signifies the
-                                 number of documents inserted.
-                                */
-                                if (outputJson.has("n")) {
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
+                            /*
+                             The json contains key "cursor" when find command was issued and there are 1 or more
+                             results. In case there are no results for find, this key is not present in the result json.
+                            */
+                            if (outputJson.has("cursor")) {
+                                result.setBody(outputJson.get("cursor").get("firstBatch"));
+                            }
 
-                                /*
-                                 The json key contains key "nModified" in case of update command. This signifies the no of
-                                 documents updated.
-                                */
-                                if (outputJson.has(N_MODIFIED)) {
-                                    JSONObject body =
-                                            new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
+                            /*
+                             The json contains key "n" when insert/update command is issued. "n" for update
+                             signifies the no of documents selected for update. "n" in case of insert signifies the
+                             number of documents inserted.
+                            */
+                            if (outputJson.has("n")) {
+                                ObjectNode body = objectMapper.createObjectNode();
+                                body.set("n", outputJson.get("n"));
+                                result.setBody(body);
+                                headerArray.add(body);
+                            }
 
-                                /*
-                                 The json contains key "values" when distinct command is used.
-                                */
-                                if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(outputJson.getJSONArray(VALUES));
+                            /*
+                             The json key contains key "nModified" in case of update command. This signifies the no of
+                             documents updated.
+                            */
+                            if (outputJson.has(N_MODIFIED)) {
+                                ObjectNode body = objectMapper.createObjectNode();
+                                body.set(N_MODIFIED, outputJson.get(N_MODIFIED));
+                                result.setBody(body);
+                                headerArray.add(body);
+                            }
 
-                                    ObjectNode resultNode = objectMapper.createObjectNode();
+                            /*
+                             The json contains key "values" when distinct command is used.
+                            */
+                            if (outputJson.has(VALUES)) {
+                                // Create a JSON structure with the results stored with a key to abide by the
+                                // Server-Client contract of only sending array of objects in result.
+                                ObjectNode resultNode = objectMapper.createObjectNode();
+                                resultNode.set(VALUES, outputJson.get(VALUES));
+                                result.setBody(resultNode);
+                            }
 
-                                    // Create a JSON structure with the results stored with a key to abide by the
-                                    // Server-Client contract of only sending array of objects in result.
-                                    resultNode.putArray(VALUES).addAll((ArrayNode)
-                                            objectMapper.readTree(outputResult.toString()));
+                            /*
+                            TODO Go through all the possible fields that are returned in the output JSON and add all the fields
+                             that are important to the headerArray.
+                             */
+                        }
 
-                                    result.setBody(objectMapper.readTree(resultNode.toString()));
+                        ObjectNode statusJson = objectMapper.createObjectNode();
+                        statusJson.set("ok", status);
+                        headerArray.add(statusJson);
+                        result.setHeaders(headerArray);
+
+                        /*
+                         Results of find and aggregate commands beyond the first batch are only fetched when asked for,
+                         with getMore commands on the cursor.
+                        */
+                        if (TRUE.equals(result.getIsExecutionSuccess())
+                                && isDrainCursorEnabled(formData)
+                                && MongoCursorDrainer.hasMoreResults(mongoOutput)
+                                && result.getBody() instanceof ArrayNode firstBatch) {
+                            MongoCursorDrainer cursorDrainer = new MongoCursorDrainer(
+                                    database,
+                                    documentCodec,
+                                    getDrainCursorMaxDocuments(formData),
+                                    sharedConfig.getMaxResponseSize());
+                            return cursorDrainer.drain(mongoOutput, firstBatch).map(documents -> {
+                                if (cursorDrainer.isTruncated()) {
+                                    Set<String> messages = new HashSet<>();
+                                    if (result.getMessages() != null) {
+                                        messages.addAll(result.getMessages());
+                                    }
+                                    messages.add(String.format(
+                                            MongoPluginErrorMessages.RESULTS_TRUNCATED_MSG,
+                                            cursorDrainer.getDocumentCount()));
+                                    result.setMessages(messages);
                                 }
-
-                                /*
-                                TODO Go through all the possible fields that are returned in the output JSON and add all the fields
-                                 that are important to the headerArray.
-                                 */
-                            }
-
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
-                        } catch (JsonProcessingException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    MongoPluginError.QUERY_EXECUTION_FAILED,
-                                    MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                    e.getMessage()));
+                                return result;
+                            });
                         }
 
                         return Mono.just(result);
@@ -484,6 +509,26 @@ public class MongoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        private static boolean isDrainCursorEnabled(Map<String, Object> formData) {
+            Object drainCursor =
+                    PluginUtils.getDataValueSafelyFromFormData(formData, DRAIN_CURSOR, OBJECT_TYPE, Boolean.FALSE);
+            if (drainCursor instanceof String) {
+                return Boolean.parseBoolean((String) drainCursor);
+            }
+            return TRUE.equals(drainCursor);
+        }
+
+        private static int getDrainCursorMaxDocuments(Map<String, Object> formData) {
+            Object maxDocuments = PluginUtils.getDataValueSafelyFromFormData(
+                    formData, DRAIN_CURSOR_MAX_DOCUMENTS, OBJECT_TYPE, DEFAULT_DRAIN_CURSOR_MAX_DOCUMENTS);
+            try {
+                int value = Integer.parseInt(String.valueOf(maxDocuments).trim());
+                return value > 0 ? value : DEFAULT_DRAIN_CURSOR_MAX_DOCUMENTS;
+            } catch (NumberFormatException e) {
+                return DEFAULT_DRAIN_CURSOR_MAX_DOCUMENTS;
+            }
+        }
+
         /**
          * This method is part of the pre-processing of the replacement value before the final substitution that
          * happens as part of smart substitution process.
@@ -1055,54 +1100,4 @@ public class MongoPlugin extends BasePlugin {
             }
         }
     }
-
-    private static Object cleanUp(Object object) {
-        if (object instanceof JSONObject) {
-            JSONObject jsonObject = (JSONObject) object;
-            final boolean isSingleKey = jsonObject.keySet().size() == 1;
-
-            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
-                return jsonObject.getBigInteger("$numberLong");
-
-            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
-                return jsonObject.getString("$oid");
-
-            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
-                JSONObject dateJSON = jsonObject.optJSONObject("$date");
-                /*
-                    For dates before Jan 1, 1970 then the output json from MongoDB driver looks like
-                    "$date": {
-                        "$numberLong": "-493033770000"
-                    }
-                    And for dates on or after Jan 1, 1970 the output json from MongoDB driver is readily available and looks like
-                    "$date": "2022-07-01T10:32:37.318Z"
-                */
-                if (dateJSON != null
-                        && dateJSON.keySet().size() == 1
-                        && "$numberLong".equals(dateJSON.keys().next())) {
-                    return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(dateJSON.getLong("$numberLong")));
-                }
-                return DateTimeFormatter.ISO_INSTANT.format(Instant.parse(jsonObject.getString("$date")));
-
-            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
-                return new BigDecimal(jsonObject.getString("$numberDecimal"));
-
-            } else {
-                for (String key : new HashSet<>(jsonObject.keySet())) {
-                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
-                }
-            }
-
-        } else if (object instanceof JSONArray) {
-            Collection<Object> cleaned = new ArrayList<>();
-
-            for (Object child : (JSONArray) object) {
-                cleaned.add(cleanUp(child));
-            }
-
-            return new JSONArray(cleaned);
-        }
-
-        return object;
-    }
 }
@@ -5,6 +5,8 @@ public class FieldName {
     // Common field paths
     public static final String BODY = "body";
     public static final String SMART_SUBSTITUTION = "smartSubstitution";
+    public static final String DRAIN_CURSOR = "drainCursor";
+    public static final String DRAIN_CURSOR_MAX_DOCUMENTS = "drainCursorMaxDocuments";
     public static final String COMMAND = "command";
     public static final String COLLECTION = "collection";
 
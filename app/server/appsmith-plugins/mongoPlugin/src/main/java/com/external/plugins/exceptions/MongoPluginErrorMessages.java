@@ -7,6 +7,9 @@ public class MongoPluginErrorMessages {
 
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG = "Your Mongo query failed to execute.";
 
+    public static final String RESULTS_TRUNCATED_MSG = "The results were truncated to the first %d documents, as"
+            + " fetching more would exceed the maximum number of documents or the maximum response size.";
+
     public static final String CONNECTION_STRING_PARSING_FAILED_ERROR_MSG =
             "The Appsmith server has failed to parse the Mongo connection string URI.";
 
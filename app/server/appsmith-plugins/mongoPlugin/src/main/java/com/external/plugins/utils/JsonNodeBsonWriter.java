@@ -0,0 +1,333 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.AbstractBsonWriter;
+import org.bson.BsonBinary;
+import org.bson.BsonContextType;
+import org.bson.BsonDbPointer;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonWriterSettings;
+import org.bson.Document;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * A {@link org.bson.BsonWriter} that builds a Jackson {@link JsonNode} tree out of the BSON it's given, so that the
+ * result of a command can be turned into the response body in a single pass.
+ * <p>
+ * Values are converted the same way as they would be by writing the result as relaxed extended JSON and cleaning it up:
+ * object ids and dates are written as strings, 64-bit integers and decimals as plain numbers, and the other BSON
+ * specific types as their extended JSON representation, e.g. <code>{"$binary": {"base64": "...", "subType": "00"}}</code>.
+ * Unlike with extended JSON, the order of the fields of each document is preserved.
+ */
+public class JsonNodeBsonWriter extends AbstractBsonWriter {
+
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    private JsonNode root;
+
+    public JsonNodeBsonWriter() {
+        super(new BsonWriterSettings());
+        setContext(new Context(null, BsonContextType.TOP_LEVEL, null));
+    }
+
+    /**
+     * Encodes the document with the given encoder, into a JSON object.
+     */
+    public static ObjectNode toJsonNode(Document document, Encoder<Document> encoder) {
+        JsonNodeBsonWriter writer = new JsonNodeBsonWriter();
+        encoder.encode(writer, document, EncoderContext.builder().build());
+        return (ObjectNode) writer.getRoot();
+    }
+
+    public JsonNode getRoot() {
+        return root;
+    }
+
+    @Override
+    protected Context getContext() {
+        return (Context) super.getContext();
+    }
+
+    @Override
+    protected void doWriteStartDocument() {
+        BsonContextType contextType =
+                getState() == State.SCOPE_DOCUMENT ? BsonContextType.SCOPE_DOCUMENT : BsonContextType.DOCUMENT;
+        setContext(new Context(nodeFactory.objectNode(), contextType, getContext()));
+    }
+
+    @Override
+    protected void doWriteEndDocument() {
+        ObjectNode document = (ObjectNode) getContext().container;
+        setContext(getContext().getParentContext());
+        JsonNode value = getContext().getContextType() == BsonContextType.TOP_LEVEL ? document : cleanUp(document);
+
+        if (getContext().getContextType() == BsonContextType.JAVASCRIPT_WITH_SCOPE) {
+            // The scope document was the last part of the code with scope that was being written
+            ObjectNode codeWithScope = (ObjectNode) getContext().container;
+            codeWithScope.set("$scope", value);
+            setContext(getContext().getParentContext());
+            write(codeWithScope);
+        } else {
+            write(value);
+        }
+    }
+
+    @Override
+    protected void doWriteStartArray() {
+        setContext(new Context(nodeFactory.arrayNode(), BsonContextType.ARRAY, getContext()));
+    }
+
+    @Override
+    protected void doWriteEndArray() {
+        JsonNode value = getContext().container;
+        setContext(getContext().getParentContext());
+        write(value);
+    }
+
+    @Override
+    protected void doWriteBinaryData(BsonBinary value) {
+        ObjectNode binary = nodeFactory.objectNode();
+        binary.putObject("$binary")
+                .put("base64", Base64.getEncoder().encodeToString(value.getData()))
+                .put("subType", String.format("%02X", value.getType()));
+        write(binary);
+    }
+
+    @Override
+    protected void doWriteBoolean(boolean value) {
+        write(nodeFactory.booleanNode(value));
+    }
+
+    @Override
+    protected void doWriteDateTime(long value) {
+        write(nodeFactory.textNode(formatDate(value)));
+    }
+
+    @Override
+    protected void doWriteDBPointer(BsonDbPointer value) {
+        ObjectNode dbPointer = nodeFactory.objectNode();
+        dbPointer.put("$ref", value.getNamespace());
+        dbPointer.put("$id", value.getId().toHexString());
+        write(dbPointer);
+    }
+
+    @Override
+    protected void doWriteDouble(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            ObjectNode numberDouble = nodeFactory.objectNode();
+            numberDouble.put("$numberDouble", Double.toString(value));
+            write(numberDouble);
+        } else {
+            write(numberNode(Double.toString(value)));
+        }
+    }
+
+    @Override
+    protected void doWriteInt32(int value) {
+        write(nodeFactory.numberNode(value));
+    }
+
+    @Override
+    protected void doWriteInt64(long value) {
+        write(integralNode(BigInteger.valueOf(value)));
+    }
+
+    @Override
+    protected void doWriteDecimal128(Decimal128 value) {
+        if (value.isNaN() || value.isInfinite()) {
+            ObjectNode numberDecimal = nodeFactory.objectNode();
+            numberDecimal.put("$numberDecimal", value.toString());
+            write(numberDecimal);
+        } else {
+            // Negative zero can't be converted with bigDecimalValue()
+            write(numberNode(new BigDecimal(value.toString()).toString()));
+        }
+    }
+
+    @Override
+    protected void doWriteJavaScript(String value) {
+        ObjectNode code = nodeFactory.objectNode();
+        code.put("$code", value);
+        write(code);
+    }
+
+    @Override
+    protected void doWriteJavaScriptWithScope(String value) {
+        // The scope document is written next, and added to this node once it ends
+        ObjectNode codeWithScope = nodeFactory.objectNode();
+        codeWithScope.put("$code", value);
+        setContext(new Context(codeWithScope, BsonContextType.JAVASCRIPT_WITH_SCOPE, getContext()));
+    }
+
+    @Override
+    protected void doWriteMaxKey() {
+        ObjectNode maxKey = nodeFactory.objectNode();
+        maxKey.put("$maxKey", 1);
+        write(maxKey);
+    }
+
+    @Override
+    protected void doWriteMinKey() {
+        ObjectNode minKey = nodeFactory.objectNode();
+        minKey.put("$minKey", 1);
+        write(minKey);
+    }
+
+    @Override
+    protected void doWriteNull() {
+        write(nodeFactory.nullNode());
+    }
+
+    @Override
+    protected void doWriteObjectId(ObjectId value) {
+        write(nodeFactory.textNode(value.toHexString()));
+    }
+
+    @Override
+    protected void doWriteRegularExpression(BsonRegularExpression value) {
+        ObjectNode regularExpression = nodeFactory.objectNode();
+        regularExpression
+                .putObject("$regularExpression")
+                .put("pattern", value.getPattern())
+                .put("options", value.getOptions());
+        write(regularExpression);
+    }
+
+    @Override
+    protected void doWriteString(String value) {
+        write(nodeFactory.textNode(value));
+    }
+
+    @Override
+    protected void doWriteSymbol(String value) {
+        ObjectNode symbol = nodeFactory.objectNode();
+        symbol.put("$symbol", value);
+        write(symbol);
+    }
+
+    @Override
+    protected void doWriteTimestamp(BsonTimestamp value) {
+        ObjectNode timestamp = nodeFactory.objectNode();
+        ObjectNode timestampValue = timestamp.putObject("$timestamp");
+        timestampValue.set("t", integralNode(BigInteger.valueOf(Integer.toUnsignedLong(value.getTime()))));
+        timestampValue.set("i", integralNode(BigInteger.valueOf(Integer.toUnsignedLong(value.getInc()))));
+        write(timestamp);
+    }
+
+    @Override
+    protected void doWriteUndefined() {
+        ObjectNode undefined = nodeFactory.objectNode();
+        undefined.put("$undefined", true);
+        write(undefined);
+    }
+
+    @Override
+    public void flush() {}
+
+    private void write(JsonNode value) {
+        Context context = getContext();
+        if (context.getContextType() == BsonContextType.TOP_LEVEL) {
+            root = value;
+        } else if (context.container instanceof ArrayNode array) {
+            array.add(value);
+        } else {
+            ((ObjectNode) context.container).set(getName(), value);
+        }
+    }
+
+    /**
+     * Documents that only hold an extended JSON key, like <code>{"$oid": "..."}</code>, are replaced with the plain
+     * value they wrap.
+     */
+    private static JsonNode cleanUp(ObjectNode document) {
+        if (document.size() != 1) {
+            return document;
+        }
+
+        String key = document.fieldNames().next();
+        JsonNode value = document.get(key);
+        switch (key) {
+            case "$oid":
+                return value.isTextual() ? value : document;
+            case "$numberLong":
+                return value.isTextual() || value.isIntegralNumber()
+                        ? integralNode(new BigInteger(value.asText()))
+                        : document;
+            case "$numberDecimal":
+                return value.isTextual() || value.isNumber() ? numberNode(value.asText()) : document;
+            case "$date":
+                if (value.isIntegralNumber()) {
+                    return nodeFactory.textNode(formatDate(value.longValue()));
+                }
+                return value.isTextual()
+                        ? nodeFactory.textNode(DateTimeFormatter.ISO_INSTANT.format(Instant.parse(value.textValue())))
+                        : document;
+            default:
+                return document;
+        }
+    }
+
+    private static String formatDate(long epochMillis) {
+        return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(epochMillis));
+    }
+
+    /**
+     * Decimal numbers are written with their trailing zeros removed, so that a whole number like <code>1.0</code> is
+     * sent as <code>1</code>.
+     */
+    private static JsonNode numberNode(String number) {
+        if (number.indexOf('.') > 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0) {
+            int end = number.length();
+            while (number.charAt(end - 1) == '0') {
+                end--;
+            }
+            if (number.charAt(end - 1) == '.') {
+                end--;
+            }
+            number = number.substring(0, end);
+        }
+
+        if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0) {
+            return integralNode(new BigInteger(number));
+        }
+        return nodeFactory.numberNode(Double.parseDouble(number));
+    }
+
+    private static JsonNode integralNode(BigInteger number) {
+        if (number.bitLength() < Integer.SIZE) {
+            return nodeFactory.numberNode(number.intValue());
+        }
+        if (number.bitLength() < Long.SIZE) {
+            return nodeFactory.numberNode(number.longValue());
+        }
+        return nodeFactory.numberNode(number);
+    }
+
+    private class Context extends AbstractBsonWriter.Context {
+
+        private final JsonNode container;
+
+        Context(JsonNode container, BsonContextType contextType, Context parentContext) {
+            super(parentContext, contextType);
+            this.container = container;
+        }
+
+        @Override
+        public Context getParentContext() {
+            return (Context) super.getParentContext();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.external.plugins.utils;
+
+import com.appsmith.external.helpers.RowSizeEstimator;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import lombok.Getter;
+import org.bson.Document;
+import org.bson.codecs.Encoder;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Fetches the results of a find or aggregate command beyond the first batch that's returned with the command's output,
+ * by issuing getMore commands on its cursor. Batches are fetched one at a time, and each batch is only requested once
+ * the previous one has been added to the response, so that reading a large collection doesn't run ahead of encoding it.
+ * <p>
+ * Documents are fetched until the cursor is exhausted, or until the maximum number of documents or the maximum
+ * response size is reached. In the latter case, the cursor is killed and the results are truncated.
+ */
+public class MongoCursorDrainer {
+
+    private static final String CURSOR = "cursor";
+    private static final String CURSOR_ID = "id";
+    private static final String NAMESPACE = "ns";
+    private static final String FIRST_BATCH = "firstBatch";
+    private static final String NEXT_BATCH = "nextBatch";
+
+    private final MongoDatabase database;
+
+    private final Encoder<Document> documentEncoder;
+
+    @Getter
+    private final int maxDocuments;
+
+    private final RowSizeEstimator rowSizeEstimator;
+
+    @Getter
+    private int documentCount = 0;
+
+    @Getter
+    private boolean truncated = false;
+
+    public MongoCursorDrainer(
+            MongoDatabase database, Encoder<Document> documentEncoder, int maxDocuments, long maxResponseSize) {
+        this.database = database;
+        this.documentEncoder = documentEncoder;
+        this.maxDocuments = maxDocuments;
+        this.rowSizeEstimator = new RowSizeEstimator(maxResponseSize);
+    }
+
+    /**
+     * Returns true if the command's output holds a cursor that has more results than its first batch.
+     */
+    public static boolean hasMoreResults(Document commandOutput) {
+        Document cursor = commandOutput.get(CURSOR, Document.class);
+        return cursor != null && getCursorId(cursor) != 0;
+    }
+
+    /**
+     * Fetches the rest of the results of the command's cursor, and appends them to the documents of its first batch.
+     * The documents of the first batch beyond the maximum number of documents are removed.
+     *
+     * @param commandOutput The output of the find or aggregate command
+     * @param documents     The first batch of documents, already converted to JSON
+     */
+    public Mono<ArrayNode> drain(Document commandOutput, ArrayNode documents) {
+        Document cursor = commandOutput.get(CURSOR, Document.class);
+
+        // The first batch is already in memory, but counts towards the documents and size that can be fetched
+        for (Document document : cursor.getList(FIRST_BATCH, Document.class, List.of())) {
+            if (documentCount >= maxDocuments) {
+                break;
+            }
+            documentCount++;
+            rowSizeEstimator.addRow(document);
+        }
+        while (documents.size() > documentCount) {
+            documents.remove(documents.size() - 1);
+        }
+
+        String namespace = cursor.getString(NAMESPACE);
+        String collection = namespace.substring(namespace.indexOf('.') + 1);
+
+        return getMore(collection, getCursorId(cursor), documents).thenReturn(documents);
+    }
+
+    private Mono<Void> getMore(String collection, long cursorId, ArrayNode documents) {
+        if (cursorId == 0) {
+            return Mono.empty();
+        }
+
+        if (documentCount >= maxDocuments || rowSizeEstimator.isMaxSizeExceeded()) {
+            return killCursor(collection, cursorId);
+        }
+
+        Document getMoreCommand = new Document("getMore", cursorId)
+                .append("collection", collection)
+                // Documents beyond the maximum count would only be dropped
+                .append("batchSize", maxDocuments - documentCount);
+
+        return Mono.from(database.runCommand(getMoreCommand)).flatMap(output -> {
+            Document cursor = output.get(CURSOR, Document.class);
+            for (Document document : cursor.getList(NEXT_BATCH, Document.class, List.of())) {
+                if (documentCount >= maxDocuments || rowSizeEstimator.addRow(document)) {
+                    return killCursor(collection, getCursorId(cursor));
+                }
+
+                documents.add(JsonNodeBsonWriter.toJsonNode(document, documentEncoder));
+                documentCount++;
+            }
+
+            return getMore(collection, getCursorId(cursor), documents);
+        });
+    }
+
+    private Mono<Void> killCursor(String collection, long cursorId) {
+        truncated = true;
+        if (cursorId == 0) {
+            return Mono.empty();
+        }
+
+        Document killCursorsCommand = new Document("killCursors", collection).append("cursors", List.of(cursorId));
+        return Mono.from(database.runCommand(killCursorsCommand)).then();
+    }
+
+    private static long getCursorId(Document cursor) {
+        Object cursorId = cursor.get(CURSOR_ID);
+        return cursorId instanceof Number number ? number.longValue() : 0;
+    }
+}
@@ -64,7 +64,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  */
 @Testcontainers
 public class MongoPluginFormsTest {
-    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor();
+    MongoPlugin.MongoPluginExecutor pluginExecutor =
+            new MongoPlugin.MongoPluginExecutor(new MongoTestDBContainerManager.MockSharedConfig());
 
     private static String address;
     private static Integer port;
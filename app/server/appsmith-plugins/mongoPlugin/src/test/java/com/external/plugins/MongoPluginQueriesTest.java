@@ -12,6 +12,7 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
+import com.external.plugins.exceptions.MongoPluginErrorMessages;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -30,6 +31,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.constants.DisplayDataType.JSON;
@@ -47,6 +49,8 @@ import static com.external.plugins.constants.FieldName.DELETE_LIMIT;
 import static com.external.plugins.constants.FieldName.DELETE_QUERY;
 import static com.external.plugins.constants.FieldName.DISTINCT_KEY;
 import static com.external.plugins.constants.FieldName.DISTINCT_QUERY;
+import static com.external.plugins.constants.FieldName.DRAIN_CURSOR;
+import static com.external.plugins.constants.FieldName.DRAIN_CURSOR_MAX_DOCUMENTS;
 import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
 import static com.external.plugins.constants.FieldName.FIND_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_SORT;
@@ -58,6 +62,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -65,7 +70,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  */
 @Testcontainers
 public class MongoPluginQueriesTest {
-    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor();
+    MongoPlugin.MongoPluginExecutor pluginExecutor =
+            new MongoPlugin.MongoPluginExecutor(new MongoTestDBContainerManager.MockSharedConfig());
 
     private static String address;
     private static Integer port;
@@ -776,4 +782,83 @@ public class MongoPluginQueriesTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testFindWithDrainCursor_fetchesResultsBeyondFirstBatch() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, DRAIN_CURSOR, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(configMap, BODY, "{ find: \"users\", batchSize: 1 }");
+        actionConfiguration.setFormData(configMap);
+
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(3, ((ArrayNode) result.getBody()).size());
+                    assertNull(result.getMessages());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindWithDrainCursor_moreResultsThanMaxDocuments_truncatesResults() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, DRAIN_CURSOR, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, DRAIN_CURSOR_MAX_DOCUMENTS, "2");
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(configMap, BODY, "{ find: \"users\", batchSize: 1 }");
+        actionConfiguration.setFormData(configMap);
+
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(2, ((ArrayNode) result.getBody()).size());
+                    assertEquals(1, result.getMessages().size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindWithDrainCursor_firstBatchLargerThanMaxDocuments_truncatesFirstBatch() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, DRAIN_CURSOR, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, DRAIN_CURSOR_MAX_DOCUMENTS, "1");
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(configMap, BODY, "{ find: \"users\", batchSize: 2 }");
+        actionConfiguration.setFormData(configMap);
+
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(1, ((ArrayNode) result.getBody()).size());
+                    assertEquals(
+                            Set.of(String.format(MongoPluginErrorMessages.RESULTS_TRUNCATED_MSG, 1)),
+                            result.getMessages());
+                })
+                .verifyComplete();
+    }
 }
@@ -1,5 +1,6 @@
 package com.external.plugins;
 
+import com.appsmith.external.services.SharedConfig;
 import com.mongodb.DBRef;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
@@ -19,6 +20,25 @@ import java.util.List;
 import java.util.Map;
 
 public class MongoTestDBContainerManager {
+
+    public static class MockSharedConfig implements SharedConfig {
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 5 * 1024 * 1024;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
     public static final String MONGO_DOCKER_HUB_CONTAINER = "mongo:4.4";
 
     public static MongoDBContainer getMongoDBForTest() {
@@ -0,0 +1,114 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mongodb.DBRef;
+import com.mongodb.MongoClientSettings;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Binary;
+import org.bson.types.Code;
+import org.bson.types.CodeWithScope;
+import org.bson.types.Decimal128;
+import org.bson.types.MinKey;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JsonNodeBsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final DocumentCodec documentCodec = new DocumentCodec(MongoClientSettings.getDefaultCodecRegistry());
+
+    private ObjectNode toJsonNode(Document document) {
+        return JsonNodeBsonWriter.toJsonNode(document, documentCodec);
+    }
+
+    @Test
+    public void testToJsonNode_numbers() throws Exception {
+        Document document = new Document()
+                .append("int", 5)
+                .append("long", 5L)
+                .append("bigLong", 12345678901234L)
+                .append("wholeDouble", 2.0)
+                .append("double", 1.5)
+                .append("largeDouble", 1.0e20)
+                .append("nan", Double.NaN)
+                .append("decimal", new Decimal128(new BigDecimal("123.4500")))
+                .append("wholeDecimal", new Decimal128(new BigDecimal("5")))
+                .append("decimalNaN", Decimal128.NaN);
+
+        assertEquals(
+                objectMapper.readTree("{\"int\": 5, \"long\": 5, \"bigLong\": 12345678901234, \"wholeDouble\": 2, "
+                        + "\"double\": 1.5, \"largeDouble\": 1.0E20, \"nan\": {\"$numberDouble\": \"NaN\"}, "
+                        + "\"decimal\": 123.45, \"wholeDecimal\": 5, \"decimalNaN\": {\"$numberDecimal\": \"NaN\"}}"),
+                toJsonNode(document));
+    }
+
+    @Test
+    public void testToJsonNode_bsonTypes() throws Exception {
+        ObjectId objectId = new ObjectId("64b7f0c2a1b2c3d4e5f60718");
+        Document document = new Document()
+                .append("_id", objectId)
+                .append("date", new Date(1656671557318L))
+                .append("dateBefore1970", new Date(-493033770000L))
+                .append("binary", new Binary(new byte[] {1, 2, 3}))
+                .append("timestamp", new BsonTimestamp(1600000000, 3))
+                .append("code", new Code("f()"))
+                .append("codeWithScope", new CodeWithScope("f()", new Document("x", 1)))
+                .append("minKey", new MinKey())
+                .append("dbRef", new DBRef("users", objectId))
+                .append("list", List.of(1, "a", new Document("date", new Date(0))));
+
+        assertEquals(
+                objectMapper.readTree("{\"_id\": \"64b7f0c2a1b2c3d4e5f60718\", "
+                        + "\"date\": \"2022-07-01T10:32:37.318Z\", \"dateBefore1970\": \"1954-05-18T14:10:30Z\", "
+                        + "\"binary\": {\"$binary\": {\"base64\": \"AQID\", \"subType\": \"00\"}}, "
+                        + "\"timestamp\": {\"$timestamp\": {\"t\": 1600000000, \"i\": 3}}, "
+                        + "\"code\": {\"$code\": \"f()\"}, "
+                        + "\"codeWithScope\": {\"$code\": \"f()\", \"$scope\": {\"x\": 1}}, "
+                        + "\"minKey\": {\"$minKey\": 1}, "
+                        + "\"dbRef\": {\"$ref\": \"users\", \"$id\": \"64b7f0c2a1b2c3d4e5f60718\"}, "
+                        + "\"list\": [1, \"a\", {\"date\": \"1970-01-01T00:00:00Z\"}]}"),
+                toJsonNode(document));
+    }
+
+    @Test
+    public void testToJsonNode_extendedJsonDocuments_replacedWithValue() throws Exception {
+        Document document = new Document()
+                .append("oid", new Document("$oid", "64b7f0c2a1b2c3d4e5f60718"))
+                .append("numberLong", new Document("$numberLong", "42"))
+                .append("date", new Document("$date", "2020-01-01T00:00:00.000Z"))
+                .append("notExtendedJson", new Document("$oid", "64b7f0c2a1b2c3d4e5f60718").append("name", "a"));
+
+        assertEquals(
+                objectMapper.readTree("{\"oid\": \"64b7f0c2a1b2c3d4e5f60718\", \"numberLong\": 42, "
+                        + "\"date\": \"2020-01-01T00:00:00Z\", "
+                        + "\"notExtendedJson\": {\"$oid\": \"64b7f0c2a1b2c3d4e5f60718\", \"name\": \"a\"}}"),
+                toJsonNode(document));
+    }
+
+    @Test
+    public void testToJsonNode_preservesFieldOrder() {
+        Document document =
+                new Document().append("z", 1).append("b", 2).append("a", new Document("y", 1).append("c", 2));
+
+        ObjectNode jsonNode = toJsonNode(document);
+
+        Iterator<String> fieldNames = jsonNode.fieldNames();
+        assertEquals("z", fieldNames.next());
+        assertEquals("b", fieldNames.next());
+        assertEquals("a", fieldNames.next());
+        JsonNode nested = jsonNode.get("a");
+        assertEquals("y", nested.fieldNames().next());
+    }
+}
@@ -7,6 +7,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.JsonRowEncoder;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
@@ -24,6 +25,7 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.MssqlErrorMessages;
 import com.external.plugins.exceptions.MssqlPluginError;
 import com.external.plugins.utils.MssqlDatasourceUtils;
@@ -113,6 +115,12 @@ public class MssqlPlugin extends BasePlugin {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
+        private final SharedConfig sharedConfig;
+
+        public MssqlPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * to use PreparedStatement (if configured) which requires the variable substitution, etc. to happen in a particular format
@@ -197,7 +205,7 @@ public class MssqlPlugin extends BasePlugin {
                         Statement statement = null;
                         PreparedStatement preparedQuery = null;
                         ResultSet resultSet = null;
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        JsonRowEncoder rowEncoder = new JsonRowEncoder(objectMapper, sharedConfig.getMaxResponseSize());
                         final List<String> columnsList = new ArrayList<>();
 
                         try {
@@ -272,7 +280,7 @@ public class MssqlPlugin extends BasePlugin {
                             }
 
                             MssqlExecuteUtils.populateRowsAndColumns(
-                                    rowsList,
+                                    rowEncoder,
                                     columnsList,
                                     resultSet,
                                     isResultSet,
@@ -297,7 +305,7 @@ public class MssqlPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rowEncoder.getRows());
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug("In the MssqlPlugin, got action execution result");
@@ -1,5 +1,8 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.JsonRowEncoder;
+import com.external.plugins.exceptions.MssqlPluginError;
 import org.apache.commons.lang.ObjectUtils;
 
 import java.sql.Connection;
@@ -66,7 +69,7 @@ public class MssqlExecuteUtils {
     }
 
     public static void populateRowsAndColumns(
-            List<Map<String, Object>> rowsList,
+            JsonRowEncoder rowEncoder,
             List<String> columnsList,
             ResultSet resultSet,
             boolean isResultSet,
@@ -80,7 +83,7 @@ public class MssqlExecuteUtils {
                     ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                     : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-            rowsList.add(Map.of("affectedRows", updateCount));
+            rowEncoder.addRow(Map.of("affectedRows", updateCount));
         } else {
             ResultSetMetaData metaData = resultSet.getMetaData();
             int colCount = metaData.getColumnCount();
@@ -124,7 +127,10 @@ public class MssqlExecuteUtils {
                     row.put(metaData.getColumnName(i), value);
                 }
 
-                rowsList.add(row);
+                if (rowEncoder.addRow(row)) {
+                    throw new AppsmithPluginException(MssqlPluginError.RESPONSE_SIZE_TOO_LARGE, (float)
+                            (rowEncoder.getMaxResponseSize() / (1024 * 1024)));
+                }
             }
         }
     }
@@ -6,6 +6,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.JsonRowEncoder;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.helpers.SSHTunnelContext;
 import com.appsmith.external.helpers.SSHUtils;
@@ -27,12 +28,14 @@ import com.appsmith.external.models.SSHConnection;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.datatypes.MySQLSpecificDataTypes;
 import com.external.plugins.exceptions.MySQLErrorMessages;
 import com.external.plugins.exceptions.MySQLPluginError;
 import com.external.utils.MySqlDatasourceUtils;
 import com.external.utils.MySqlErrorUtils;
 import com.external.utils.QueryUtils;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.R2dbcBadGrammarException;
@@ -170,6 +173,12 @@ public class MySqlPlugin extends BasePlugin {
         private static final int PREPARED_STATEMENT_INDEX = 0;
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public MySqlPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * to use PreparedStatement (if configured) which requires the variable substitution, etc. to happen in a particular format
@@ -315,7 +324,7 @@ public class MySqlPlugin extends BasePlugin {
 
             boolean isSelectOrShowOrDescQuery = getIsSelectOrShowOrDescQuery(finalQuery);
 
-            final List<Map<String, Object>> rowsList = new ArrayList<>(50);
+            final JsonRowEncoder rowEncoder = new JsonRowEncoder(objectMapper, sharedConfig.getMaxResponseSize());
             final List<String> columnsList = new ArrayList<>();
             Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
             String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(finalQuery) : finalQuery;
@@ -350,11 +359,15 @@ public class MySqlPlugin extends BasePlugin {
                                                     CONNECTION_VALIDITY_CHECK_FAILED_ERROR_MSG));
                                         });
 
-                                Mono<List<Map<String, Object>>> resultMono;
+                                Mono<ArrayNode> resultMono;
                                 if (isSelectOrShowOrDescQuery) {
                                     resultMono = resultFlux
                                             .flatMap(result -> result.map((row, meta) -> {
-                                                rowsList.add(getRow(row, meta));
+                                                if (rowEncoder.addRow(getRow(row, meta))) {
+                                                    throw new AppsmithPluginException(
+                                                            MySQLPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                            (float) (rowEncoder.getMaxResponseSize() / (1024 * 1024)));
+                                                }
 
                                                 if (columnsList.isEmpty()) {
                                                     meta.getColumnMetadatas().stream()
@@ -365,23 +378,23 @@ public class MySqlPlugin extends BasePlugin {
                                                 return result;
                                             }))
                                             .collectList()
-                                            .thenReturn(rowsList);
+                                            .thenReturn(rowEncoder.getRows());
                                 } else {
                                     resultMono = resultFlux
                                             .flatMap(Result::getRowsUpdated)
                                             .collectList()
                                             .map(list -> list.get(list.size() - 1))
                                             .map(rowsUpdated -> {
-                                                rowsList.add(Map.of(
+                                                rowEncoder.addRow(Map.of(
                                                         "affectedRows", ObjectUtils.defaultIfNull(rowsUpdated, 0)));
-                                                return rowsList;
+                                                return rowEncoder.getRows();
                                             });
                                 }
 
                                 return resultMono
                                         .map(res -> {
                                             ActionExecutionResult result = new ActionExecutionResult();
-                                            result.setBody(objectMapper.valueToTree(rowsList));
+                                            result.setBody(res);
                                             result.setMessages(populateHintMessages(columnsList));
                                             result.setIsExecutionSuccess(true);
                                             log.debug("In the MySqlPlugin, got action execution result");
@@ -6,6 +6,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.JsonRowEncoder;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
@@ -20,6 +21,7 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.OracleErrorMessages;
 import com.external.plugins.exceptions.OraclePluginError;
 import com.external.plugins.utils.OracleDatasourceUtils;
@@ -92,6 +94,12 @@ public class OraclePlugin extends BasePlugin {
     public static class OraclePluginExecutor implements SmartSubstitutionInterface, PluginExecutor<HikariDataSource> {
         public static final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public OraclePluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         @Override
         public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             try {
@@ -229,7 +237,7 @@ public class OraclePlugin extends BasePlugin {
                                             : new StaleConnectionException(e.getMessage()));
                         }
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        JsonRowEncoder rowEncoder = new JsonRowEncoder(objectMapper, sharedConfig.getMaxResponseSize());
                         final List<String> columnsList = new ArrayList<>();
 
                         Statement statement = null;
@@ -266,7 +274,7 @@ public class OraclePlugin extends BasePlugin {
                             }
 
                             populateRowsAndColumns(
-                                    rowsList,
+                                    rowEncoder,
                                     columnsList,
                                     resultSet,
                                     isResultSet,
@@ -291,7 +299,7 @@ public class OraclePlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rowEncoder.getRows());
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug(Thread.currentThread().getName()
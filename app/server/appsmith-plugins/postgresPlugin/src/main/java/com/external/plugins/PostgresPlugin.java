@@ -8,6 +8,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.JsonRowEncoder;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
@@ -87,7 +88,6 @@ import static com.appsmith.external.constants.PluginConstants.PluginName.POSTGRE
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
@@ -129,8 +129,6 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
-
     public static final Long DEFAULT_POSTGRES_PORT = 5432L;
 
     private static int MAX_SIZE_SUPPORTED;
@@ -350,7 +348,7 @@ public class PostgresPlugin extends BasePlugin {
                                             : new StaleConnectionException(e.getMessage()));
                         }
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        JsonRowEncoder rowEncoder = new JsonRowEncoder(objectMapper, MAX_SIZE_SUPPORTED);
                         final List<String> columnsList = new ArrayList<>();
 
                         Statement statement = null;
@@ -406,7 +404,7 @@ public class PostgresPlugin extends BasePlugin {
                                         ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                                         : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-                                rowsList.add(Map.of("affectedRows", updateCount));
+                                rowEncoder.addRow(Map.of("affectedRows", updateCount));
 
                             } else {
 
@@ -414,25 +412,8 @@ public class PostgresPlugin extends BasePlugin {
                                 int colCount = metaData.getColumnCount();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
-                                int iterator = 0;
                                 while (resultSet.next()) {
 
-                                    // Only check the data size at low frequency to ensure the performance is not
-                                    // impacted heavily
-                                    if (iterator % HEAVY_OP_FREQUENCY == 0) {
-                                        int objectSize = sizeof(rowsList);
-
-                                        if (objectSize > MAX_SIZE_SUPPORTED) {
-                                            log.debug(
-                                                    "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
-                                                    MAX_SIZE_SUPPORTED,
-                                                    objectSize);
-                                            return Mono.error(new AppsmithPluginException(
-                                                    PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
-                                                    (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                        }
-                                    }
-
                                     // Use `LinkedHashMap` here so that the column ordering is preserved in the
                                     // response.
                                     Map<String, Object> row = new LinkedHashMap<>(colCount);
@@ -492,9 +473,14 @@ public class PostgresPlugin extends BasePlugin {
                                         row.put(metaData.getColumnName(i), value);
                                     }
 
-                                    rowsList.add(row);
-
-                                    iterator++;
+                                    if (rowEncoder.addRow(row)) {
+                                        log.debug(
+                                                "[PostgresPlugin] Result size greater than maximum supported size of {} bytes",
+                                                MAX_SIZE_SUPPORTED);
+                                        return Mono.error(new AppsmithPluginException(
+                                                PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
+                                    }
                                 }
                             }
 
@@ -560,7 +546,7 @@ public class PostgresPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rowEncoder.getRows());
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug("In the PostgresPlugin, got action execution result");
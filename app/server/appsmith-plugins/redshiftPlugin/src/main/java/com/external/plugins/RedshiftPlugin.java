@@ -3,6 +3,7 @@ package com.external.plugins;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.JsonRowEncoder;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -13,6 +14,7 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.RedshiftErrorMessages;
 import com.external.plugins.exceptions.RedshiftPluginError;
 import com.external.utils.RedshiftDatasourceUtils;
@@ -71,6 +73,12 @@ public class RedshiftPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public RedshiftPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         private static final String TABLES_QUERY =
                 "select a.attname                                                      as name,\n"
                         + "       t1.typname                                                     as column_type,\n"
@@ -237,7 +245,8 @@ public class RedshiftPlugin extends BasePlugin {
                          */
                         printConnectionPoolStatus(connectionPool, false);
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        int maxResponseSize = sharedConfig.getMaxResponseSize();
+                        JsonRowEncoder rowEncoder = new JsonRowEncoder(objectMapper, maxResponseSize);
                         final List<String> columnsList = new ArrayList<>();
                         Statement statement = null;
                         ResultSet resultSet = null;
@@ -253,10 +262,14 @@ public class RedshiftPlugin extends BasePlugin {
 
                                 while (resultSet.next()) {
                                     Map<String, Object> row = getRow(resultSet);
-                                    rowsList.add(row);
+                                    if (rowEncoder.addRow(row)) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                RedshiftPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                (float) (maxResponseSize / (1024 * 1024))));
+                                    }
                                 }
                             } else {
-                                rowsList.add(Map.of(
+                                rowEncoder.addRow(Map.of(
                                         "affectedRows", ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)));
                             }
                         } catch (SQLException e) {
@@ -291,7 +304,7 @@ public class RedshiftPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rowEncoder.getRows());
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug("In RedshiftPlugin, got action execution result");
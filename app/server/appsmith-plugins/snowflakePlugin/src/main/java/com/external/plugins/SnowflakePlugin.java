@@ -14,6 +14,7 @@ import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.KeyPairAuth;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.utils.SnowflakeKeyUtils;
 import com.external.utils.SqlUtils;
@@ -65,6 +66,12 @@ public class SnowflakePlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public SnowflakePluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(
                 HikariDataSource connection,
@@ -114,7 +121,7 @@ public class SnowflakePlugin extends BasePlugin {
 
                         try {
                             // Connection staleness is checked as part of this method call.
-                            return getRowsFromQueryResult(connectionFromPool, query);
+                            return getRowsFromQueryResult(connectionFromPool, query, sharedConfig.getMaxResponseSize());
                         } catch (AppsmithPluginException | StaleConnectionException e) {
                             throw e;
                         } finally {
@@ -2,6 +2,7 @@ package com.external.utils;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.RowSizeEstimator;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.plugins.exceptions.SnowflakePluginError;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +33,23 @@ public class ExecutionUtils {
      */
     public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query)
             throws AppsmithPluginException, StaleConnectionException {
+        return getRowsFromQueryResult(connection, query, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Execute query and return the resulting table as a list of rows, as long as the rows fit in the maximum supported
+     * response size.
+     *
+     * @param connection      - Connection object to execute query.
+     * @param query           - Query string
+     * @param maxResponseSize - Maximum supported size of the rows, in bytes
+     * @return List of rows from the response table.
+     * @throws AppsmithPluginException
+     * @throws StaleConnectionException
+     */
+    public static List<Map<String, Object>> getRowsFromQueryResult(
+            Connection connection, String query, int maxResponseSize)
+            throws AppsmithPluginException, StaleConnectionException {
         List<Map<String, Object>> rowsList = new ArrayList<>();
         ResultSet resultSet = null;
         Statement statement = null;
@@ -48,6 +66,7 @@ public class ExecutionUtils {
             ResultSetMetaData metaData = resultSet.getMetaData();
             int colCount = metaData.getColumnCount();
 
+            RowSizeEstimator rowSizeEstimator = new RowSizeEstimator(maxResponseSize);
             while (resultSet.next()) {
                 // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
                 Map<String, Object> row = new LinkedHashMap<>(colCount);
@@ -57,6 +76,11 @@ public class ExecutionUtils {
                     row.put(metaData.getColumnName(i), value);
                 }
                 rowsList.add(row);
+
+                if (rowSizeEstimator.addRow(row)) {
+                    throw new AppsmithPluginException(
+                            SnowflakePluginError.RESPONSE_SIZE_TOO_LARGE, (float) (maxResponseSize / (1024 * 1024)));
+                }
             }
         } catch (SQLException e) {
             if (e instanceof SnowflakeReauthenticationRequest) {
@@ -10,6 +10,7 @@ import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.KeyPairAuth;
 import com.appsmith.external.models.Property;
 import com.appsmith.external.models.UploadedFile;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.plugins.exceptions.SnowflakePluginError;
 import com.external.utils.ExecutionUtils;
@@ -52,7 +53,26 @@ import static org.mockito.Mockito.*;
 @Slf4j
 public class SnowflakePluginTest {
 
-    SnowflakePlugin.SnowflakePluginExecutor pluginExecutor = new SnowflakePlugin.SnowflakePluginExecutor();
+    public static class MockSharedConfig implements SharedConfig {
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 5 * 1024 * 1024;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
+    SnowflakePlugin.SnowflakePluginExecutor pluginExecutor =
+            new SnowflakePlugin.SnowflakePluginExecutor(new MockSharedConfig());
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
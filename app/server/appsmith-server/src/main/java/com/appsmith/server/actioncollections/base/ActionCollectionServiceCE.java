@@ -26,6 +26,8 @@ public interface ActionCollectionServiceCE extends CrudService<ActionCollection,
 
     Flux<ActionCollection> saveAll(List<ActionCollection> collections);
 
+    Mono<Void> publishActionCollections(String applicationId, AclPermission permission);
+
     Mono<ActionCollection> findByIdAndBranchName(String id, String branchName);
 
     Flux<ActionCollectionDTO> getPopulatedActionCollectionsByViewMode(
@@ -140,6 +140,15 @@ public class ActionCollectionServiceCEImpl extends BaseService<ActionCollectionR
         return repository.saveAll(collections);
     }
 
+    /**
+     * Publishes all the collections of the application at once by setting publishedCollection=unpublishedCollection,
+     * except for the ones that have been deleted in edit mode.
+     */
+    @Override
+    public Mono<Void> publishActionCollections(String applicationId, AclPermission permission) {
+        return repository.publishActionCollections(applicationId, permission).then();
+    }
+
     @Override
     public Mono<ActionCollection> findByIdAndBranchName(String id, String branchName) {
         // TODO sanitise response for default IDs
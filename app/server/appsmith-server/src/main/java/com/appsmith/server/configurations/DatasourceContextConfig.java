@@ -0,0 +1,20 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+public class DatasourceContextConfig {
+
+    // Datasource contexts that have not been used for this long are destroyed to release their connections
+    @Value("${appsmith.datasource.context.idle-timeout-minutes:30}")
+    private long idleTimeoutMinutes;
+
+    // Maximum number of datasource contexts kept alive on this node, the least recently used ones are destroyed beyond
+    @Value("${appsmith.datasource.context.max-contexts:500}")
+    private int maxContexts;
+}
@@ -3,6 +3,7 @@ package com.appsmith.server.configurations;
 import com.appsmith.external.annotations.documenttype.DocumentTypeMapper;
 import com.appsmith.external.annotations.encryption.EncryptionMongoEventListener;
 import com.appsmith.external.models.AuthenticationDTO;
+import com.appsmith.server.configurations.mongo.PolicyTokensMongoEventListener;
 import com.appsmith.server.configurations.mongo.SoftDeleteMongoRepositoryFactoryBean;
 import com.appsmith.server.converters.StringToInstantConverter;
 import com.appsmith.server.repositories.BaseRepositoryImpl;
@@ -269,6 +270,11 @@ public class MongoConfig {
         return new EncryptionMongoEventListener();
     }
 
+    @Bean
+    public PolicyTokensMongoEventListener policyTokensMongoEventListener() {
+        return new PolicyTokensMongoEventListener();
+    }
+
     @Bean
     public ReactiveTransactionManager reactiveTransactionManager(ReactiveMongoDatabaseFactory factory) {
         return new ReactiveMongoTransactionManager(factory);
@@ -0,0 +1,26 @@
+package com.appsmith.server.configurations.mongo;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.server.helpers.ce.PolicyUtil;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+
+/**
+ * Writes the policy tokens of the domains along with their policies, every time they're saved or inserted through the
+ * Mongo template. See {@link PolicyUtil#POLICY_TOKENS}.
+ */
+public class PolicyTokensMongoEventListener extends AbstractMongoEventListener<BaseDomain> {
+
+    // This lifecycle event is after the domain has been converted into a document, and right before the document is
+    // saved into the DB
+    @Override
+    public void onBeforeSave(BeforeSaveEvent<BaseDomain> event) {
+        Document document = event.getDocument();
+        if (document != null && event.getSource().getPolicies() != null) {
+            document.put(
+                    PolicyUtil.POLICY_TOKENS,
+                    PolicyUtil.getPolicyTokens(event.getSource().getPolicies()));
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.appsmith.server.constants.Url;
 import com.appsmith.server.domains.ApplicationMode;
 import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
 import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.helpers.ViewModeSnapshotCache;
 import com.appsmith.server.services.ConsolidatedAPIService;
 import com.fasterxml.jackson.annotation.JsonView;
 import io.micrometer.observation.ObservationRegistry;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Mono;
 
@@ -30,11 +32,15 @@ import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.CON
 public class ConsolidatedAPIController {
     private final ConsolidatedAPIService consolidatedAPIService;
     private final ObservationRegistry observationRegistry;
+    private final ViewModeSnapshotCache viewModeSnapshotCache;
 
     public ConsolidatedAPIController(
-            ConsolidatedAPIService consolidatedAPIService, ObservationRegistry observationRegistry) {
+            ConsolidatedAPIService consolidatedAPIService,
+            ObservationRegistry observationRegistry,
+            ViewModeSnapshotCache viewModeSnapshotCache) {
         this.consolidatedAPIService = consolidatedAPIService;
         this.observationRegistry = observationRegistry;
+        this.viewModeSnapshotCache = viewModeSnapshotCache;
     }
 
     /**
@@ -67,12 +73,18 @@ public class ConsolidatedAPIController {
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Same as the edit mode endpoint, for the view mode. The response has an ETag, so that the client can skip
+     * downloading it again when nothing has changed since the last page load, by sending the ETag back in the
+     * If-None-Match header, in which case an empty 304 Not Modified response is returned instead.
+     */
     @JsonView(Views.Public.class)
     @GetMapping("/view")
     public Mono<ResponseDTO<ConsolidatedAPIResponseDTO>> getAllDataForFirstPageLoadForViewMode(
             @RequestParam(required = false) String applicationId,
             @RequestParam(required = false) String defaultPageId,
-            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
+            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+            ServerWebExchange exchange) {
         log.debug(
                 "Going to fetch consolidatedAPI response for applicationId: {}, defaultPageId: {}, branchName: {}, "
                         + "mode: {}",
@@ -85,6 +97,8 @@ public class ConsolidatedAPIController {
                 .getConsolidatedInfoForPageLoad(defaultPageId, applicationId, branchName, ApplicationMode.PUBLISHED)
                 .map(consolidatedAPIResponseDTO ->
                         new ResponseDTO<>(HttpStatus.OK.value(), consolidatedAPIResponseDTO, null))
+                // Sets the ETag of the response, and the 304 status if the client already has the same response
+                .filter(responseDTO -> !exchange.checkNotModified(viewModeSnapshotCache.getETag(responseDTO.getData())))
                 .tag("pageId", Objects.toString(defaultPageId))
                 .tag("applicationId", Objects.toString(applicationId))
                 .tag("branchName", Objects.toString(branchName))
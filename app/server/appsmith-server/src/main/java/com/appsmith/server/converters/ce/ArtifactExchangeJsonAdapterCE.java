@@ -9,10 +9,16 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ArtifactExchangeJsonAdapterCE implements JsonDeserializer<ArtifactExchangeJson> {
     private static final String FIELD_NAME = "artifactJsonType";
@@ -34,11 +40,45 @@ public class ArtifactExchangeJsonAdapterCE implements JsonDeserializer<ArtifactE
             throws JsonParseException {
         JsonObject jsonObject = json.getAsJsonObject();
         JsonElement artifactJsonTypeElement = jsonObject.get(FIELD_NAME);
-        Class<? extends ArtifactExchangeJson> instanceClass = ApplicationJson.class;
-        if (artifactJsonTypeElement != null) {
-            ArtifactType artifactType = ArtifactType.valueOf(artifactJsonTypeElement.getAsString());
-            instanceClass = artifactTypeRegistry.getOrDefault(artifactType, ApplicationJson.class);
+        String artifactJsonType = artifactJsonTypeElement == null ? null : artifactJsonTypeElement.getAsString();
+        return gson.fromJson(json, getArtifactExchangeJsonClass(artifactJsonType));
+    }
+
+    /**
+     * Deserializes the JSON without building a tree out of it first, which takes several times the size of the file.
+     * The type of artifact is read in a first pass that skips over all the other fields, and the JSON is then read a
+     * second time straight into the class for that type.
+     *
+     * @param readerSupplier Supplies a new reader over the JSON for each pass
+     */
+    public ArtifactExchangeJson deserialize(Supplier<Reader> readerSupplier) throws JsonParseException {
+        Class<? extends ArtifactExchangeJson> instanceClass;
+        try (JsonReader jsonReader = gson.newJsonReader(readerSupplier.get())) {
+            instanceClass = getArtifactExchangeJsonClass(readArtifactJsonType(jsonReader));
+        } catch (IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+
+        return gson.fromJson(readerSupplier.get(), instanceClass);
+    }
+
+    private static String readArtifactJsonType(JsonReader jsonReader) throws IOException {
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            if (FIELD_NAME.equals(jsonReader.nextName()) && jsonReader.peek() == JsonToken.STRING) {
+                // The type is the first field of exported files, so the rest of the file is usually not read at all
+                return jsonReader.nextString();
+            }
+            jsonReader.skipValue();
+        }
+        return null;
+    }
+
+    private Class<? extends ArtifactExchangeJson> getArtifactExchangeJsonClass(String artifactJsonType) {
+        if (artifactJsonType == null) {
+            return ApplicationJson.class;
         }
-        return gson.fromJson(json, instanceClass);
+        ArtifactType artifactType = ArtifactType.valueOf(artifactJsonType);
+        return artifactTypeRegistry.getOrDefault(artifactType, ApplicationJson.class);
     }
 }
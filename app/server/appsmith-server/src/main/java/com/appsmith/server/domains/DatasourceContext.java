@@ -5,6 +5,7 @@ import lombok.Setter;
 import lombok.ToString;
 
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Getter
 @Setter
@@ -14,7 +15,17 @@ public class DatasourceContext<T> {
 
     Instant creationTime;
 
+    // Used to find the contexts that have not been used for a while, so that their connections can be released
+    volatile Instant lastAccessTime;
+
+    // Number of tasks using the connection right now, during which the context must not be evicted
+    final AtomicInteger inFlightTaskCount = new AtomicInteger();
+
+    // Plugin of the datasource, required to destroy the connection when the context is evicted
+    String pluginId;
+
     public DatasourceContext() {
         creationTime = Instant.now();
+        lastAccessTime = creationTime;
     }
 }
@@ -15,6 +15,7 @@ import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.dtos.ProductAlertResponseDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.dtos.UserProfileDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -82,4 +83,8 @@ public class ConsolidatedAPIResponseCE_DTO {
 
     /* v1/datasources/mock */
     ResponseDTO<List<MockDataSet>> mockDatasources;
+
+    /* Hash of the view mode data of the application, when it comes from a snapshot, used for the ETag of the response */
+    @JsonIgnore
+    String applicationDataHash;
 }
@@ -20,6 +20,7 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.exports.exportable.ExportableService;
 import com.appsmith.server.exports.internal.artifactbased.ArtifactBasedExportService;
+import com.appsmith.server.helpers.JsonDataBufferUtils;
 import com.appsmith.server.migrations.JsonSchemaVersions;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
@@ -27,6 +28,7 @@ import com.appsmith.server.services.WorkspaceService;
 import com.google.gson.Gson;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -288,10 +290,8 @@ public class ExportServiceCEImpl implements ExportServiceCE {
     public Mono<ExportFileDTO> getArtifactFile(String artifactId, String branchName, ArtifactType artifactType) {
         return exportByArtifactIdAndBranchName(artifactId, branchName, artifactType)
                 .doOnNext(artifactExchangeJson -> artifactExchangeJson.setModifiedResources(null))
-                .map(artifactExchangeJson -> {
-                    String stringifiedFile = gson.toJson(artifactExchangeJson);
+                .flatMap(artifactExchangeJson -> {
                     String artifactName = artifactExchangeJson.getArtifact().getName();
-                    Object jsonObject = gson.fromJson(stringifiedFile, Object.class);
                     HttpHeaders responseHeaders = new HttpHeaders();
                     ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
                             .filename(artifactName + ".json", StandardCharsets.UTF_8)
@@ -299,10 +299,17 @@ public class ExportServiceCEImpl implements ExportServiceCE {
                     responseHeaders.setContentDisposition(contentDisposition);
                     responseHeaders.setContentType(MediaType.APPLICATION_JSON);
 
-                    ExportFileDTO exportFileDTO = new ExportFileDTO();
-                    exportFileDTO.setArtifactResource(jsonObject);
-                    exportFileDTO.setHttpHeaders(responseHeaders);
-                    return exportFileDTO;
+                    // The file is written to the response as it's serialized, instead of being held as a string. The
+                    // first buffer is written before the response is, so that it fails with an error status when the
+                    // artifact can't be serialized at all.
+                    return JsonDataBufferUtils.toJsonDataBuffersAfterFirst(
+                                    gson, artifactExchangeJson, DefaultDataBufferFactory.sharedInstance)
+                            .map(jsonDataBuffers -> {
+                                ExportFileDTO exportFileDTO = new ExportFileDTO();
+                                exportFileDTO.setArtifactResource(jsonDataBuffers);
+                                exportFileDTO.setHttpHeaders(responseHeaders);
+                                return exportFileDTO;
+                            });
                 });
     }
 
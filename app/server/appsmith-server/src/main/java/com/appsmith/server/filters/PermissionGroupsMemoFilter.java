@@ -0,0 +1,24 @@
+package com.appsmith.server.filters;
+
+import com.appsmith.server.helpers.PermissionGroupsMemo;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Gives every request its own {@link PermissionGroupsMemo}, so that the permission groups of the current user are
+ * resolved once per request rather than once per repository call.
+ */
+@Component
+public class PermissionGroupsMemoFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        PermissionGroupsMemo permissionGroupsMemo = new PermissionGroupsMemo();
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(PermissionGroupsMemo.CONTEXT_KEY, permissionGroupsMemo))
+                .doFinally(signalType -> permissionGroupsMemo.recordMetrics());
+    }
+}
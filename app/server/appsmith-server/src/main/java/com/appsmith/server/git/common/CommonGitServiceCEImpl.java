@@ -73,6 +73,7 @@ import org.eclipse.jgit.api.errors.TransportException;
 import org.eclipse.jgit.errors.RepositoryNotFoundException;
 import org.eclipse.jgit.lib.BranchTrackingStatus;
 import org.eclipse.jgit.util.StringUtils;
+import org.springframework.beans.BeanUtils;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
@@ -80,6 +81,7 @@ import reactor.core.Exceptions;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple3;
 
 import java.io.IOException;
@@ -88,6 +90,7 @@ import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -146,6 +149,22 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
     private static final String ORIGIN = "origin/";
     private static final String REMOTE_NAME_REPLACEMENT = "";
 
+    private static final int MAX_CACHED_STATUSES = 1000;
+
+    /**
+     * Status of a branch as of the last commit of the branch and the content of the branched artifact it was
+     * computed for
+     */
+    private record CachedGitStatus(String contentHash, String commitId, GitStatusDTO status) {}
+
+    // Statuses last computed for each branched artifact, from the least to the most recently used
+    private final Map<String, CachedGitStatus> statusCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedGitStatus> eldest) {
+            return size() > MAX_CACHED_STATUSES;
+        }
+    };
+
     private Mono<Boolean> addFileLock(String defaultArtifactId, String commandName, boolean isLockRequired) {
         if (!Boolean.TRUE.equals(isLockRequired)) {
             return Mono.just(Boolean.TRUE);
@@ -313,50 +332,54 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                             .thenReturn(artifactExchangeJson);
                 })
                 .flatMap(artifactExchangeJson -> {
-                    try {
-                        GitAuth gitAuth = gitData.getGitAuth();
-                        Mono<String> fetchRemoteMono;
-
-                        if (compareRemote) {
-                            fetchRemoteMono = Mono.defer(() -> gitExecutor.fetchRemote(
-                                            repoSuffix,
-                                            gitAuth.getPublicKey(),
-                                            gitAuth.getPrivateKey(),
-                                            false,
-                                            branchName,
-                                            false))
-                                    .onErrorResume(error -> Mono.error(new AppsmithException(
-                                            AppsmithError.GIT_GENERIC_ERROR, error.getMessage())));
-                        } else {
-                            fetchRemoteMono = Mono.just("ignored");
-                        }
+                    GitAuth gitAuth = gitData.getGitAuth();
+                    Mono<String> fetchRemoteMono;
 
-                        return Mono.zip(
-                                commonGitFileUtils.saveArtifactToLocalRepo(
-                                        repoSuffix, artifactExchangeJson, finalBranchName),
-                                fetchRemoteMono);
-                    } catch (IOException | GitAPIException e) {
-                        return Mono.error(
-                                new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", e.getMessage()));
+                    if (compareRemote) {
+                        fetchRemoteMono = Mono.defer(() -> gitExecutor.fetchRemote(
+                                        repoSuffix,
+                                        gitAuth.getPublicKey(),
+                                        gitAuth.getPrivateKey(),
+                                        false,
+                                        branchName,
+                                        false))
+                                .onErrorResume(error -> Mono.error(
+                                        new AppsmithException(AppsmithError.GIT_GENERIC_ERROR, error.getMessage())));
+                    } else {
+                        fetchRemoteMono = Mono.just("ignored");
                     }
-                })
-                .flatMap(tuple -> {
-                    return gitExecutor.getStatus(tuple.getT1(), finalBranchName).flatMap(gitStatusDTO -> {
-                        // Remove any files which are copied by hard resetting the repo
-                        try {
-                            return gitExecutor
-                                    .resetToLastCommit(repoSuffix, branchName)
-                                    .thenReturn(gitStatusDTO);
-                        } catch (Exception e) {
-                            log.error(
-                                    "failed to reset to last commit for application: {}, branch: {}",
-                                    defaultArtifactId,
-                                    branchName,
-                                    e);
-                            return Mono.error(
-                                    new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", e.getMessage()));
-                        }
-                    });
+
+                    Mono<String> contentHashMono = Mono.fromCallable(
+                                    () -> commonGitFileUtils.getArtifactContentHash(artifactExchangeJson))
+                            .subscribeOn(Schedulers.boundedElastic());
+
+                    return Mono.zip(
+                                    contentHashMono,
+                                    gitExecutor.getBranchCommitId(repoSuffix, finalBranchName),
+                                    fetchRemoteMono)
+                            .flatMap(tuple -> {
+                                String contentHash = tuple.getT1();
+                                String commitId = tuple.getT2();
+                                GitStatusDTO cachedStatus =
+                                        getCachedStatus(branchedArtifact.getId(), contentHash, commitId);
+                                if (cachedStatus != null) {
+                                    // Only the remote tracking status may have changed
+                                    return gitExecutor
+                                            .getBranchTrackingStatus(
+                                                    gitExecutor.createRepoPath(repoSuffix), finalBranchName)
+                                            .map(trackingStatus -> copyStatus(cachedStatus, trackingStatus))
+                                            .switchIfEmpty(Mono.fromSupplier(() -> copyStatus(cachedStatus, null)));
+                                }
+
+                                return saveArtifactAndGetStatus(
+                                                artifactExchangeJson,
+                                                repoSuffix,
+                                                branchName,
+                                                finalBranchName,
+                                                defaultArtifactId)
+                                        .doOnNext(gitStatusDTO -> cacheStatus(
+                                                branchedArtifact.getId(), contentHash, commitId, gitStatusDTO));
+                            });
                 })
                 .flatMap(gitStatusDTO -> {
                     // release the lock if there's a successful response
@@ -395,6 +418,93 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Saves the artifact to the local repo to get the status of the branch from git, and then resets the repo to the
+     * last commit to remove the saved changes.
+     */
+    private Mono<GitStatusDTO> saveArtifactAndGetStatus(
+            ArtifactExchangeJson artifactExchangeJson,
+            Path repoSuffix,
+            String branchName,
+            String finalBranchName,
+            String defaultArtifactId) {
+        Mono<Path> repoPathMono;
+        try {
+            repoPathMono =
+                    commonGitFileUtils.saveArtifactToLocalRepo(repoSuffix, artifactExchangeJson, finalBranchName);
+        } catch (IOException | GitAPIException e) {
+            return Mono.error(new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", e.getMessage()));
+        }
+
+        return repoPathMono.flatMap(repoPath -> {
+            return gitExecutor.getStatus(repoPath, finalBranchName).flatMap(gitStatusDTO -> {
+                // Remove any files which are copied by hard resetting the repo
+                try {
+                    return gitExecutor.resetToLastCommit(repoSuffix, branchName).thenReturn(gitStatusDTO);
+                } catch (Exception e) {
+                    log.error(
+                            "failed to reset to last commit for application: {}, branch: {}",
+                            defaultArtifactId,
+                            branchName,
+                            e);
+                    return Mono.error(new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", e.getMessage()));
+                }
+            });
+        });
+    }
+
+    /**
+     * Returns the status last computed for the branched artifact, if neither the artifact's content nor the last
+     * commit of the branch have changed since.
+     */
+    private GitStatusDTO getCachedStatus(String branchedArtifactId, String contentHash, String commitId) {
+        CachedGitStatus cachedGitStatus;
+        synchronized (statusCache) {
+            cachedGitStatus = statusCache.get(branchedArtifactId);
+        }
+
+        if (cachedGitStatus != null
+                && cachedGitStatus.contentHash().equals(contentHash)
+                && cachedGitStatus.commitId().equals(commitId)) {
+            return cachedGitStatus.status();
+        }
+        return null;
+    }
+
+    private void cacheStatus(String branchedArtifactId, String contentHash, String commitId, GitStatusDTO status) {
+        if (StringUtils.isEmptyOrNull(commitId)) {
+            return;
+        }
+
+        GitStatusDTO statusCopy = new GitStatusDTO();
+        BeanUtils.copyProperties(status, statusCopy);
+        CachedGitStatus cachedGitStatus = new CachedGitStatus(contentHash, commitId, statusCopy);
+        synchronized (statusCache) {
+            statusCache.put(branchedArtifactId, cachedGitStatus);
+        }
+    }
+
+    /**
+     * Copies the status with the current remote tracking details, the same way as the git executor sets them.
+     *
+     * @param status         cached status
+     * @param trackingStatus current tracking status of the branch, null if the branch doesn't track a remote branch
+     */
+    private static GitStatusDTO copyStatus(GitStatusDTO status, BranchTrackingStatus trackingStatus) {
+        GitStatusDTO copy = new GitStatusDTO();
+        BeanUtils.copyProperties(status, copy);
+        if (trackingStatus != null) {
+            copy.setAheadCount(trackingStatus.getAheadCount());
+            copy.setBehindCount(trackingStatus.getBehindCount());
+            copy.setRemoteBranch(trackingStatus.getRemoteTrackingBranch());
+        } else {
+            copy.setAheadCount(0);
+            copy.setBehindCount(0);
+            copy.setRemoteBranch("untracked");
+        }
+        return copy;
+    }
+
     /**
      * Get the status of the mentioned branch
      *
@@ -32,6 +32,7 @@ public class CommonGitFileUtils extends CommonGitFileUtilsCE {
                 fileOperations,
                 analyticsService,
                 sessionUserService,
+                gson,
                 jsonSchemaVersions);
     }
 }
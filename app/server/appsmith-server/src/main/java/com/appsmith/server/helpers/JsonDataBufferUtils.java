@@ -0,0 +1,180 @@
+package com.appsmith.server.helpers;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+public class JsonDataBufferUtils {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Serializes the object to JSON with Gson, as a stream of data buffers that can be written to a response as they
+     * are produced, instead of first writing the whole JSON into a string.
+     * <p>
+     * Serialization runs on a bounded elastic thread, which waits for the subscriber to request more buffers before
+     * filling the next one, so that only a few buffers are held in memory at a time however large the object is.
+     *
+     * @param gson          Gson instance used to serialize the object
+     * @param src           Object to serialize
+     * @param bufferFactory Factory for the buffers the JSON is written to
+     * @return A flux of buffers holding the UTF-8 encoded JSON
+     */
+    public static Flux<DataBuffer> toJsonDataBuffers(Gson gson, Object src, DataBufferFactory bufferFactory) {
+        return Flux.<DataBuffer>create(sink -> {
+                    DataBufferSinkOutputStream outputStream = new DataBufferSinkOutputStream(sink, bufferFactory);
+                    try {
+                        JsonWriter jsonWriter =
+                                gson.newJsonWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+                        gson.toJson(src, src.getClass(), jsonWriter);
+                        // Only closed once the JSON is complete, as closing emits the JSON written so far
+                        jsonWriter.close();
+                    } catch (IOException | RuntimeException e) {
+                        outputStream.releaseBuffer();
+                        if (sink.isCancelled()) {
+                            log.debug("Stopped writing JSON as the subscriber cancelled");
+                        } else {
+                            sink.error(e instanceof JsonIOException && e.getCause() != null ? e.getCause() : e);
+                        }
+                        return;
+                    }
+                    sink.complete();
+                })
+                // Requests must not be scheduled on the writing thread, as it's blocked while waiting for them
+                .subscribeOn(Schedulers.boundedElastic(), false);
+    }
+
+    /**
+     * Serializes the object to JSON like {@link #toJsonDataBuffers(Gson, Object, DataBufferFactory)}, but only emits
+     * the buffers once the first one has been written. An object that fails to serialize before that fails the mono,
+     * so that the error can be handled before a response is committed with a success status.
+     * <p>
+     * An error after the first buffer still fails the flux of buffers, which aborts a response that is already being
+     * written.
+     *
+     * @param gson          Gson instance used to serialize the object
+     * @param src           Object to serialize
+     * @param bufferFactory Factory for the buffers the JSON is written to
+     * @return A mono of the flux of buffers holding the UTF-8 encoded JSON, starting with the buffer already written
+     */
+    public static Mono<Flux<DataBuffer>> toJsonDataBuffersAfterFirst(
+            Gson gson, Object src, DataBufferFactory bufferFactory) {
+        return toJsonDataBuffers(gson, src, bufferFactory)
+                .switchOnFirst(
+                        (firstSignal, dataBuffers) -> firstSignal.hasError()
+                                ? Mono.error(firstSignal.getThrowable())
+                                : Mono.just(dataBuffers),
+                        false)
+                .singleOrEmpty();
+    }
+
+    /**
+     * An output stream that fills data buffers and emits them to the sink once they are full, blocking while the
+     * subscriber has no outstanding demand.
+     */
+    private static class DataBufferSinkOutputStream extends OutputStream {
+
+        private final FluxSink<DataBuffer> sink;
+
+        private final DataBufferFactory bufferFactory;
+
+        private final Object demandLock = new Object();
+
+        private DataBuffer buffer;
+
+        DataBufferSinkOutputStream(FluxSink<DataBuffer> sink, DataBufferFactory bufferFactory) {
+            this.sink = sink;
+            this.bufferFactory = bufferFactory;
+            sink.onRequest(n -> signalDemand());
+            sink.onDispose(this::signalDemand);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            getBuffer().write((byte) b);
+            emitIfFull();
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                DataBuffer dataBuffer = getBuffer();
+                int count = Math.min(length, dataBuffer.writableByteCount());
+                dataBuffer.write(bytes, offset, count);
+                offset += count;
+                length -= count;
+                emitIfFull();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (buffer != null && buffer.readableByteCount() > 0) {
+                emit();
+            } else {
+                releaseBuffer();
+            }
+        }
+
+        void releaseBuffer() {
+            if (buffer != null) {
+                DataBufferUtils.release(buffer);
+                buffer = null;
+            }
+        }
+
+        private DataBuffer getBuffer() {
+            if (buffer == null) {
+                buffer = bufferFactory.allocateBuffer(BUFFER_SIZE);
+            }
+            return buffer;
+        }
+
+        private void emitIfFull() throws IOException {
+            if (buffer.writableByteCount() == 0) {
+                emit();
+            }
+        }
+
+        private void emit() throws IOException {
+            synchronized (demandLock) {
+                while (sink.requestedFromDownstream() == 0 && !sink.isCancelled()) {
+                    try {
+                        demandLock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted while waiting for demand");
+                    }
+                }
+            }
+
+            if (sink.isCancelled()) {
+                throw new IOException("Subscriber cancelled");
+            }
+
+            sink.next(buffer);
+            buffer = null;
+        }
+
+        private void signalDemand() {
+            synchronized (demandLock) {
+                demandLock.notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.appsmith.server.helpers;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Remembers the permission groups of the users resolved during a single request, so that the repository calls made
+ * by the request look them up from the cache only once, instead of once per query. The memo is put in the reactive
+ * context of every web request by {@link com.appsmith.server.filters.PermissionGroupsMemoFilter}. Outside of web
+ * requests, like in migrations, there is no memo and the permission groups are looked up every time.
+ * <p>
+ * The memo is cleared whenever the cached permission groups of a user are evicted during the request, so that the
+ * rest of the request sees the groups that were just assigned or unassigned.
+ * <p>
+ * Once the request is done, its lookups are counted as <code>appsmith.permission.groups.lookups</code>, tagged with
+ * whether they were served from the memo or resolved from the cache, and the number of lookups served from the memo is
+ * recorded as <code>appsmith.permission.groups.memoized.per.request</code>.
+ */
+public class PermissionGroupsMemo {
+
+    public static final String CONTEXT_KEY = PermissionGroupsMemo.class.getName();
+
+    private static final String LOOKUPS_METRIC = "appsmith.permission.groups.lookups";
+
+    private static final DistributionSummary MEMOIZED_PER_REQUEST = DistributionSummary.builder(
+                    "appsmith.permission.groups.memoized.per.request")
+            .description("Number of permission group lookups served from the memo of a request")
+            .register(Metrics.globalRegistry);
+
+    private final Map<String, Mono<Set<String>>> permissionGroups = new ConcurrentHashMap<>();
+
+    private final AtomicInteger lookupCount = new AtomicInteger();
+
+    private final AtomicInteger resolvedCount = new AtomicInteger();
+
+    /**
+     * Returns the permission groups memoized for the key in the current request, resolving them first if they aren't
+     * memoized yet. Every subscriber gets its own copy of the set, which it's free to modify.
+     *
+     * @param key          Identifies the user and the kind of permission groups being resolved
+     * @param resolveMono  Resolves the permission groups, from the cache or the database
+     */
+    public static Mono<Set<String>> getOrResolve(String key, Mono<Set<String>> resolveMono) {
+        return Mono.deferContextual(context -> context.<PermissionGroupsMemo>getOrEmpty(CONTEXT_KEY)
+                .map(memo -> memo.get(key, resolveMono))
+                .orElse(resolveMono));
+    }
+
+    /**
+     * Forgets the permission groups memoized in the current request, if any. The groups of all the users are
+     * forgotten, because those of the anonymous user are included in the groups of every other user.
+     */
+    public static Mono<Void> clear() {
+        return Mono.deferContextual(context -> {
+            context.<PermissionGroupsMemo>getOrEmpty(CONTEXT_KEY).ifPresent(memo -> memo.permissionGroups.clear());
+            return Mono.empty();
+        });
+    }
+
+    private Mono<Set<String>> get(String key, Mono<Set<String>> resolveMono) {
+        lookupCount.incrementAndGet();
+        // Errors and empty results aren't memoized, so that they're resolved again by the next lookup
+        return permissionGroups
+                .computeIfAbsent(key, ignored -> resolveMono
+                        .doOnSubscribe(subscription -> resolvedCount.incrementAndGet())
+                        .cache(value -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO))
+                .map(HashSet::new);
+    }
+
+    public int getLookupCount() {
+        return lookupCount.get();
+    }
+
+    public int getMemoizedCount() {
+        return lookupCount.get() - resolvedCount.get();
+    }
+
+    public void recordMetrics() {
+        int memoizedCount = getMemoizedCount();
+        Metrics.counter(LOOKUPS_METRIC, "result", "memoized").increment(memoizedCount);
+        Metrics.counter(LOOKUPS_METRIC, "result", "resolved").increment(resolvedCount.get());
+        MEMOIZED_PER_REQUEST.record(memoizedCount);
+    }
+}
@@ -0,0 +1,171 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.views.Views;
+import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the view mode data of the pages of the applications, as returned by the consolidated API, so that the next
+ * page loads of the same published application can reuse it instead of fetching it again.
+ * <p>
+ * The snapshots are kept in memory, in a least recently used order, up to {@link #MAX_SNAPSHOTS_SIZE} bytes of the JSON
+ * of their data. The snapshots of an application are dropped with {@link #invalidate(String)} once all of the writes of
+ * a publish have completed, and a snapshot whose data started loading before an invalidation is never kept, since it
+ * may hold a mix of the data before and after the publish.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewModeSnapshotCache {
+
+    /**
+     * The total size of the JSON of the data of the snapshots that are kept, at most. The snapshots take more memory
+     * than their JSON, but the JSON size grows with it, and is known already from computing the hash of the data.
+     */
+    static final long MAX_SNAPSHOTS_SIZE = 64L * 1024 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    // Ordered from the least to the most recently used snapshot, and guarded by its own lock
+    private final Map<Key, Snapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long snapshotsSize = 0;
+
+    private long invalidationCount = 0;
+
+    /**
+     * Identifies the view mode data of a page, as it was when the application was last saved, and as seen by users
+     * with the given permission groups.
+     */
+    public record Key(
+            String applicationId, String defaultPageId, Instant applicationUpdatedAt, Set<String> permissionGroups) {}
+
+    /**
+     * The view mode data of a page, with the hash of its JSON, which is part of the ETag of the responses that include
+     * the data.
+     */
+    public record Snapshot(ConsolidatedAPIResponseDTO applicationData, String hash, long size) {}
+
+    /**
+     * Returns the number of invalidations so far, which has to be read before the data of a snapshot starts loading,
+     * and passed to {@link #put(Key, ConsolidatedAPIResponseDTO, long)} once it's loaded.
+     */
+    public long getInvalidationCount() {
+        synchronized (snapshots) {
+            return invalidationCount;
+        }
+    }
+
+    public Snapshot get(Key key) {
+        synchronized (snapshots) {
+            return snapshots.get(key);
+        }
+    }
+
+    /**
+     * Keeps the data as the snapshot for the key, unless an application has been invalidated since the data started
+     * loading, and returns the snapshot either way.
+     */
+    public Snapshot put(Key key, ConsolidatedAPIResponseDTO applicationData, long invalidationCountBeforeLoad) {
+        Snapshot snapshot = createSnapshot(applicationData);
+        if (snapshot.hash() == null || snapshot.size() > MAX_SNAPSHOTS_SIZE) {
+            return snapshot;
+        }
+
+        synchronized (snapshots) {
+            if (invalidationCount != invalidationCountBeforeLoad) {
+                return snapshot;
+            }
+
+            Snapshot replacedSnapshot = snapshots.put(key, snapshot);
+            if (replacedSnapshot != null) {
+                snapshotsSize -= replacedSnapshot.size();
+            }
+            snapshotsSize += snapshot.size();
+
+            Iterator<Snapshot> leastRecentlyUsedSnapshots = snapshots.values().iterator();
+            while (snapshotsSize > MAX_SNAPSHOTS_SIZE) {
+                snapshotsSize -= leastRecentlyUsedSnapshots.next().size();
+                leastRecentlyUsedSnapshots.remove();
+            }
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Drops all the snapshots of the application, and makes sure that the snapshots that are still loading are not
+     * kept.
+     */
+    public void invalidate(String applicationId) {
+        synchronized (snapshots) {
+            invalidationCount++;
+
+            Iterator<Map.Entry<Key, Snapshot>> entries = snapshots.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<Key, Snapshot> entry = entries.next();
+                if (entry.getKey().applicationId().equals(applicationId)) {
+                    snapshotsSize -= entry.getValue().size();
+                    entries.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the ETag of a view mode response. When the data of the application comes from a snapshot, the ETag is
+     * made of the hash of the snapshot, so that only the data of the response that is specific to the user, like the
+     * user profile and the feature flags, has to be serialized again. Otherwise, the whole response is serialized.
+     */
+    public String getETag(ConsolidatedAPIResponseDTO response) {
+        if (response.getApplicationDataHash() == null) {
+            String responseHash = hash(response);
+            return responseHash == null ? null : "\"" + responseHash + "\"";
+        }
+
+        ConsolidatedAPIResponseDTO userData = new ConsolidatedAPIResponseDTO();
+        userData.setUserProfile(response.getUserProfile());
+        userData.setFeatureFlags(response.getFeatureFlags());
+        userData.setTenantConfig(response.getTenantConfig());
+        userData.setProductAlert(response.getProductAlert());
+
+        String userDataHash = hash(userData);
+        return userDataHash == null ? null : "\"" + response.getApplicationDataHash() + "-" + userDataHash + "\"";
+    }
+
+    private Snapshot createSnapshot(ConsolidatedAPIResponseDTO applicationData) {
+        try {
+            byte[] json = objectMapper.writerWithView(Views.Public.class).writeValueAsBytes(applicationData);
+            return new Snapshot(applicationData, digest(json), json.length);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            log.error("Error while computing the hash of the view mode data of a page", e);
+            return new Snapshot(applicationData, null, 0);
+        }
+    }
+
+    private String hash(ConsolidatedAPIResponseDTO data) {
+        try {
+            return digest(objectMapper.writerWithView(Views.Public.class).writeValueAsBytes(data));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            log.error("Error while computing the hash of the consolidated API response", e);
+            return null;
+        }
+    }
+
+    private static String digest(byte[] json) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+    }
+}
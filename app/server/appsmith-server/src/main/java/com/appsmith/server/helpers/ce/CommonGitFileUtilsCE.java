@@ -36,9 +36,17 @@ import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 
 import static com.appsmith.external.git.constants.ce.GitConstantsCE.GitCommandConstantsCE.CHECKOUT_BRANCH;
@@ -59,6 +67,7 @@ public class CommonGitFileUtilsCE {
     private final FileOperations fileOperations;
     private final AnalyticsService analyticsService;
     private final SessionUserService sessionUserService;
+    private final Gson gson;
 
     // Number of seconds after lock file is stale
     @Value("${appsmith.index.lock.file.time}")
@@ -155,6 +164,27 @@ public class CommonGitFileUtilsCE {
         return saveArtifactToLocalRepo(baseRepoSuffix, applicationJson, branchName);
     }
 
+    /**
+     * Computes a hash of the artifact's content, which includes the resources that have been modified since the last
+     * commit. Two artifacts with the same hash are saved to the same files in the local repo, so this can be used to
+     * tell whether the artifact has changed since it was last saved, without saving it again.
+     *
+     * @param artifactExchangeJson artifact exported for version control
+     * @return SHA-256 hash of the artifact's JSON, in hexadecimal
+     */
+    public String getArtifactContentHash(ArtifactExchangeJson artifactExchangeJson) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (Writer writer = new OutputStreamWriter(
+                    new DigestOutputStream(OutputStream.nullOutputStream(), digest), StandardCharsets.UTF_8)) {
+                gson.toJson(artifactExchangeJson, artifactExchangeJson.getClass(), writer);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
     /**
      * Method to convert artifact resources to the structure which can be serialised by appsmith-git module for
      * serialisation
@@ -2,6 +2,10 @@ package com.appsmith.server.helpers.ce;
 
 import com.appsmith.external.models.Policy;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -10,6 +14,40 @@ import static java.lang.Boolean.TRUE;
 
 public class PolicyUtil {
 
+    /**
+     * Field of the documents that holds their policies flattened into one token per permission and permission group,
+     * as built by {@link #getPolicyToken}, so that the permission checks of queries can use an index on this field
+     * instead of matching the elements of the policies. It's only ever derived from the policies when a document is
+     * written, and isn't mapped to the domains, so updates that change the policies in the database directly must
+     * change the tokens along with them.
+     */
+    public static final String POLICY_TOKENS = "policyTokens";
+
+    public static String getPolicyToken(String permission, String permissionGroupId) {
+        return permission + ":" + permissionGroupId;
+    }
+
+    public static List<String> getPolicyTokens(Set<Policy> policies) {
+        Set<String> policyTokens = new LinkedHashSet<>();
+        for (Policy policy : policies) {
+            if (policy.getPermissionGroups() == null) {
+                continue;
+            }
+            for (String permissionGroupId : policy.getPermissionGroups()) {
+                policyTokens.add(getPolicyToken(policy.getPermission(), permissionGroupId));
+            }
+        }
+        return new ArrayList<>(policyTokens);
+    }
+
+    public static List<String> getPolicyTokens(String permission, Set<String> permissionGroupIds) {
+        List<String> policyTokens = new ArrayList<>(permissionGroupIds.size());
+        for (String permissionGroupId : permissionGroupIds) {
+            policyTokens.add(getPolicyToken(permission, permissionGroupId));
+        }
+        return policyTokens;
+    }
+
     public static boolean isPermissionPresentInPolicies(
             String permission, Set<Policy> policies, Set<String> userPermissionGroupIds) {
 
@@ -32,4 +70,35 @@ public class PolicyUtil {
                 .map(permissionGroup -> TRUE)
                 .orElse(FALSE);
     }
+
+    /**
+     * Returns the permissions given by the policies to any of the permission groups of the user. Each policy is
+     * checked by looking up the smaller of its permission groups and the permission groups of the user in the other
+     * one, since a user can be a member of many more groups than the few that each policy is given to, or the other
+     * way around, like for the groups of an instance administrator.
+     */
+    public static Set<String> getUserPermissions(Set<Policy> policies, Set<String> userPermissionGroupIds) {
+        Set<String> permissions = new HashSet<>();
+        for (Policy policy : policies) {
+            Set<String> policyPermissionGroupIds = policy.getPermissionGroups();
+            if (policyPermissionGroupIds == null || policyPermissionGroupIds.isEmpty()) {
+                continue;
+            }
+            if (policyPermissionGroupIds.size() <= userPermissionGroupIds.size()
+                    ? containsAny(userPermissionGroupIds, policyPermissionGroupIds)
+                    : containsAny(policyPermissionGroupIds, userPermissionGroupIds)) {
+                permissions.add(policy.getPermission());
+            }
+        }
+        return permissions;
+    }
+
+    private static boolean containsAny(Set<String> set, Set<String> candidates) {
+        for (String candidate : candidates) {
+            if (set.contains(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -40,6 +40,14 @@ public final class BridgeQuery<T extends BaseDomain> extends Criteria {
         return notEqual(key, value.name());
     }
 
+    /**
+     * Matches the documents in which the two fields don't have the same value, comparing embedded documents as a whole.
+     */
+    public BridgeQuery<T> fieldsNotEqual(@NonNull String key, @NonNull String otherKey) {
+        checks.add(Criteria.where("$expr").is(new Document("$ne", List.of("$" + key, "$" + otherKey))));
+        return this;
+    }
+
     public BridgeQuery<T> equalIgnoreCase(@NonNull String key, @NonNull String value) {
         checks.add(Criteria.where(key).regex("^" + Pattern.quote(value) + "$", "i"));
         return this;
@@ -29,11 +29,10 @@ import com.appsmith.server.repositories.PermissionGroupRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.WorkspaceService;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.multipart.Part;
@@ -42,7 +41,13 @@ import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -64,7 +69,6 @@ public class ImportServiceCEImpl implements ImportServiceCE {
     private final AnalyticsService analyticsService;
     private final ImportableService<Plugin> pluginImportableService;
     private final ImportableService<Datasource> datasourceImportableService;
-    private final GsonBuilder gsonBuilder;
     private final ArtifactExchangeJsonAdapter artifactExchangeJsonAdapter;
     private final JsonSchemaMigration jsonSchemaMigration;
     private final DryOperationRepository dryOperationRepository;
@@ -112,18 +116,41 @@ public class ImportServiceCEImpl implements ImportServiceCE {
             return Mono.error(new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE));
         }
 
-        return DataBufferUtils.join(filePart.content())
-                .map(dataBuffer -> {
-                    byte[] data = new byte[dataBuffer.readableByteCount()];
-                    dataBuffer.read(data);
-                    DataBufferUtils.release(dataBuffer);
-                    return new String(data);
-                })
-                .map(jsonString -> {
-                    gsonBuilder.registerTypeAdapter(ArtifactExchangeJson.class, artifactExchangeJsonAdapter);
-                    Gson gson = gsonBuilder.create();
-                    return gson.fromJson(jsonString, ArtifactExchangeJson.class);
-                });
+        // The file is parsed straight from the buffers it was received in, instead of copying it into a single buffer,
+        // then into a string, and then into a tree of JSON elements before it's deserialized
+        return filePart.content().collectList().map(dataBuffers -> {
+            List<Integer> readPositions =
+                    dataBuffers.stream().map(DataBuffer::readPosition).toList();
+            try {
+                return artifactExchangeJsonAdapter.deserialize(() -> getReader(dataBuffers, readPositions));
+            } finally {
+                dataBuffers.forEach(DataBufferUtils::release);
+            }
+        });
+    }
+
+    /**
+     * Returns a reader over the content of the buffers, starting from the given read positions, so that the buffers
+     * can be read through more than once.
+     */
+    private static Reader getReader(List<DataBuffer> dataBuffers, List<Integer> readPositions) {
+        Enumeration<InputStream> inputStreams = new Enumeration<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasMoreElements() {
+                return index < dataBuffers.size();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                DataBuffer dataBuffer = dataBuffers.get(index);
+                dataBuffer.readPosition(readPositions.get(index));
+                index++;
+                return dataBuffer.asInputStream();
+            }
+        };
+        return new InputStreamReader(new SequenceInputStream(inputStreams), StandardCharsets.UTF_8);
     }
 
     /**
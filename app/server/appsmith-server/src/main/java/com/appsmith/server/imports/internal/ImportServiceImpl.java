@@ -14,7 +14,6 @@ import com.appsmith.server.repositories.PermissionGroupRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.WorkspaceService;
-import com.google.gson.GsonBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
@@ -29,7 +28,6 @@ public class ImportServiceImpl extends ImportServiceCEImpl implements ImportServ
             AnalyticsService analyticsService,
             ImportableService<Plugin> pluginImportableService,
             ImportableService<Datasource> datasourceImportableService,
-            GsonBuilder gsonBuilder,
             ArtifactExchangeJsonAdapter artifactExchangeJsonAdapter,
             JsonSchemaMigration jsonSchemaMigration,
             DryOperationRepository dryOperationRepository) {
@@ -42,7 +40,6 @@ public class ImportServiceImpl extends ImportServiceCEImpl implements ImportServ
                 analyticsService,
                 pluginImportableService,
                 datasourceImportableService,
-                gsonBuilder,
                 artifactExchangeJsonAdapter,
                 jsonSchemaMigration,
                 dryOperationRepository);
@@ -0,0 +1,99 @@
+package com.appsmith.server.migrations.db.ce;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Workspace;
+import com.appsmith.server.helpers.ce.PolicyUtil;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static com.appsmith.server.migrations.DatabaseChangelog1.dropIndexIfExists;
+import static com.appsmith.server.migrations.DatabaseChangelog1.ensureIndexes;
+import static com.appsmith.server.migrations.DatabaseChangelog1.makeIndex;
+
+/**
+ * This class derives the policy tokens of all the documents that have policies, in every collection, and indexes the
+ * policy tokens of the applications and workspaces, which are the collections that are listed by permission alone.
+ * See {@link PolicyUtil#POLICY_TOKENS}.
+ */
+@Slf4j
+@ChangeUnit(order = "057", id = "add-policy-tokens-to-all-documents", author = " ")
+@RequiredArgsConstructor
+public class Migration057AddPolicyTokensToAllDocuments {
+
+    private final MongoTemplate mongoTemplate;
+
+    private static final String POLICIES = BaseDomain.Fields.policies;
+
+    @RollbackExecution
+    public void rollbackExecution() {}
+
+    /**
+     * Builds the aggregation expression that derives the policy tokens of a document from its policies, the same way
+     * as {@link PolicyUtil#getPolicyTokens(java.util.Set)}, for the migrations that update the policies in the
+     * database directly and so have to update the policy tokens along with them.
+     */
+    public static Document policyTokensExpression() {
+        // "permission:permissionGroupId" for each permission group of the current policy
+        Document policyTokensOfPolicyDoc = new Document(
+                "$map",
+                new Document()
+                        .append("input", new Document("$ifNull", List.of("$$this.permissionGroups", List.of())))
+                        .append("as", "permissionGroupId")
+                        .append(
+                                "in",
+                                new Document("$concat", List.of("$$this.permission", ":", "$$permissionGroupId"))));
+
+        return new Document(
+                "$reduce",
+                new Document()
+                        .append("input", new Document("$ifNull", List.of("$" + POLICIES, List.of())))
+                        .append("initialValue", List.of())
+                        .append("in", new Document("$setUnion", List.of("$$value", policyTokensOfPolicyDoc))));
+    }
+
+    @Execution
+    public void addPolicyTokensToAllDocuments() {
+        AggregationOperation aggregationOperation = Aggregation.addFields()
+                .addFieldWithValue(PolicyUtil.POLICY_TOKENS, policyTokensExpression())
+                .build();
+        Query documentsWithPoliciesQuery =
+                new Query().addCriteria(Criteria.where(POLICIES).exists(true));
+
+        for (String collectionName : mongoTemplate.getCollectionNames()) {
+            if (collectionName.startsWith("system.") || collectionName.startsWith("mongock")) {
+                continue;
+            }
+
+            try {
+                mongoTemplate.updateMulti(
+                        documentsWithPoliciesQuery, Aggregation.newUpdate(aggregationOperation), collectionName);
+            } catch (Exception exception) {
+                log.debug(
+                        "Migration with change-id : add-policy-tokens-to-all-documents failed for collection {} due to reason {}.",
+                        collectionName,
+                        exception.getMessage());
+
+                throw exception;
+            }
+        }
+
+        for (Class<?> entityClass : List.of(Application.class, Workspace.class)) {
+            dropIndexIfExists(mongoTemplate, entityClass, PolicyUtil.POLICY_TOKENS);
+            Index policyTokensIndex = makeIndex(PolicyUtil.POLICY_TOKENS);
+            ensureIndexes(mongoTemplate, entityClass, policyTokensIndex);
+        }
+    }
+}
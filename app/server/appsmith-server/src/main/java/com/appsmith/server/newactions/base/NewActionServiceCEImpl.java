@@ -1713,7 +1713,8 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
         return repository
                 .archiveDeletedUnpublishedActions(applicationId, permission)
                 // copy the unpublished action dto to published action dto
-                .then(repository.publishActions(applicationId, permission));
+                .then(repository.publishActions(applicationId, permission))
+                .then();
     }
 
     @Override
@@ -657,7 +657,7 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
 
     @Override
     public Mono<Void> publishPages(Collection<String> pageIds, AclPermission permission) {
-        return repository.publishPages(pageIds, permission);
+        return repository.publishPages(pageIds, permission).then();
     }
 
     @Override
@@ -9,6 +9,7 @@ import com.appsmith.external.models.EntityDependencyNode;
 import com.appsmith.external.models.EntityReferenceType;
 import com.appsmith.external.models.Executable;
 import com.appsmith.external.models.Property;
+import com.appsmith.server.configurations.InstanceConfig;
 import com.appsmith.server.domains.ExecutableDependencyEdge;
 import com.appsmith.server.domains.Layout;
 import com.appsmith.server.domains.NewPage;
@@ -31,9 +32,11 @@ import reactor.util.function.Tuples;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -56,6 +59,7 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
     private final AstService astService;
     private final ObjectMapper objectMapper;
     private final ExecutableOnLoadService<NewPage> pageExecutableOnLoadService;
+    private final InstanceConfig instanceConfig;
 
     /**
      * The following regex finds the immediate parent of an entity path.
@@ -72,6 +76,26 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
     // TODO : Add all the global variables exposed on the client side.
     private final Set<String> APPSMITH_GLOBAL_VARIABLES = Set.of();
 
+    private static final int MAX_CACHED_BINDINGS = 10000;
+
+    /**
+     * Possible global references that the ast service found in each binding value. Every layout save walks all the
+     * bindings of the page and of its executables, while an edit usually changes only a few of them, so the references
+     * of the bindings that are unchanged since they were last analysed are reused instead of being requested again.
+     * The references that the ast service finds in a binding only depend on its value and the evaluation version, and
+     * the least recently used ones are evicted once the cache is full. When RTS isn't accessible, the references are
+     * approximated from the words of the binding instead, and are not cached, so that they aren't reused once RTS is.
+     */
+    private final Map<BindingReferencesKey, Set<String>> possibleReferencesCache =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<BindingReferencesKey, Set<String>> eldest) {
+                    return size() > MAX_CACHED_BINDINGS;
+                }
+            });
+
+    private record BindingReferencesKey(String binding, int evalVersion) {}
+
     /**
      * This function computes the sequenced on page load executables.
      * <p>
@@ -554,8 +578,35 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
      */
     private Mono<Map<String, Set<EntityDependencyNode>>> getPossibleEntityParentsMap(
             Set<String> bindings, int types, int evalVersion) {
+        if (!instanceConfig.getIsRtsAccessible()) {
+            return MustacheHelper.getPossibleEntityParentsMap(
+                    astService.getPossibleReferencesFromDynamicBinding(new ArrayList<>(bindings), evalVersion), types);
+        }
+
+        List<Tuple2<String, Set<String>>> cachedReferences = new ArrayList<>();
+        List<String> uncachedBindings = new ArrayList<>();
+        for (String binding : bindings) {
+            Set<String> references = possibleReferencesCache.get(new BindingReferencesKey(binding, evalVersion));
+            if (references != null) {
+                cachedReferences.add(Tuples.of(binding, references));
+            } else {
+                uncachedBindings.add(binding);
+            }
+        }
+
+        // Only the bindings that haven't been analysed before are sent to the ast service
+        Flux<Tuple2<String, Set<String>>> uncachedReferencesFlux = astService
+                .getPossibleReferencesFromDynamicBinding(uncachedBindings, evalVersion)
+                .doOnNext(tuple -> {
+                    if (tuple.getT2() != null) {
+                        possibleReferencesCache.put(
+                                new BindingReferencesKey(tuple.getT1(), evalVersion),
+                                Collections.unmodifiableSet(new HashSet<>(tuple.getT2())));
+                    }
+                });
+
         Flux<Tuple2<String, Set<String>>> findingToReferencesFlux =
-                astService.getPossibleReferencesFromDynamicBinding(new ArrayList<>(bindings), evalVersion);
+                Flux.fromIterable(cachedReferences).concatWith(uncachedReferencesFlux);
         return MustacheHelper.getPossibleEntityParentsMap(findingToReferencesFlux, types);
     }
 
@@ -1,5 +1,6 @@
 package com.appsmith.server.onload.internal;
 
+import com.appsmith.server.configurations.InstanceConfig;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.onload.executables.ExecutableOnLoadService;
 import com.appsmith.server.services.AstService;
@@ -14,7 +15,8 @@ public class OnLoadExecutablesUtilImpl extends OnLoadExecutablesUtilCEImpl imple
     public OnLoadExecutablesUtilImpl(
             AstService astService,
             ObjectMapper objectMapper,
-            ExecutableOnLoadService<NewPage> pageExecutableOnLoadService) {
-        super(astService, objectMapper, pageExecutableOnLoadService);
+            ExecutableOnLoadService<NewPage> pageExecutableOnLoadService,
+            InstanceConfig instanceConfig) {
+        super(astService, objectMapper, pageExecutableOnLoadService, instanceConfig);
     }
 }
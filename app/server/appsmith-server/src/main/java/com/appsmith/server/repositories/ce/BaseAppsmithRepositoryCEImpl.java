@@ -1,12 +1,14 @@
 package com.appsmith.server.repositories.ce;
 
 import com.appsmith.external.models.BaseDomain;
-import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.configurations.mongo.PolicyTokensMongoEventListener;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PermissionGroupsMemo;
+import com.appsmith.server.helpers.ce.PolicyUtil;
 import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
@@ -105,11 +107,8 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
             return null;
         }
         // Check if the permission is being provided by any of the permission groups
-        return Criteria.where(BaseDomain.Fields.policies)
-                .elemMatch(Criteria.where("permissionGroups")
-                        .in(permissionGroups)
-                        .and("permission")
-                        .is(permission.getValue()));
+        return Criteria.where(PolicyUtil.POLICY_TOKENS)
+                .in(PolicyUtil.getPolicyTokens(permission.getValue(), permissionGroups));
     }
 
     public Mono<T> findById(String id, AclPermission permission) {
@@ -375,6 +374,10 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                 },
                 null);
 
+        if (resource.getPolicies() != null) {
+            update.set(PolicyUtil.POLICY_TOKENS, PolicyUtil.getPolicyTokens(resource.getPolicies()));
+        }
+
         return update.set(BaseDomain.Fields.updatedAt, Instant.now());
     }
 
@@ -403,26 +406,12 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     }
 
     public Mono<T> setUserPermissionsInObject(T obj, Set<String> permissionGroups) {
-        Set<String> permissions = new HashSet<>();
-        obj.setUserPermissions(permissions);
-
         if (CollectionUtils.isEmpty(obj.getPolicies()) || permissionGroups.isEmpty()) {
+            obj.setUserPermissions(new HashSet<>());
             return Mono.just(obj);
         }
 
-        for (Policy policy : obj.getPolicies()) {
-            Set<String> policyPermissionGroups = policy.getPermissionGroups();
-            if (CollectionUtils.isEmpty(policyPermissionGroups)) {
-                continue;
-            }
-            for (String permissionGroup : permissionGroups) {
-                if (policyPermissionGroups.contains(permissionGroup)) {
-                    permissions.add(policy.getPermission());
-                    break;
-                }
-            }
-        }
-
+        obj.setUserPermissions(PolicyUtil.getUserPermissions(obj.getPolicies(), permissionGroups));
         return Mono.just(obj);
     }
 
@@ -432,6 +421,11 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
      * 3. Return the set of all the permission groups.
      */
     protected Mono<Set<String>> getAllPermissionGroupsForUser(User user) {
+        return PermissionGroupsMemo.getOrResolve(
+                getPermissionGroupsMemoKey(user, true), Mono.defer(() -> resolveAllPermissionGroupsForUser(user)));
+    }
+
+    private Mono<Set<String>> resolveAllPermissionGroupsForUser(User user) {
 
         Mono<User> userMono = Mono.just(user);
         if (user.getTenantId() == null) {
@@ -463,6 +457,11 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
      * 3. Return the set of all the permission groups.
      */
     protected Mono<Set<String>> getStrictPermissionGroupsForUser(User user) {
+        return PermissionGroupsMemo.getOrResolve(
+                getPermissionGroupsMemoKey(user, false), Mono.defer(() -> resolveStrictPermissionGroupsForUser(user)));
+    }
+
+    private Mono<Set<String>> resolveStrictPermissionGroupsForUser(User user) {
 
         Mono<User> userMono = Mono.just(user);
         if (user.getTenantId() == null) {
@@ -476,6 +475,10 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                 .map(HashSet::new);
     }
 
+    private static String getPermissionGroupsMemoKey(User user, boolean includeAnonymousUserPermissions) {
+        return user.getEmail() + "/" + user.getTenantId() + "/" + includeAnonymousUserPermissions;
+    }
+
     protected Mono<Set<String>> getAnonymousUserPermissionGroups() {
         return cacheableRepositoryHelper.getPermissionGroupsOfAnonymousUser();
     }
@@ -520,6 +523,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                 .map(domain -> {
                     Document document = new Document();
                     mongoOperations.getConverter().write(domain, document);
+                    putPolicyTokens(domain, document);
                     return document;
                 })
                 .collect(Collectors.toList());
@@ -542,6 +546,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                     assert actionCollection.getId() != null;
                     Document document = new Document();
                     mongoOperations.getConverter().write(actionCollection, document);
+                    putPolicyTokens(actionCollection, document);
                     document.remove("_id");
                     return (WriteModel<Document>) new UpdateOneModel<Document>(
                             new Document("_id", new ObjectId(actionCollection.getId())),
@@ -555,4 +560,14 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                 .collectList()
                 .then();
     }
+
+    /**
+     * Adds the policy tokens of the domain to the document it was converted to, for the writes that don't go through
+     * the Mongo template and so aren't seen by the {@link PolicyTokensMongoEventListener}.
+     */
+    private static void putPolicyTokens(BaseDomain domain, Document document) {
+        if (domain.getPolicies() != null) {
+            document.put(PolicyUtil.POLICY_TOKENS, PolicyUtil.getPolicyTokens(domain.getPolicies()));
+        }
+    }
 }
@@ -12,6 +12,8 @@ import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.Fields;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -240,4 +242,24 @@ public class CustomActionCollectionRepositoryCEImpl extends BaseAppsmithReposito
 
         return queryBuilder().criteria(query).permission(permission).all();
     }
+
+    /**
+     * Copies the unpublished collection to the published collection of every collection of the application that hasn't
+     * been deleted in edit mode, within the database with an update pipeline. Collections which haven't been edited
+     * since they were last published are left untouched.
+     *
+     * @return The number of collections that were published
+     */
+    @Override
+    public Mono<Integer> publishActionCollections(String applicationId, AclPermission permission) {
+        AggregationUpdate publishUpdate = AggregationUpdate.update()
+                .set(ActionCollection.Fields.publishedCollection)
+                .toValueOf(Fields.field(ActionCollection.Fields.unpublishedCollection));
+
+        BridgeQuery<ActionCollection> query = getBridgeQueryForFindByApplicationIdAndViewMode(applicationId, false)
+                .fieldsNotEqual(
+                        ActionCollection.Fields.unpublishedCollection, ActionCollection.Fields.publishedCollection);
+
+        return queryBuilder().criteria(query).permission(permission).updateAll(publishUpdate);
+    }
 }
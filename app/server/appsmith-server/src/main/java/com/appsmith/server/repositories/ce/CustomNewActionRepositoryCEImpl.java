@@ -16,12 +16,11 @@ import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
 import org.springframework.data.mongodb.core.aggregation.Fields;
 import org.springframework.data.mongodb.core.aggregation.GroupOperation;
 import org.springframework.data.mongodb.core.aggregation.MatchOperation;
 import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
-import org.springframework.data.mongodb.core.query.Criteria;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -340,35 +339,29 @@ public class CustomNewActionRepositoryCEImpl extends BaseAppsmithRepositoryImpl<
     }
 
     @Override
-    public Mono<Void> publishActions(String applicationId, AclPermission permission) {
+    public Mono<Integer> publishActions(String applicationId, AclPermission permission) {
         return copyUnpublishedActionToPublishedAction(getCriterionForFindByApplicationId(applicationId), permission);
     }
 
-    protected Mono<Void> copyUnpublishedActionToPublishedAction(
+    /**
+     * Copies the unpublished action to the published action of every action matching the criteria, within the database
+     * with an update pipeline, so that the actions are never loaded into the server's memory. Actions which haven't
+     * been edited since they were last published are left untouched.
+     *
+     * @return The number of actions that were published
+     */
+    protected Mono<Integer> copyUnpublishedActionToPublishedAction(
             BridgeQuery<NewAction> criteria, AclPermission permission) {
-        Mono<Set<String>> permissionGroupsMono = getCurrentUserPermissionGroupsIfRequired(permission);
-
-        return permissionGroupsMono
-                .flatMapMany(permissionGroups -> {
-                    AggregationOperation matchAggregationWithPermission;
-                    if (permission == null) {
-                        matchAggregationWithPermission = Aggregation.match(new Criteria().andOperator(notDeleted()));
-                    } else {
-                        matchAggregationWithPermission = Aggregation.match(
-                                new Criteria().andOperator(notDeleted(), userAcl(permissionGroups, permission)));
-                    }
-                    AggregationOperation matchAggregation = Aggregation.match(criteria);
-                    AggregationOperation wholeProjection = Aggregation.project(NewAction.class);
-                    AggregationOperation addFieldsOperation = Aggregation.addFields()
-                            .addField(NewAction.Fields.publishedAction)
-                            .withValueOf(Fields.field(NewAction.Fields.unpublishedAction))
-                            .build();
-                    Aggregation combinedAggregation = Aggregation.newAggregation(
-                            matchAggregation, matchAggregationWithPermission, wholeProjection, addFieldsOperation);
-                    return mongoOperations.aggregate(combinedAggregation, NewAction.class, NewAction.class);
-                })
-                .collectList()
-                .flatMap(this::bulkUpdate);
+        AggregationUpdate publishUpdate = AggregationUpdate.update()
+                .set(NewAction.Fields.publishedAction)
+                .toValueOf(Fields.field(NewAction.Fields.unpublishedAction));
+
+        return queryBuilder()
+                .criteria(criteria)
+                .criteria(Bridge.<NewAction>query()
+                        .fieldsNotEqual(NewAction.Fields.unpublishedAction, NewAction.Fields.publishedAction))
+                .permission(permission)
+                .updateAll(publishUpdate);
     }
 
     @Override
@@ -10,33 +10,23 @@ import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
 import com.appsmith.server.projections.IdOnly;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
 import org.springframework.data.mongodb.core.aggregation.Fields;
-import org.springframework.data.mongodb.core.query.Criteria;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 import static com.appsmith.external.helpers.StringUtils.dotted;
-import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Slf4j
-@RequiredArgsConstructor
 public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<NewPage>
         implements CustomNewPageRepositoryCE {
 
-    private final MongoTemplate mongoTemplate;
-
     @Override
     public Flux<NewPage> findByApplicationId(String applicationId, AclPermission aclPermission) {
         return queryBuilder()
@@ -201,34 +191,19 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
     }
 
     @Override
-    public Mono<Void> publishPages(Collection<String> pageIds, AclPermission permission) {
-        Criteria applicationIdCriteria = where(NewPage.Fields.id).in(pageIds);
-
-        Mono<Set<String>> permissionGroupsMono = getCurrentUserPermissionGroupsIfRequired(permission);
-
-        return permissionGroupsMono.flatMap(permissionGroups -> {
-            return Mono.fromCallable(() -> {
-                        AggregationOperation matchAggregationWithPermission = null;
-                        if (permission == null) {
-                            matchAggregationWithPermission =
-                                    Aggregation.match(new Criteria().andOperator(notDeleted()));
-                        } else {
-                            matchAggregationWithPermission = Aggregation.match(
-                                    new Criteria().andOperator(notDeleted(), userAcl(permissionGroups, permission)));
-                        }
-                        AggregationOperation matchAggregation = Aggregation.match(applicationIdCriteria);
-                        AggregationOperation wholeProjection = Aggregation.project(NewPage.class);
-                        AggregationOperation addFieldsOperation = Aggregation.addFields()
-                                .addField(NewPage.Fields.publishedPage)
-                                .withValueOf(Fields.field(NewPage.Fields.unpublishedPage))
-                                .build();
-                        Aggregation combinedAggregation = Aggregation.newAggregation(
-                                matchAggregation, matchAggregationWithPermission, wholeProjection, addFieldsOperation);
-                        return mongoTemplate.aggregate(combinedAggregation, NewPage.class, NewPage.class);
-                    })
-                    .subscribeOn(Schedulers.boundedElastic())
-                    .flatMap(updatedResults -> bulkUpdate(updatedResults.getMappedResults()));
-        });
+    public Mono<Integer> publishPages(Collection<String> pageIds, AclPermission permission) {
+        // The unpublished page is copied to the published page within the database with an update pipeline, so that
+        // the pages are never loaded into the server's memory. Pages which haven't been edited since they were last
+        // published are left untouched, and aren't counted in the number of published pages that is returned.
+        AggregationUpdate publishUpdate = AggregationUpdate.update()
+                .set(NewPage.Fields.publishedPage)
+                .toValueOf(Fields.field(NewPage.Fields.unpublishedPage));
+
+        return queryBuilder()
+                .criteria(Bridge.<NewPage>in(NewPage.Fields.id, pageIds)
+                        .fieldsNotEqual(NewPage.Fields.unpublishedPage, NewPage.Fields.publishedPage))
+                .permission(permission)
+                .updateAll(publishUpdate);
     }
 
     @Override
@@ -11,6 +11,7 @@ import com.appsmith.server.git.autocommit.helpers.GitAutoCommitHelper;
 import com.appsmith.server.helpers.CommonGitFileUtils;
 import com.appsmith.server.helpers.DSLMigrationUtils;
 import com.appsmith.server.helpers.ResponseUtils;
+import com.appsmith.server.helpers.ViewModeSnapshotCache;
 import com.appsmith.server.layouts.UpdateLayoutService;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
@@ -66,7 +67,8 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
             GitAutoCommitHelper gitAutoCommitHelper,
             AutoCommitEligibilityHelper autoCommitEligibilityHelper,
             ClonePageService<NewAction> actionClonePageService,
-            ClonePageService<ActionCollection> actionCollectionClonePageService) {
+            ClonePageService<ActionCollection> actionCollectionClonePageService,
+            ViewModeSnapshotCache viewModeSnapshotCache) {
         super(
                 workspaceService,
                 applicationService,
@@ -96,6 +98,7 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
                 datasourcePermission,
                 dslMigrationUtils,
                 actionClonePageService,
-                actionCollectionClonePageService);
+                actionCollectionClonePageService,
+                viewModeSnapshotCache);
     }
 }
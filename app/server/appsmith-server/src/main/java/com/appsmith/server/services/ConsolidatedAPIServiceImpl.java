@@ -3,10 +3,12 @@ package com.appsmith.server.services;
 import com.appsmith.server.actioncollections.base.ActionCollectionService;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.datasources.base.DatasourceService;
+import com.appsmith.server.helpers.ViewModeSnapshotCache;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.repositories.PermissionGroupRepository;
 import com.appsmith.server.services.ce_compatible.ConsolidatedAPIServiceCECompatibleImpl;
 import com.appsmith.server.themes.base.ThemeService;
 import io.micrometer.observation.ObservationRegistry;
@@ -33,6 +35,8 @@ public class ConsolidatedAPIServiceImpl extends ConsolidatedAPIServiceCECompatib
             PluginService pluginService,
             DatasourceService datasourceService,
             MockDataService mockDataService,
+            PermissionGroupRepository permissionGroupRepository,
+            ViewModeSnapshotCache viewModeSnapshotCache,
             ObservationRegistry observationRegistry) {
         super(
                 sessionUserService,
@@ -50,6 +54,8 @@ public class ConsolidatedAPIServiceImpl extends ConsolidatedAPIServiceCECompatib
                 pluginService,
                 datasourceService,
                 mockDataService,
+                permissionGroupRepository,
+                viewModeSnapshotCache,
                 observationRegistry);
     }
 }
@@ -1,11 +1,13 @@
 package com.appsmith.server.services;
 
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.ce.DatasourceContextServiceCEImpl;
 import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
@@ -20,7 +22,9 @@ public class DatasourceContextServiceImpl extends DatasourceContextServiceCEImpl
             PluginService pluginService,
             PluginExecutorHelper pluginExecutorHelper,
             ConfigService configService,
-            DatasourcePermission datasourcePermission) {
+            DatasourcePermission datasourcePermission,
+            DatasourceContextConfig datasourceContextConfig,
+            MeterRegistry meterRegistry) {
 
         super(
                 datasourceService,
@@ -28,6 +32,8 @@ public class DatasourceContextServiceImpl extends DatasourceContextServiceCEImpl
                 pluginService,
                 pluginExecutorHelper,
                 configService,
-                datasourcePermission);
+                datasourcePermission,
+                datasourceContextConfig,
+                meterRegistry);
     }
 }
@@ -39,6 +39,8 @@ import com.appsmith.server.helpers.DSLMigrationUtils;
 import com.appsmith.server.helpers.GitUtils;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.helpers.UserPermissionUtils;
+import com.appsmith.server.helpers.ViewModeSnapshotCache;
+import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.layouts.UpdateLayoutService;
 import com.appsmith.server.migrations.ApplicationVersion;
 import com.appsmith.server.newactions.base.NewActionService;
@@ -127,6 +129,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     private final DSLMigrationUtils dslMigrationUtils;
     private final ClonePageService<NewAction> actionClonePageService;
     private final ClonePageService<ActionCollection> actionCollectionClonePageService;
+    private final ViewModeSnapshotCache viewModeSnapshotCache;
 
     @Override
     public Mono<PageDTO> createPage(PageDTO page) {
@@ -1162,8 +1165,11 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                     collection.setPublishedCollection(collection.getUnpublishedCollection());
                     return Mono.just(collection);
                 })
-                .flatMap(actionCollectionService::save)
                 .collectList()
+                // Publish all the collections at once in the database, instead of saving each one of them
+                .flatMap(collections -> actionCollectionService
+                        .publishActionCollections(applicationId, actionPermission.getEditPermission())
+                        .thenReturn(collections))
                 .cache(); // caching because it's needed to send analytics attributes after publishing the app
 
         ApplicationPublishingMetaDTO applicationPublishingMetaDTO = ApplicationPublishingMetaDTO.builder()
@@ -1175,9 +1181,20 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                 .publishedActionCollectionsListMono(publishedActionCollectionsListMono)
                 .build();
 
+        /*
+         * The application is saved before the actions, the action collections and the theme are published, so the view
+         * mode snapshots of the application are invalidated once all of them are, and the application is marked as
+         * updated again, for the snapshots of the other servers, which are keyed by the time of the last update.
+         */
+        Mono<Void> invalidateViewModeSnapshotsMono = Mono.defer(
+                        () -> applicationRepository.updateByIdWithoutPermissionCheck(
+                                applicationId, Bridge.update().set(BaseDomain.Fields.updatedAt, Instant.now())))
+                .then(Mono.fromRunnable(() -> viewModeSnapshotCache.invalidate(applicationId)));
+
         return publishApplicationAndPages
                 .flatMap(
                         newPages -> Mono.when(publishActionsMono, publishedActionCollectionsListMono, publishThemeMono))
+                .then(invalidateViewModeSnapshotsMono)
                 .then(Mono.just(Tuples.of(applicationMono, applicationPublishingMetaDTO)));
     }
 
@@ -17,10 +17,12 @@ import com.appsmith.server.dtos.ProductAlertResponseDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ViewModeSnapshotCache;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.repositories.PermissionGroupRepository;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.MockDataService;
 import com.appsmith.server.services.ProductAlertService;
@@ -46,8 +48,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.appsmith.external.constants.PluginConstants.PLUGINS_THAT_ALLOW_QUERY_CREATION_WITHOUT_DATASOURCE;
 import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.ACTIONS_SPAN;
@@ -99,6 +103,8 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
     private final PluginService pluginService;
     private final DatasourceService datasourceService;
     private final MockDataService mockDataService;
+    private final PermissionGroupRepository permissionGroupRepository;
+    private final ViewModeSnapshotCache viewModeSnapshotCache;
     private final ObservationRegistry observationRegistry;
 
     <T> ResponseDTO<T> getSuccessResponse(T data) {
@@ -198,6 +204,15 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
         /* Get view mode - EDIT or PUBLISHED */
         boolean isViewMode = ApplicationMode.PUBLISHED.equals(mode);
 
+        /* In view mode, the data of the application is collected separately, so that it can be reused as a snapshot
+         * by the next page loads until the application is published again */
+        ConsolidatedAPIResponseDTO applicationDataDTO =
+                isViewMode ? new ConsolidatedAPIResponseDTO() : consolidatedAPIResponseDTO;
+        List<Mono<?>> applicationFetches = isViewMode ? new ArrayList<>() : fetches;
+        /* Read before any of the data of the application is fetched, so that data that is fetched while the application
+         * is being published is never kept as a snapshot */
+        long snapshotInvalidationCount = viewModeSnapshotCache.getInvalidationCount();
+
         /* Fetch application id if not provided */
         Mono<String> applicationIdMonoCache;
         if (isBlank(applicationId)) {
@@ -230,45 +245,45 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                     return newPageService.createApplicationPagesDTO(branchedApplication, newPages, isViewMode, true);
                 })
                 .as(this::toResponseDTO)
-                .doOnSuccess(consolidatedAPIResponseDTO::setPages)
+                .doOnSuccess(applicationDataDTO::setPages)
                 .name(getQualifiedSpanName(PAGES_SPAN, mode))
                 .tap(Micrometer.observation(observationRegistry))
                 .cache();
 
-        fetches.add(applicationPagesDTOResponseDTOMonoCache);
+        applicationFetches.add(applicationPagesDTOResponseDTOMonoCache);
 
         /* Get current theme */
-        fetches.add(applicationIdMonoCache
+        applicationFetches.add(applicationIdMonoCache
                 .flatMap(appId -> themeService.getApplicationTheme(appId, mode, branchName))
                 .as(this::toResponseDTO)
-                .doOnSuccess(consolidatedAPIResponseDTO::setCurrentTheme)
+                .doOnSuccess(applicationDataDTO::setCurrentTheme)
                 .name(getQualifiedSpanName(CURRENT_THEME_SPAN, mode))
                 .tap(Micrometer.observation(observationRegistry)));
 
         /* Get all themes */
-        fetches.add(applicationIdMonoCache
+        applicationFetches.add(applicationIdMonoCache
                 .flatMap(appId ->
                         themeService.getApplicationThemes(appId, branchName).collectList())
                 .as(this::toResponseDTO)
-                .doOnSuccess(consolidatedAPIResponseDTO::setThemes)
+                .doOnSuccess(applicationDataDTO::setThemes)
                 .name(getQualifiedSpanName(THEMES_SPAN, mode))
                 .tap(Micrometer.observation(observationRegistry)));
 
         /* Get all custom JS libraries installed in the application */
-        fetches.add(applicationIdMonoCache
+        applicationFetches.add(applicationIdMonoCache
                 .flatMap(appId -> customJSLibService.getAllJSLibsInContext(
                         appId, CreatorContextType.APPLICATION, branchName, isViewMode))
                 .as(this::toResponseDTO)
-                .doOnSuccess(consolidatedAPIResponseDTO::setCustomJSLibraries)
+                .doOnSuccess(applicationDataDTO::setCustomJSLibraries)
                 .name(getQualifiedSpanName(CUSTOM_JS_LIB_SPAN, mode))
                 .tap(Micrometer.observation(observationRegistry)));
 
         if (!isBlank(defaultPageId)) {
             /* Get current page */
-            fetches.add(applicationPageService
+            applicationFetches.add(applicationPageService
                     .getPageAndMigrateDslByBranchAndDefaultPageId(defaultPageId, branchName, isViewMode, true)
                     .as(this::toResponseDTO)
-                    .doOnSuccess(consolidatedAPIResponseDTO::setPageWithMigratedDsl)
+                    .doOnSuccess(applicationDataDTO::setPageWithMigratedDsl)
                     .name(getQualifiedSpanName(CURRENT_PAGE_SPAN, mode))
                     .tap(Micrometer.observation(observationRegistry)));
         }
@@ -276,24 +291,32 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
         /* Fetch view specific data */
         if (isViewMode) {
             /* Get list of all actions in view mode */
-            fetches.add(applicationIdMonoCache
+            applicationFetches.add(applicationIdMonoCache
                     .flatMap(appId -> newActionService
                             .getActionsForViewMode(appId, branchName)
                             .collectList())
                     .as(this::toResponseDTO)
-                    .doOnSuccess(consolidatedAPIResponseDTO::setPublishedActions)
+                    .doOnSuccess(applicationDataDTO::setPublishedActions)
                     .name(getQualifiedSpanName(ACTIONS_SPAN, mode))
                     .tap(Micrometer.observation(observationRegistry)));
 
             /* Get list of all action collections in view mode */
-            fetches.add(applicationIdMonoCache
+            applicationFetches.add(applicationIdMonoCache
                     .flatMap(appId -> actionCollectionService
                             .getActionCollectionsForViewMode(appId, branchName)
                             .collectList())
                     .as(this::toResponseDTO)
-                    .doOnSuccess(consolidatedAPIResponseDTO::setPublishedActionCollections)
+                    .doOnSuccess(applicationDataDTO::setPublishedActionCollections)
                     .name(getQualifiedSpanName(ACTION_COLLECTIONS_SPAN, mode)));
 
+            /* Reuse the data of the application from the last page load, unless it has changed since then */
+            fetches.add(getViewModeSnapshot(
+                            branchedApplicationMonoCached,
+                            defaultPageId,
+                            Mono.when(applicationFetches).thenReturn(applicationDataDTO),
+                            snapshotInvalidationCount)
+                    .doOnSuccess(snapshot -> copyViewModeSnapshot(snapshot, consolidatedAPIResponseDTO)));
+
         } else {
             /* Get all actions in edit mode */
             fetches.add(applicationIdMonoCache
@@ -431,6 +454,72 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
         return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO);
     }
 
+    /**
+     * Returns the snapshot of the view mode data of the page if there's one for the current version of the application
+     * and the permission groups of the current user, or collects the data and keeps it as a snapshot otherwise.
+     * Snapshots are only kept if all of their data could be fetched, and never for applications that haven't been
+     * saved yet, or that have been published since the data started being fetched.
+     */
+    private Mono<ViewModeSnapshotCache.Snapshot> getViewModeSnapshot(
+            Mono<Application> branchedApplicationMono,
+            String defaultPageId,
+            Mono<ConsolidatedAPIResponseDTO> applicationDataMono,
+            long snapshotInvalidationCount) {
+        Mono<ViewModeSnapshotCache.Key> snapshotKeyMono = branchedApplicationMono
+                .filter(application -> application.getId() != null && application.getUpdatedAt() != null)
+                .zipWith(permissionGroupRepository.getCurrentUserPermissionGroups())
+                .map(tuple2 -> new ViewModeSnapshotCache.Key(
+                        tuple2.getT1().getId(),
+                        defaultPageId,
+                        tuple2.getT1().getUpdatedAt(),
+                        Set.copyOf(tuple2.getT2())))
+                // The errors are part of the response, which doesn't come from a snapshot in that case
+                .onErrorResume(error -> Mono.empty());
+
+        return snapshotKeyMono
+                .flatMap(snapshotKey -> {
+                    ViewModeSnapshotCache.Snapshot snapshot = viewModeSnapshotCache.get(snapshotKey);
+                    if (snapshot != null) {
+                        return Mono.just(snapshot);
+                    }
+
+                    return applicationDataMono.map(applicationDataDTO -> {
+                        if (!isSuccessfulViewModeSnapshot(applicationDataDTO)) {
+                            return new ViewModeSnapshotCache.Snapshot(applicationDataDTO, null, 0);
+                        }
+                        return viewModeSnapshotCache.put(snapshotKey, applicationDataDTO, snapshotInvalidationCount);
+                    });
+                })
+                .switchIfEmpty(applicationDataMono.map(
+                        applicationDataDTO -> new ViewModeSnapshotCache.Snapshot(applicationDataDTO, null, 0)));
+    }
+
+    private static boolean isSuccessfulViewModeSnapshot(ConsolidatedAPIResponseDTO snapshot) {
+        return Stream.of(
+                        snapshot.getPages(),
+                        snapshot.getCurrentTheme(),
+                        snapshot.getThemes(),
+                        snapshot.getCustomJSLibraries(),
+                        snapshot.getPageWithMigratedDsl(),
+                        snapshot.getPublishedActions(),
+                        snapshot.getPublishedActionCollections())
+                .filter(Objects::nonNull)
+                .allMatch(responseDTO -> responseDTO.getResponseMeta().isSuccess());
+    }
+
+    private static void copyViewModeSnapshot(
+            ViewModeSnapshotCache.Snapshot viewModeSnapshot, ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO) {
+        ConsolidatedAPIResponseDTO snapshot = viewModeSnapshot.applicationData();
+        consolidatedAPIResponseDTO.setPages(snapshot.getPages());
+        consolidatedAPIResponseDTO.setCurrentTheme(snapshot.getCurrentTheme());
+        consolidatedAPIResponseDTO.setThemes(snapshot.getThemes());
+        consolidatedAPIResponseDTO.setCustomJSLibraries(snapshot.getCustomJSLibraries());
+        consolidatedAPIResponseDTO.setPageWithMigratedDsl(snapshot.getPageWithMigratedDsl());
+        consolidatedAPIResponseDTO.setPublishedActions(snapshot.getPublishedActions());
+        consolidatedAPIResponseDTO.setPublishedActionCollections(snapshot.getPublishedActionCollections());
+        consolidatedAPIResponseDTO.setApplicationDataHash(viewModeSnapshot.hash());
+    }
+
     private boolean isPossibleToCreateQueryWithoutDatasource(Plugin plugin) {
         return PLUGINS_THAT_ALLOW_QUERY_CREATION_WITHOUT_DATASOURCE.contains(plugin.getPackageName());
     }
@@ -31,4 +31,11 @@ public interface DatasourceContextServiceCE {
     Mono<DatasourceContext<?>> deleteDatasourceContext(DatasourceStorage datasourceStorage);
 
     DatasourceContextIdentifier initializeDatasourceContextIdentifier(DatasourceStorage datasourceStorage);
+
+    /**
+     * Destroys the cached datasource contexts that have been idle for too long, or that exceed the maximum number of
+     * contexts allowed on this node, so that their connections are released.
+     * @return Mono<Void>
+     */
+    Mono<Void> evictIdleDatasourceContexts();
 }
@@ -8,6 +8,7 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
@@ -20,15 +21,26 @@ import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 @Slf4j
@@ -36,7 +48,6 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
 
     // DatasourceContextIdentifier contains datasourceId & environmentId which is mapped to DatasourceContext
     protected final Map<DatasourceContextIdentifier, Mono<DatasourceContext<Object>>> datasourceContextMonoMap;
-    protected final Map<DatasourceContextIdentifier, Object> datasourceContextSynchronizationMonitorMap;
     protected final Map<DatasourceContextIdentifier, DatasourceContext<?>> datasourceContextMap;
     private final DatasourceService datasourceService;
     private final DatasourceStorageService datasourceStorageService;
@@ -44,6 +55,13 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     private final PluginExecutorHelper pluginExecutorHelper;
     private final ConfigService configService;
     private final DatasourcePermission datasourcePermission;
+    private final DatasourceContextConfig datasourceContextConfig;
+
+    // Identifiers whose context has been evicted, to find out how often evicted contexts have to be created again
+    private final Set<DatasourceContextIdentifier> evictedDatasourceContextIdentifiers = ConcurrentHashMap.newKeySet();
+    private final Counter idleEvictionCounter;
+    private final Counter capacityEvictionCounter;
+    private final Counter recreationCounter;
 
     private final AppsmithException TOO_MANY_REQUESTS_EXCEPTION =
             new AppsmithException(AppsmithError.TOO_MANY_FAILED_DATASOURCE_CONNECTION_REQUESTS);
@@ -55,32 +73,49 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             PluginService pluginService,
             PluginExecutorHelper pluginExecutorHelper,
             ConfigService configService,
-            DatasourcePermission datasourcePermission) {
+            DatasourcePermission datasourcePermission,
+            DatasourceContextConfig datasourceContextConfig,
+            MeterRegistry meterRegistry) {
         this.datasourceService = datasourceService;
         this.datasourceStorageService = datasourceStorageService;
         this.pluginService = pluginService;
         this.pluginExecutorHelper = pluginExecutorHelper;
         this.datasourceContextMap = new ConcurrentHashMap<>();
         this.datasourceContextMonoMap = new ConcurrentHashMap<>();
-        this.datasourceContextSynchronizationMonitorMap = new ConcurrentHashMap<>();
         this.configService = configService;
         this.datasourcePermission = datasourcePermission;
+        this.datasourceContextConfig = datasourceContextConfig;
+
+        Gauge.builder("appsmith.datasource.contexts.live", datasourceContextMap, Map::size)
+                .description("Number of datasource contexts cached on this node")
+                .register(meterRegistry);
+        this.idleEvictionCounter = Counter.builder("appsmith.datasource.contexts.evicted")
+                .description("Number of datasource contexts destroyed to release their connections")
+                .tag("reason", "idle")
+                .register(meterRegistry);
+        this.capacityEvictionCounter = Counter.builder("appsmith.datasource.contexts.evicted")
+                .description("Number of datasource contexts destroyed to release their connections")
+                .tag("reason", "capacity")
+                .register(meterRegistry);
+        this.recreationCounter = Counter.builder("appsmith.datasource.contexts.recreated")
+                .description("Number of datasource contexts created again after being evicted")
+                .register(meterRegistry);
     }
 
     /**
-     * This method defines a critical section that can be executed only by one thread at a time per datasource id - i
-     * .e. if two threads want to create datasource for different datasource ids then they would not be synchronized.
-     * Earlier multiple threads could subscribe to a publisher that created connection to a datasource - which
-     * resulted in a data race condition resulting in multiple orphan connections.
+     * Returns the cached publisher for the datasource context of this datasource id, creating one if it doesn't exist
+     * yet, or if the cached one is stale or has failed. Earlier multiple threads could subscribe to a publisher that
+     * created connection to a datasource - which resulted in a data race condition resulting in multiple orphan
+     * connections.
      * Ref: https://github.com/appsmithorg/appsmith/issues/14117
-     * This method caches the result from the source publisher and forces concurrent subscriptions to re-use the cached
-     * value. Hence, even if multiple threads subscribe to the same source publisher they get the pre-computed cached
-     * value instead of creating a new connection for each subscription of the source publisher.
+     * The lookup and replacement happen atomically per datasource id in {@link ConcurrentHashMap#compute}, which only
+     * assembles the publisher and never connects to the datasource. Hence, concurrent requests against a cold
+     * datasource all receive the same cached publisher, and none of them blocks a thread while the connection is
+     * being created. Connections of replaced contexts are destroyed in the background, off the request path.
      *
      * @param datasourceStorage           - datasource storage for which a new datasource context / connection needs to be created
      * @param plugin
      * @param pluginExecutor              - plugin executor associated with the datasource's plugin
-     * @param monitor                     - unique monitor object per datasource id. Lock is acquired on this monitor object.
      * @param datasourceContextIdentifier - key for the datasourceContextMaps.
      * @return a cached source publisher which upon subscription produces / returns the latest datasource context /
      * connection.
@@ -89,89 +124,130 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             DatasourceStorage datasourceStorage,
             Plugin plugin,
             PluginExecutor<Object> pluginExecutor,
-            Object monitor,
             DatasourceContextIdentifier datasourceContextIdentifier) {
 
-        return Mono.fromCallable(() -> {
-                    synchronized (monitor) {
-                        /* Destroy any connection that is stale or in error state to free up resource */
-                        final boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
-                        final boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
-
-                        if (isStale || isInErrorState) {
-                            final Object connection = datasourceContextMap
-                                    .get(datasourceContextIdentifier)
-                                    .getConnection();
-                            if (connection != null) {
-                                try {
-                                    // Basically remove entry from both cache maps
-                                    pluginExecutor.datasourceDestroy(connection);
-                                } catch (Exception e) {
-                                    log.info(
-                                            Thread.currentThread().getName()
-                                                    + ": Error destroying stale datasource connection",
-                                            e);
-                                }
-                            }
-                            datasourceContextMonoMap.remove(datasourceContextIdentifier);
-                            datasourceContextMap.remove(datasourceContextIdentifier);
-                        }
+        if (!datasourceContextIdentifier.isKeyValid() || !shouldCacheContextForThisPlugin(plugin)) {
+            // Such contexts are never cached, hence a fresh one is created for every request
+            DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
+            datasourceContext.setPluginId(plugin.getId());
+            return createDatasourceContextMono(datasourceStorage, pluginExecutor, datasourceContext);
+        }
 
+        return Mono.defer(() -> {
+            AtomicBoolean isCreated = new AtomicBoolean(false);
+            AtomicReference<DatasourceContext<?>> replacedContextReference = new AtomicReference<>();
+            AtomicReference<Mono<DatasourceContext<Object>>> replacedMonoReference = new AtomicReference<>();
+
+            Mono<DatasourceContext<Object>> datasourceContextMono =
+                    datasourceContextMonoMap.compute(datasourceContextIdentifier, (identifier, cachedMono) -> {
                         /*
-                         * If a publisher with cached value already exists then return it. Please note that even if this publisher is
-                         * evaluated multiple times the actual datasource creation will only happen once and get cached and the same
-                         * value would directly be returned to further evaluations / subscriptions.
+                         * If a publisher with cached value already exists then return it. Please note that even if this
+                         * publisher is evaluated multiple times the actual datasource creation will only happen once and
+                         * get cached and the same value would directly be returned to further evaluations / subscriptions.
                          */
-                        if (datasourceContextIdentifier.getDatasourceId() != null
-                                && datasourceContextMonoMap.get(datasourceContextIdentifier) != null) {
+                        if (cachedMono != null
+                                && !getIsStale(datasourceStorage, identifier)
+                                && !isInErrorState(cachedMono)) {
                             log.debug(
                                     Thread.currentThread().getName()
                                             + ": Cached resource context mono exists for datasource id {}, environment id {}. Returning the same.",
-                                    datasourceContextIdentifier.getDatasourceId(),
-                                    datasourceContextIdentifier.getEnvironmentId());
-                            return datasourceContextMonoMap.get(datasourceContextIdentifier);
+                                    identifier.getDatasourceId(),
+                                    identifier.getEnvironmentId());
+                            return cachedMono;
                         }
 
-                        /* Create a fresh datasource context */
+                        /* For this datasource, either the context doesn't exist, or the context is stale or in error
+                        state. Replace (or add) with the new context in both the context maps. */
                         DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
-                        if (datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin)) {
-                            /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add) with
-                            the new connection in the context map. */
-                            datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
-                        }
+                        datasourceContext.setPluginId(plugin.getId());
+                        replacedContextReference.set(datasourceContextMap.put(identifier, datasourceContext));
+                        replacedMonoReference.set(cachedMono);
+                        isCreated.set(true);
 
-                        Mono<Object> connectionMonoCache = pluginExecutor
-                                .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
-                                .cache();
-
-                        Mono<DatasourceContext<Object>> datasourceContextMonoCache = connectionMonoCache
-                                .flatMap(connection ->
-                                        updateDatasourceAndSetAuthentication(connection, datasourceStorage))
-                                .map(connection -> {
-                                    /* When a connection object exists and makes sense for the plugin, we put it in the
-                                    context. Example, DB plugins. */
-                                    datasourceContext.setConnection(connection);
-                                    return datasourceContext;
-                                })
-                                .defaultIfEmpty(
-                                        /* When a connection object doesn't make sense for the plugin, we get an empty mono
-                                        and we just return the context object as is. */
-                                        datasourceContext)
-                                .cache(); /* Cache the value so that further evaluations don't result in new connections */
-
-                        if (datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin)) {
-                            datasourceContextMonoMap.put(datasourceContextIdentifier, datasourceContextMonoCache);
-                        }
                         log.debug(
                                 Thread.currentThread().getName()
                                         + ": Cached new datasource context for datasource id {}, environment id {}",
-                                datasourceContextIdentifier.getDatasourceId(),
-                                datasourceContextIdentifier.getEnvironmentId());
-                        return datasourceContextMonoCache;
-                    }
+                                identifier.getDatasourceId(),
+                                identifier.getEnvironmentId());
+                        return createDatasourceContextMono(datasourceStorage, pluginExecutor, datasourceContext);
+                    });
+
+            if (isCreated.get()) {
+                /* Destroy any connection that is stale or in error state to free up resource */
+                destroyReplacedDatasourceContext(
+                        replacedContextReference.get(), replacedMonoReference.get(), pluginExecutor);
+
+                if (evictedDatasourceContextIdentifiers.remove(datasourceContextIdentifier)) {
+                    recreationCounter.increment();
+                }
+                if (datasourceContextMap.size() > datasourceContextConfig.getMaxContexts()) {
+                    // Release the least recently used connections, without holding up this request
+                    evictLeastRecentlyUsedDatasourceContexts()
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .subscribe(
+                                    null,
+                                    error -> log.error(
+                                            "Error evicting the least recently used datasource contexts", error));
+                }
+            }
+
+            return datasourceContextMono;
+        });
+    }
+
+    /**
+     * Assembles the publisher that creates the connection for the given context. The connection is created on a
+     * bounded elastic thread upon first subscription, since plugins may block while connecting, and the value is
+     * cached so that further evaluations don't result in new connections.
+     */
+    private Mono<DatasourceContext<Object>> createDatasourceContextMono(
+            DatasourceStorage datasourceStorage,
+            PluginExecutor<Object> pluginExecutor,
+            DatasourceContext<Object> datasourceContext) {
+
+        return Mono.defer(() -> pluginExecutor.datasourceCreate(datasourceStorage.getDatasourceConfiguration()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(connection -> updateDatasourceAndSetAuthentication(connection, datasourceStorage))
+                .map(connection -> {
+                    /* When a connection object exists and makes sense for the plugin, we put it in the
+                    context. Example, DB plugins. */
+                    datasourceContext.setConnection(connection);
+                    return datasourceContext;
                 })
-                .flatMap(obj -> obj)
-                .subscribeOn(Schedulers.boundedElastic());
+                .defaultIfEmpty(
+                        /* When a connection object doesn't make sense for the plugin, we get an empty mono
+                        and we just return the context object as is. */
+                        datasourceContext)
+                .cache();
+    }
+
+    /**
+     * Destroys the connection of a context that has been replaced in the cache. In case the replaced context is
+     * still connecting, its connection is destroyed once it has been created.
+     */
+    private void destroyReplacedDatasourceContext(
+            DatasourceContext<?> replacedContext,
+            Mono<DatasourceContext<Object>> replacedMono,
+            PluginExecutor<Object> pluginExecutor) {
+
+        Mono<Object> connectionMono;
+        if (replacedMono != null) {
+            connectionMono =
+                    replacedMono.onErrorResume(error -> Mono.empty()).mapNotNull(DatasourceContext::getConnection);
+        } else if (replacedContext != null) {
+            connectionMono = Mono.justOrEmpty(replacedContext.getConnection());
+        } else {
+            return;
+        }
+
+        connectionMono
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(pluginExecutor::datasourceDestroy)
+                .subscribe(
+                        null,
+                        error -> log.info(
+                                Thread.currentThread().getName() + ": Error destroying stale datasource connection",
+                                error));
     }
 
     /**
@@ -212,49 +288,9 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                     Plugin plugin = tuple2.getT1();
                     PluginExecutor<Object> pluginExecutor = tuple2.getT2();
 
-                    return getDatasourceContextMono(
-                            datasourceStorage, datasourceContextIdentifier, plugin, pluginExecutor);
-                });
-    }
-
-    private Mono<DatasourceContext<Object>> getDatasourceContextMono(
-            DatasourceStorage datasourceStorage,
-            DatasourceContextIdentifier datasourceContextIdentifier,
-            Plugin plugin,
-            PluginExecutor<Object> pluginExecutor) {
-
-        return Mono.fromCallable(() -> {
-
-                    /**
-                     * Keep one monitor object against each datasource id. The synchronized method
-                     * `getCachedDatasourceContextMono` would then acquire lock on the monitor object which is unique
-                     * for each datasourceId hence ensuring that if competing threads want to create datasource context
-                     * on different datasource id then they are not blocked on each other and can run concurrently.
-                     * Only threads that want to create a new datasource context on the same datasource id would be
-                     * synchronized.
-                     */
-                    Object monitor = new Object();
-                    if (datasourceContextIdentifier.isKeyValid()) {
-                        if (datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier) == null) {
-                            synchronized (this) {
-                                log.debug(
-                                        Thread.currentThread().getName()
-                                                + ": Creating monitor for datasource id {}, environment id {}",
-                                        datasourceContextIdentifier.getDatasourceId(),
-                                        datasourceContextIdentifier.getEnvironmentId());
-                                datasourceContextSynchronizationMonitorMap.computeIfAbsent(
-                                        datasourceContextIdentifier, k -> new Object());
-                            }
-                        }
-
-                        monitor = datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier);
-                    }
-
                     return getCachedDatasourceContextMono(
-                            datasourceStorage, plugin, pluginExecutor, monitor, datasourceContextIdentifier);
-                })
-                .flatMap(obj -> obj)
-                .subscribeOn(Schedulers.boundedElastic());
+                            datasourceStorage, plugin, pluginExecutor, datasourceContextIdentifier);
+                });
     }
 
     public boolean getIsStale(
@@ -277,11 +313,13 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
      * @return boolean
      */
     private boolean getIsInErrorState(DatasourceContextIdentifier datasourceContextIdentifier) {
-        return datasourceContextMonoMap.get(datasourceContextIdentifier) != null
-                && datasourceContextMonoMap
-                        .get(datasourceContextIdentifier)
-                        .toFuture()
-                        .isCompletedExceptionally();
+        Mono<DatasourceContext<Object>> datasourceContextMono =
+                datasourceContextMonoMap.get(datasourceContextIdentifier);
+        return datasourceContextMono != null && isInErrorState(datasourceContextMono);
+    }
+
+    private boolean isInErrorState(Mono<DatasourceContext<Object>> datasourceContextMono) {
+        return datasourceContextMono.toFuture().isCompletedExceptionally();
     }
 
     public boolean isValidDatasourceContextAvailable(
@@ -308,7 +346,9 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         } else {
             if (isValidDatasourceContextAvailable(datasourceStorage, datasourceContextIdentifier)) {
                 log.debug("Resource context exists. Returning the same.");
-                return Mono.just(datasourceContextMap.get(datasourceContextIdentifier));
+                DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
+                datasourceContext.setLastAccessTime(Instant.now());
+                return Mono.just(datasourceContext);
             }
         }
 
@@ -333,6 +373,8 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                         return Mono.error(TOO_MANY_REQUESTS_EXCEPTION);
                     } else {
                         return createNewDatasourceContext(datasourceStorage, datasourceContextIdentifier)
+                                // The context may have been created a while ago by a concurrent request
+                                .doOnNext(datasourceContext -> datasourceContext.setLastAccessTime(Instant.now()))
                                 .onErrorResume(AppsmithPluginException.class, error -> {
                                     return datasourceService
                                             .consumeTokenIfAvailable(datasourceStorage)
@@ -365,8 +407,16 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
 
         final Mono<T> taskRunnerMono = Mono.justOrEmpty(datasourceStorage)
                 .flatMap(this::getDatasourceContext)
-                // Now that we have the context (connection details), call the task.
-                .flatMap(task);
+                // Now that we have the context (connection details), call the task. The context is in use, and can't
+                // be evicted, until the task is done, which for a long query may be well after it was acquired.
+                .flatMap(datasourceContext -> Mono.defer(() -> {
+                            datasourceContext.getInFlightTaskCount().incrementAndGet();
+                            return task.apply(datasourceContext);
+                        })
+                        .doFinally(signalType -> {
+                            datasourceContext.getInFlightTaskCount().decrementAndGet();
+                            datasourceContext.setLastAccessTime(Instant.now());
+                        }));
 
         return taskRunnerMono.onErrorResume(StaleConnectionException.class, error -> {
             log.info("Looks like the connection is stale. Retrying with a fresh context.");
@@ -411,6 +461,112 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                 });
     }
 
+    /**
+     * Destroys the datasource contexts that have not been used for longer than the idle timeout, followed by the least
+     * recently used ones in case more contexts than the configured maximum are still alive on this node. Contexts
+     * without a connection, or with a task using their connection, are skipped.
+     *
+     * @return Mono that completes once the evicted contexts have been removed and their connections destroyed
+     */
+    @Override
+    public Mono<Void> evictIdleDatasourceContexts() {
+        Instant idleSince = Instant.now().minus(Duration.ofMinutes(datasourceContextConfig.getIdleTimeoutMinutes()));
+
+        Flux<Boolean> idleEvictions = Flux.fromIterable(datasourceContextMap.entrySet())
+                .filter(entry -> isEvictable(entry.getValue())
+                        && entry.getValue().getLastAccessTime().isBefore(idleSince))
+                .flatMap(entry -> evictDatasourceContext(entry.getKey(), entry.getValue()))
+                .doOnNext(isEvicted -> {
+                    if (isEvicted) {
+                        idleEvictionCounter.increment();
+                    }
+                });
+
+        return idleEvictions.then(evictLeastRecentlyUsedDatasourceContexts());
+    }
+
+    /**
+     * Destroys the least recently used datasource contexts until no more than the configured maximum number of
+     * contexts are alive. Contexts without a connection, or with a task using their connection, are skipped.
+     */
+    protected Mono<Void> evictLeastRecentlyUsedDatasourceContexts() {
+        int excessCount = datasourceContextMap.size() - datasourceContextConfig.getMaxContexts();
+        if (excessCount <= 0) {
+            return Mono.empty();
+        }
+
+        List<Map.Entry<DatasourceContextIdentifier, DatasourceContext<?>>> leastRecentlyUsedEntries =
+                new ArrayList<>(datasourceContextMap.entrySet());
+        leastRecentlyUsedEntries.removeIf(entry -> !isEvictable(entry.getValue()));
+        leastRecentlyUsedEntries.sort(
+                Comparator.comparing(entry -> entry.getValue().getLastAccessTime()));
+
+        log.debug("Evicting {} least recently used datasource contexts", excessCount);
+        return Flux.fromIterable(leastRecentlyUsedEntries)
+                .take(excessCount)
+                .flatMap(entry -> evictDatasourceContext(entry.getKey(), entry.getValue()))
+                .doOnNext(isEvicted -> {
+                    if (isEvicted) {
+                        capacityEvictionCounter.increment();
+                    }
+                })
+                .then();
+    }
+
+    /**
+     * A context can't be evicted while its connection may still be getting created, in which case destroying the
+     * context would leak that connection, nor while a task is using its connection.
+     */
+    private static boolean isEvictable(DatasourceContext<?> datasourceContext) {
+        return datasourceContext.getConnection() != null
+                && datasourceContext.getInFlightTaskCount().get() == 0;
+    }
+
+    /**
+     * Removes the context from the cache maps, unless it has been replaced in the meantime, and destroys its
+     * connection.
+     *
+     * @return true if this context was still cached and has been evicted
+     */
+    private Mono<Boolean> evictDatasourceContext(
+            DatasourceContextIdentifier datasourceContextIdentifier, DatasourceContext<?> datasourceContext) {
+
+        // Removal from both the context maps is atomic with respect to the creation of a new context for this id
+        AtomicBoolean isRemoved = new AtomicBoolean(false);
+        datasourceContextMonoMap.compute(datasourceContextIdentifier, (identifier, cachedMono) -> {
+            if (!datasourceContextMap.remove(identifier, datasourceContext)) {
+                return cachedMono;
+            }
+            isRemoved.set(true);
+            return null;
+        });
+        if (!isRemoved.get()) {
+            return Mono.just(false);
+        }
+        evictedDatasourceContextIdentifiers.add(datasourceContextIdentifier);
+
+        Object connection = datasourceContext.getConnection();
+        if (connection == null || datasourceContext.getPluginId() == null) {
+            return Mono.just(true);
+        }
+
+        log.debug(
+                "Evicting datasource context for datasource id {}, environment id {}",
+                datasourceContextIdentifier.getDatasourceId(),
+                datasourceContextIdentifier.getEnvironmentId());
+        return pluginExecutorHelper
+                .getPluginExecutor(pluginService.findById(datasourceContext.getPluginId()))
+                .map(pluginExecutor -> {
+                    pluginExecutor.datasourceDestroy(connection);
+                    return true;
+                })
+                .onErrorResume(error -> {
+                    log.error("Error destroying evicted datasource connection", error);
+                    return Mono.just(true);
+                })
+                .defaultIfEmpty(true);
+    }
+
     /**
      * Provides datasource context for execution
      *
@@ -448,7 +604,6 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
      * Generates the custom key that is used in:
      * datasourceContextMap
      * datasourceContextMonoMap
-     * datasourceContextSynchronizationMonitorMap
      *
      * @param datasourceStorage
      * @return an DatasourceContextIdentifier object
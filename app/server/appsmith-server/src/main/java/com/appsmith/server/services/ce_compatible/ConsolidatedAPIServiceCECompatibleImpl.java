@@ -3,10 +3,12 @@ package com.appsmith.server.services.ce_compatible;
 import com.appsmith.server.actioncollections.base.ActionCollectionService;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.datasources.base.DatasourceService;
+import com.appsmith.server.helpers.ViewModeSnapshotCache;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.repositories.PermissionGroupRepository;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.MockDataService;
 import com.appsmith.server.services.ProductAlertService;
@@ -36,6 +38,8 @@ public class ConsolidatedAPIServiceCECompatibleImpl extends ConsolidatedAPIServi
             PluginService pluginService,
             DatasourceService datasourceService,
             MockDataService mockDataService,
+            PermissionGroupRepository permissionGroupRepository,
+            ViewModeSnapshotCache viewModeSnapshotCache,
             ObservationRegistry observationRegistry) {
         super(
                 sessionUserService,
@@ -53,6 +57,8 @@ public class ConsolidatedAPIServiceCECompatibleImpl extends ConsolidatedAPIServi
                 pluginService,
                 datasourceService,
                 mockDataService,
+                permissionGroupRepository,
+                viewModeSnapshotCache,
                 observationRegistry);
     }
 }
@@ -1,11 +1,15 @@
 package com.appsmith.server.solutions;
 
+import com.appsmith.server.services.DatasourceContextService;
 import com.appsmith.server.services.FeatureFlagService;
 import com.appsmith.server.services.TenantService;
 import com.appsmith.server.solutions.ce.ScheduledTaskCEImpl;
 
 public class ScheduledTaskImpl extends ScheduledTaskCEImpl implements ScheduledTask {
-    public ScheduledTaskImpl(FeatureFlagService featureFlagService, TenantService tenantService) {
-        super(featureFlagService, tenantService);
+    public ScheduledTaskImpl(
+            FeatureFlagService featureFlagService,
+            TenantService tenantService,
+            DatasourceContextService datasourceContextService) {
+        super(featureFlagService, tenantService, datasourceContextService);
     }
 }
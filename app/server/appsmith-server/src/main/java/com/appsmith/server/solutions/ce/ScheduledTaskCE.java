@@ -2,4 +2,6 @@ package com.appsmith.server.solutions.ce;
 
 public interface ScheduledTaskCE {
     void fetchFeatures();
+
+    void evictIdleDatasourceContexts();
 }
@@ -1,6 +1,7 @@
 package com.appsmith.server.solutions.ce;
 
 import com.appsmith.server.helpers.LoadShifter;
+import com.appsmith.server.services.DatasourceContextService;
 import com.appsmith.server.services.FeatureFlagService;
 import com.appsmith.server.services.TenantService;
 import io.micrometer.observation.annotation.Observed;
@@ -18,6 +19,8 @@ public class ScheduledTaskCEImpl implements ScheduledTaskCE {
 
     private final TenantService tenantService;
 
+    private final DatasourceContextService datasourceContextService;
+
     @Scheduled(initialDelay = 10 * 1000 /* ten seconds */, fixedRate = 30 * 60 * 1000 /* thirty minutes */)
     @Observed(name = "fetchFeatures")
     public void fetchFeatures() {
@@ -32,4 +35,13 @@ public class ScheduledTaskCEImpl implements ScheduledTaskCE {
                 .subscribeOn(LoadShifter.elasticScheduler)
                 .subscribe();
     }
+
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedRate = 60 * 1000 /* one minute */)
+    public void evictIdleDatasourceContexts() {
+        datasourceContextService
+                .evictIdleDatasourceContexts()
+                .doOnError(error -> log.error("Error while evicting idle datasource contexts", error))
+                .subscribeOn(LoadShifter.elasticScheduler)
+                .subscribe();
+    }
 }
@@ -0,0 +1,119 @@
+package com.appsmith.server.converters;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.dtos.ApplicationJson;
+import com.appsmith.server.dtos.ArtifactExchangeJson;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.util.SerializationUtils;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ArtifactExchangeJsonAdapterTest {
+
+    private Gson gson;
+
+    private ArtifactExchangeJsonAdapter artifactExchangeJsonAdapter;
+
+    @BeforeEach
+    public void setUp() {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        SerializationUtils.typeAdapterRegistration().customize(gsonBuilder);
+        gson = gsonBuilder.create();
+        artifactExchangeJsonAdapter = new ArtifactExchangeJsonAdapter(gson);
+    }
+
+    private static ApplicationJson createApplicationJson(int pageCount, int actionCount) {
+        ApplicationJson applicationJson = new ApplicationJson();
+        applicationJson.setServerSchemaVersion(7);
+        applicationJson.setClientSchemaVersion(1);
+        Application application = new Application();
+        application.setName("app");
+        applicationJson.setExportedApplication(application);
+
+        List<NewPage> pages = new ArrayList<>();
+        for (int i = 0; i < pageCount; i++) {
+            PageDTO page = new PageDTO();
+            page.setName("Page" + i);
+            NewPage newPage = new NewPage();
+            newPage.setUnpublishedPage(page);
+            pages.add(newPage);
+        }
+        applicationJson.setPageList(pages);
+
+        List<NewAction> actions = new ArrayList<>();
+        for (int i = 0; i < actionCount; i++) {
+            ActionConfiguration actionConfiguration = new ActionConfiguration();
+            actionConfiguration.setBody("SELECT * FROM users WHERE id = " + i + " LIMIT 10;");
+            ActionDTO action = new ActionDTO();
+            action.setName("Query" + i);
+            action.setPageId("Page" + (i % Math.max(pageCount, 1)));
+            action.setActionConfiguration(actionConfiguration);
+            NewAction newAction = new NewAction();
+            newAction.setUnpublishedAction(action);
+            actions.add(newAction);
+        }
+        applicationJson.setActionList(actions);
+        return applicationJson;
+    }
+
+    private ArtifactExchangeJson deserializeTree(String json) {
+        return new GsonBuilder()
+                .registerTypeAdapter(ArtifactExchangeJson.class, artifactExchangeJsonAdapter)
+                .create()
+                .fromJson(json, ArtifactExchangeJson.class);
+    }
+
+    @Test
+    public void deserialize_WhenReadFromReader_SameAsTree() {
+        String json = gson.toJson(createApplicationJson(3, 10));
+
+        ArtifactExchangeJson artifactExchangeJson =
+                artifactExchangeJsonAdapter.deserialize(() -> new StringReader(json));
+
+        assertThat(artifactExchangeJson).isInstanceOf(ApplicationJson.class);
+        assertThat(gson.toJson(artifactExchangeJson)).isEqualTo(gson.toJson(deserializeTree(json)));
+    }
+
+    @Test
+    public void deserialize_WhenArtifactJsonTypeIsNotFirstOrMissing_ParsesApplicationJson() {
+        JsonObject jsonObject = gson.toJsonTree(createApplicationJson(1, 1)).getAsJsonObject();
+        jsonObject.add("artifactJsonType", jsonObject.remove("artifactJsonType"));
+        String json = jsonObject.toString();
+
+        ArtifactExchangeJson artifactExchangeJson =
+                artifactExchangeJsonAdapter.deserialize(() -> new StringReader(json));
+        assertThat(artifactExchangeJson).isInstanceOf(ApplicationJson.class);
+        assertThat(((ApplicationJson) artifactExchangeJson).getActionList()).hasSize(1);
+
+        jsonObject.remove("artifactJsonType");
+        String jsonWithoutType = jsonObject.toString();
+        artifactExchangeJson = artifactExchangeJsonAdapter.deserialize(() -> new StringReader(jsonWithoutType));
+        assertThat(artifactExchangeJson).isInstanceOf(ApplicationJson.class);
+        assertThat(JsonParser.parseString(gson.toJson(artifactExchangeJson))
+                        .getAsJsonObject()
+                        .get("pageList"))
+                .isEqualTo(jsonObject.get("pageList"));
+    }
+
+    @Test
+    public void deserialize_WhenInvalidJson_ThrowsJsonSyntaxException() {
+        assertThatThrownBy(() -> artifactExchangeJsonAdapter.deserialize(() -> new StringReader("{\"pageList\": [")))
+                .isInstanceOf(JsonSyntaxException.class);
+    }
+}
@@ -258,6 +258,10 @@ public class CommonGitServiceCETest {
 
         Mockito.when(pluginExecutorHelper.getPluginExecutor(any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
+        // Statuses are not cached for branches without commits
+        Mockito.when(commonGitFileUtils.getArtifactContentHash(any())).thenReturn("");
+        Mockito.when(gitExecutor.getBranchCommitId(any(), any())).thenReturn(Mono.just(""));
+
         testUserProfile.setAuthorEmail("test@email.com");
         testUserProfile.setAuthorName("testUser");
 
@@ -1919,6 +1923,80 @@ public class CommonGitServiceCETest {
                 .verify();
     }
 
+    private void mockStatusOfLocalRepo(GitStatusDTO gitStatusDTO) throws IOException, GitAPIException {
+        BranchTrackingStatus branchTrackingStatus = Mockito.mock(BranchTrackingStatus.class);
+        Mockito.when(branchTrackingStatus.getAheadCount()).thenReturn(1);
+        Mockito.when(branchTrackingStatus.getBehindCount()).thenReturn(2);
+
+        Mockito.when(commonGitFileUtils.saveArtifactToLocalRepo(any(Path.class), any(), Mockito.anyString()))
+                .thenReturn(Mono.just(Paths.get("path")));
+        Mockito.when(gitExecutor.getStatus(any(Path.class), Mockito.anyString()))
+                .thenReturn(Mono.just(gitStatusDTO));
+        Mockito.when(gitExecutor.resetToLastCommit(any(Path.class), Mockito.anyString()))
+                .thenReturn(Mono.just(true));
+        Mockito.when(gitExecutor.getBranchTrackingStatus(any(), Mockito.anyString()))
+                .thenReturn(Mono.just(branchTrackingStatus));
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getStatus_contentAndCommitUnchanged_cachedStatusWithCurrentTrackingStatus()
+            throws IOException, GitAPIException {
+        GitStatusDTO gitStatusDTO = new GitStatusDTO();
+        gitStatusDTO.setIsClean(false);
+        gitStatusDTO.setPagesModified(Set.of("Page1"));
+        gitStatusDTO.setAheadCount(0);
+        gitStatusDTO.setBehindCount(0);
+        mockStatusOfLocalRepo(gitStatusDTO);
+        Mockito.when(commonGitFileUtils.getArtifactContentHash(any())).thenReturn("contentHash");
+        Mockito.when(gitExecutor.getBranchCommitId(any(), any())).thenReturn(Mono.just("commitId"));
+
+        Mono<GitStatusDTO> statusMono = commonGitServiceCE.getStatus(
+                gitConnectedApplication.getId(), false, DEFAULT_BRANCH, ArtifactType.APPLICATION);
+
+        StepVerifier.create(statusMono.then(statusMono))
+                .assertNext(status -> {
+                    assertThat(status.getIsClean()).isFalse();
+                    assertThat(status.getPagesModified()).containsExactly("Page1");
+                    assertThat(status.getAheadCount()).isEqualTo(1);
+                    assertThat(status.getBehindCount()).isEqualTo(2);
+                })
+                .verifyComplete();
+
+        verify(gitExecutor, times(1)).getStatus(any(Path.class), Mockito.anyString());
+        verify(gitExecutor, times(1)).resetToLastCommit(any(Path.class), Mockito.anyString());
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getStatus_contentOrCommitChanged_statusComputedAgain() throws IOException, GitAPIException {
+        GitStatusDTO gitStatusDTO = new GitStatusDTO();
+        gitStatusDTO.setIsClean(true);
+        mockStatusOfLocalRepo(gitStatusDTO);
+        Mockito.when(commonGitFileUtils.getArtifactContentHash(any())).thenReturn("contentHash");
+        Mockito.when(gitExecutor.getBranchCommitId(any(), any())).thenReturn(Mono.just("commitId"));
+
+        Mono<GitStatusDTO> statusMono = commonGitServiceCE.getStatus(
+                gitConnectedApplication.getId(), false, DEFAULT_BRANCH, ArtifactType.APPLICATION);
+
+        StepVerifier.create(statusMono).expectNextCount(1).verifyComplete();
+        verify(gitExecutor, times(1)).getStatus(any(Path.class), Mockito.anyString());
+
+        // A new commit on the branch
+        Mockito.when(gitExecutor.getBranchCommitId(any(), any())).thenReturn(Mono.just("newCommitId"));
+        StepVerifier.create(statusMono).expectNextCount(1).verifyComplete();
+        verify(gitExecutor, times(2)).getStatus(any(Path.class), Mockito.anyString());
+
+        // A change to the application since the last status
+        Mockito.when(commonGitFileUtils.getArtifactContentHash(any())).thenReturn("newContentHash");
+        StepVerifier.create(statusMono).expectNextCount(1).verifyComplete();
+        verify(gitExecutor, times(3)).getStatus(any(Path.class), Mockito.anyString());
+
+        // Nothing changed since the last status
+        StepVerifier.create(statusMono).expectNextCount(1).verifyComplete();
+        verify(gitExecutor, times(3)).getStatus(any(Path.class), Mockito.anyString());
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void checkoutRemoteBranch_notPresentInLocal_newApplicationCreated() throws GitAPIException, IOException {
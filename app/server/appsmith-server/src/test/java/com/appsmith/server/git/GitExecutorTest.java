@@ -678,6 +678,23 @@ public class GitExecutorTest {
     }
 
     // TODO cover the below mentioned test cases
+    @Test
+    public void getBranchCommitId_beforeAndAfterCommit_returnsLastCommitId() throws IOException {
+        String branchName = git.getRepository().getBranch();
+
+        StepVerifier.create(gitExecutor.getBranchCommitId(path, branchName))
+                .expectNext("")
+                .verifyComplete();
+
+        createFileInThePath("getBranchCommitId");
+        commitToRepo();
+
+        String commitId = git.getRepository().resolve(branchName).getName();
+        StepVerifier.create(gitExecutor.getBranchCommitId(path, branchName))
+                .expectNext(commitId)
+                .verifyComplete();
+    }
+
     /*
      * resetToLastCommit
      * Clone
@@ -0,0 +1,124 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.server.converters.ArtifactExchangeJsonAdapter;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.dtos.ApplicationJson;
+import com.appsmith.server.dtos.ArtifactExchangeJson;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.util.SerializationUtils;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken to deserialize the JSON of a large imported application, by reading it straight from a
+ * reader with the {@link ArtifactExchangeJsonAdapter}, and by building a tree of JSON elements out of the whole file
+ * first, as the adapter did before.
+ * <p>
+ * The application has 100 pages and 50k queries spread over them. Add {@code -prof gc} to the JMH options to compare
+ * the memory allocated by each approach as well.
+ * <p>
+ * Run with {@code java -cp <test classpath> com.appsmith.server.helpers.ArtifactExchangeJsonAdapterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArtifactExchangeJsonAdapterBenchmark {
+
+    private static final int PAGE_COUNT = 100;
+
+    private static final int ACTION_COUNT = 50_000;
+
+    private ArtifactExchangeJsonAdapter artifactExchangeJsonAdapter;
+
+    private Gson treeGson;
+
+    private String json;
+
+    private static ApplicationJson createApplicationJson() {
+        ApplicationJson applicationJson = new ApplicationJson();
+        applicationJson.setServerSchemaVersion(7);
+        applicationJson.setClientSchemaVersion(1);
+        Application application = new Application();
+        application.setName("app");
+        applicationJson.setExportedApplication(application);
+
+        List<NewPage> pages = new ArrayList<>();
+        for (int i = 0; i < PAGE_COUNT; i++) {
+            PageDTO page = new PageDTO();
+            page.setName("Page" + i);
+            NewPage newPage = new NewPage();
+            newPage.setUnpublishedPage(page);
+            pages.add(newPage);
+        }
+        applicationJson.setPageList(pages);
+
+        List<NewAction> actions = new ArrayList<>();
+        for (int i = 0; i < ACTION_COUNT; i++) {
+            ActionConfiguration actionConfiguration = new ActionConfiguration();
+            actionConfiguration.setBody("SELECT * FROM users WHERE id = " + i + " LIMIT 10;");
+            ActionDTO action = new ActionDTO();
+            action.setName("Query" + i);
+            action.setPageId("Page" + (i % PAGE_COUNT));
+            action.setActionConfiguration(actionConfiguration);
+            NewAction newAction = new NewAction();
+            newAction.setUnpublishedAction(action);
+            actions.add(newAction);
+        }
+        applicationJson.setActionList(actions);
+        return applicationJson;
+    }
+
+    @Setup
+    public void setUp() {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        SerializationUtils.typeAdapterRegistration().customize(gsonBuilder);
+        Gson gson = gsonBuilder.create();
+        artifactExchangeJsonAdapter = new ArtifactExchangeJsonAdapter(gson);
+        treeGson = new GsonBuilder()
+                .registerTypeAdapter(ArtifactExchangeJson.class, artifactExchangeJsonAdapter)
+                .create();
+        json = gson.toJson(createApplicationJson());
+    }
+
+    @Benchmark
+    public ArtifactExchangeJson deserialize_fromReader() {
+        return artifactExchangeJsonAdapter.deserialize(() -> new StringReader(json));
+    }
+
+    @Benchmark
+    public ArtifactExchangeJson deserialize_throughTree() {
+        return treeGson.fromJson(json, ArtifactExchangeJson.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(ArtifactExchangeJsonAdapterBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,130 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.FilterDataService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the UQI filters run on H2, the way the plugins run them for every query with a where
+ * clause, against the number of filters that run at the same time.
+ * <p>
+ * Every invocation runs the same number of filters over 1000 orders, spread over as many threads as the concurrency.
+ * Each filter works on its own pooled connection and temporary table.
+ * <p>
+ * Run with {@code java -cp <test classpath> com.appsmith.server.helpers.FilterDataServiceBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterDataServiceBenchmark {
+
+    private static final int ORDER_COUNT = 1000;
+
+    private static final int FILTER_COUNT = 64;
+
+    private FilterDataService filterDataService;
+
+    @Param({"1", "8", "32"})
+    private int concurrency;
+
+    private ArrayNode orders;
+
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp() {
+        orders = new ObjectMapper().createArrayNode();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orders.addObject()
+                    .put("id", i)
+                    .put("userName", "user" + i)
+                    .put("orderAmount", i % 100)
+                    .put("orderStatus", i % 2 == 0 ? "READY" : "NOT READY");
+        }
+
+        filterDataService = newFilterDataService(false);
+        executorService = Executors.newFixedThreadPool(concurrency);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executorService.shutdown();
+    }
+
+    /**
+     * Creates a filter data service of its own, rather than using the shared instance, so that columnar filtering can
+     * be turned off for the benchmark. The constructor taking that flag is only visible within its package.
+     */
+    static FilterDataService newFilterDataService(boolean columnarFilteringEnabled) {
+        try {
+            Constructor<FilterDataService> constructor = FilterDataService.class.getDeclaredConstructor(boolean.class);
+            constructor.setAccessible(true);
+            return constructor.newInstance(columnarFilteringEnabled);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create a filter data service", e);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILTER_COUNT)
+    public int filterDataNew_concurrentFilters() throws InterruptedException, ExecutionException {
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < FILTER_COUNT; i++) {
+            results.add(executorService.submit(() -> {
+                // Conditions are updated in place while filtering, hence a fresh one for every filter
+                Condition condition = new Condition(
+                        null,
+                        ConditionalOperator.AND,
+                        List.of(new Condition("orderAmount", "LT", "10"), new Condition("orderStatus", "EQ", "READY")),
+                        null);
+                return filterDataService
+                        .filterDataNew(orders, new UQIDataFilterParams(condition, null, null, null))
+                        .size();
+            }));
+        }
+
+        int rowCount = 0;
+        for (Future<Integer> result : results) {
+            rowCount += result.get();
+        }
+        return rowCount;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(FilterDataServiceBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
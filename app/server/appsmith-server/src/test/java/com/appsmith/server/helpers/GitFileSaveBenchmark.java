@@ -0,0 +1,155 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.dtos.ModifiedResources;
+import com.appsmith.external.git.GitExecutor;
+import com.appsmith.external.git.operations.FileOperations;
+import com.appsmith.external.helpers.ObservationHelper;
+import com.appsmith.external.models.ApplicationGitReference;
+import com.appsmith.git.configurations.GitServiceConfig;
+import com.appsmith.git.files.FileUtilsImpl;
+import com.appsmith.git.files.operations.FileOperationsImpl;
+import com.appsmith.git.helpers.GitRepositoryCache;
+import com.google.gson.GsonBuilder;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.FileSystemUtils;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken to save an application to its local git repository, against the number of pages in the
+ * application, the way an application is saved before every git status and commit.
+ * <p>
+ * The unchanged application benchmark saves the same application over and over, so none of its files are rewritten.
+ * The changed page benchmark changes a widget on one of the pages before each save, so only that page's widget is
+ * rewritten, while the pages are still all compared with the files on the disk.
+ * <p>
+ * Run with {@code java -cp <test classpath> com.appsmith.server.helpers.GitFileSaveBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GitFileSaveBenchmark {
+
+    private static final int WIDGETS_PER_PAGE = 50;
+
+    @Param({"10", "50", "200"})
+    private int pageCount;
+
+    private Path gitRootPath;
+
+    private FileUtilsImpl fileUtils;
+
+    private ApplicationGitReference applicationGitReference;
+
+    private int saveCount = 0;
+
+    private static String createPageDsl(int pageIndex, int version) {
+        JSONArray children = new JSONArray();
+        for (int i = 0; i < WIDGETS_PER_PAGE; i++) {
+            children.put(new JSONObject()
+                    .put("widgetName", "Text" + pageIndex + "_" + i)
+                    .put("type", "TEXT_WIDGET")
+                    .put("text", "{{Query" + i + ".data.length}} rows, version " + (i == 0 ? version : 0)));
+        }
+        return new JSONObject()
+                .put("widgetName", "MainContainer")
+                .put("type", "CANVAS_WIDGET")
+                .put("children", children)
+                .toString();
+    }
+
+    @Setup
+    public void setUp() throws IOException, GitAPIException {
+        gitRootPath = Files.createTempDirectory("gitFileSaveBenchmark");
+        GitServiceConfig gitServiceConfig = new GitServiceConfig();
+        gitServiceConfig.setGitRootPath(gitRootPath.toString());
+        GitExecutor gitExecutor = Mockito.mock(GitExecutor.class);
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+        FileOperations fileOperations =
+                new FileOperationsImpl(gitServiceConfig, gitExecutor, new GsonBuilder(), null, ObservationHelper.NOOP);
+        fileUtils = new FileUtilsImpl(
+                gitServiceConfig, gitExecutor, fileOperations, ObservationHelper.NOOP, new GitRepositoryCache());
+
+        applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(Map.of("name", "Application"));
+        applicationGitReference.setTheme(Map.of("name", "Default"));
+        applicationGitReference.setMetadata(Map.of("fileFormatVersion", 5));
+        applicationGitReference.setActions(new HashMap<>());
+        applicationGitReference.setActionCollections(new HashMap<>());
+        applicationGitReference.setDatasources(new HashMap<>());
+        applicationGitReference.setJsLibraries(new HashMap<>());
+        Map<String, Object> pages = new HashMap<>();
+        Map<String, String> pageDsl = new HashMap<>();
+        for (int i = 0; i < pageCount; i++) {
+            pages.put("Page" + i, Map.of("name", "Page" + i));
+            pageDsl.put("Page" + i, createPageDsl(i, 0));
+        }
+        applicationGitReference.setPages(pages);
+        applicationGitReference.setPageDsl(pageDsl);
+        ModifiedResources modifiedResources = new ModifiedResources();
+        modifiedResources.setAllModified(true);
+        applicationGitReference.setModifiedResources(modifiedResources);
+
+        save();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(gitRootPath);
+    }
+
+    private Path save() throws IOException, GitAPIException {
+        return fileUtils
+                .saveApplicationToGitRepo(Path.of("workspace", "application", "repo"), applicationGitReference, "main")
+                .block();
+    }
+
+    @Benchmark
+    public Path saveApplication_unchanged() throws IOException, GitAPIException {
+        return save();
+    }
+
+    @Benchmark
+    public Path saveApplication_changedPage() throws IOException, GitAPIException {
+        saveCount++;
+        int pageIndex = saveCount % pageCount;
+        applicationGitReference.getPageDsl().put("Page" + pageIndex, createPageDsl(pageIndex, saveCount));
+        return save();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(GitFileSaveBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -1,8 +1,10 @@
 package com.appsmith.server.helpers;
 
+import com.appsmith.external.dtos.ModifiedResources;
 import com.appsmith.external.git.FileInterface;
 import com.appsmith.external.models.ApplicationGitReference;
 import com.appsmith.server.constants.ArtifactType;
+import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
@@ -211,6 +213,29 @@ public class GitFileUtilsTest {
                 .verifyComplete();
     }
 
+    @SneakyThrows
+    @Test
+    public void getArtifactContentHash_contentOrModifiedResourcesChanged_hashChanged() {
+        ApplicationJson applicationJson = createAppJson(filePath).block();
+        applicationJson.setModifiedResources(new ModifiedResources());
+        String hash = commonGitFileUtils.getArtifactContentHash(applicationJson);
+
+        assertThat(commonGitFileUtils.getArtifactContentHash(createAppJson(filePath)
+                        .doOnNext(sameApplicationJson ->
+                                sameApplicationJson.setModifiedResources(new ModifiedResources()))
+                        .block()))
+                .isEqualTo(hash);
+
+        applicationJson.getModifiedResources().putResource(FieldName.PAGE_LIST, "Page1");
+        String modifiedResourcesHash = commonGitFileUtils.getArtifactContentHash(applicationJson);
+        assertThat(modifiedResourcesHash).isNotEqualTo(hash);
+
+        applicationJson.getPageList().get(0).getUnpublishedPage().setName("renamedPage");
+        assertThat(commonGitFileUtils.getArtifactContentHash(applicationJson))
+                .isNotEqualTo(hash)
+                .isNotEqualTo(modifiedResourcesHash);
+    }
+
     @SneakyThrows
     @Test
     @WithUserDetails(value = "api_user")
@@ -0,0 +1,108 @@
+package com.appsmith.server.helpers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken to write a large export into the response, by streaming it into data buffers with
+ * {@link JsonDataBufferUtils}, and by writing it into a string, parsing it back into maps and encoding those into the
+ * response, as it was done before. The time until the first buffer is streamed is measured as well, since that's when
+ * the download can start.
+ * <p>
+ * The export has 200k queries. Add {@code -prof gc} to the JMH options to compare the memory allocated by each approach
+ * as well.
+ * <p>
+ * Run with {@code java -cp <test classpath> com.appsmith.server.helpers.JsonDataBufferUtilsBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonDataBufferUtilsBenchmark {
+
+    private static final int ACTION_COUNT = 200_000;
+
+    private final Gson gson = new Gson();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Map<String, Object> document;
+
+    @Setup
+    public void setUp() {
+        List<Map<String, Object>> actions = new ArrayList<>();
+        for (int i = 0; i < ACTION_COUNT; i++) {
+            Map<String, Object> action = new LinkedHashMap<>();
+            action.put("name", "Query" + i);
+            action.put("pageId", "Page" + (i % 100));
+            action.put("body", "SELECT * FROM users WHERE name = 'é" + i + "' LIMIT 10;");
+            action.put("executeOnLoad", i % 2 == 0);
+            actions.add(action);
+        }
+        document = new LinkedHashMap<>();
+        document.put("serverSchemaVersion", 7);
+        document.put("actionList", actions);
+    }
+
+    @Benchmark
+    public long toJsonDataBuffers_allBuffers() {
+        return JsonDataBufferUtils.toJsonDataBuffers(gson, document, DefaultDataBufferFactory.sharedInstance)
+                .map(dataBuffer -> {
+                    long readableByteCount = dataBuffer.readableByteCount();
+                    DataBufferUtils.release(dataBuffer);
+                    return readableByteCount;
+                })
+                .reduce(0L, Long::sum)
+                .block();
+    }
+
+    @Benchmark
+    public long toJsonDataBuffers_firstBuffer() {
+        return JsonDataBufferUtils.toJsonDataBuffers(gson, document, DefaultDataBufferFactory.sharedInstance)
+                .take(1)
+                .map(dataBuffer -> {
+                    long readableByteCount = dataBuffer.readableByteCount();
+                    DataBufferUtils.release(dataBuffer);
+                    return readableByteCount;
+                })
+                .blockLast();
+    }
+
+    @Benchmark
+    public byte[] throughString() throws JsonProcessingException {
+        String stringifiedFile = gson.toJson(document);
+        Object jsonObject = gson.fromJson(stringifiedFile, Object.class);
+        return objectMapper.writeValueAsBytes(jsonObject);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(JsonDataBufferUtilsBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
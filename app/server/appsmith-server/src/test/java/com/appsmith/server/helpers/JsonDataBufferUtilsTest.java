@@ -0,0 +1,136 @@
+package com.appsmith.server.helpers;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonDataBufferUtilsTest {
+
+    private final Gson gson = new Gson();
+
+    private static Map<String, Object> createDocument(int actionCount) {
+        List<Map<String, Object>> actions = new ArrayList<>();
+        for (int i = 0; i < actionCount; i++) {
+            Map<String, Object> action = new LinkedHashMap<>();
+            action.put("name", "Query" + i);
+            action.put("pageId", "Page" + (i % 100));
+            action.put("body", "SELECT * FROM users WHERE name = 'é" + i + "' LIMIT 10;");
+            action.put("executeOnLoad", i % 2 == 0);
+            actions.add(action);
+        }
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("serverSchemaVersion", 7);
+        document.put("actionList", actions);
+        return document;
+    }
+
+    private static String join(Flux<DataBuffer> dataBuffers) {
+        return DataBufferUtils.join(dataBuffers)
+                .map(dataBuffer -> {
+                    String json = dataBuffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(dataBuffer);
+                    return json;
+                })
+                .block();
+    }
+
+    @Test
+    public void toJsonDataBuffers_WhenLargeObject_SameAsToJson() {
+        Map<String, Object> document = createDocument(1000);
+
+        List<DataBuffer> dataBuffers = JsonDataBufferUtils.toJsonDataBuffers(
+                        gson, document, DefaultDataBufferFactory.sharedInstance)
+                .collectList()
+                .block();
+
+        assertThat(dataBuffers).hasSizeGreaterThan(1);
+        assertThat(join(Flux.fromIterable(dataBuffers))).isEqualTo(gson.toJson(document));
+    }
+
+    @Test
+    public void toJsonDataBuffers_WhenNoDemand_WaitsBeforeWritingMore() {
+        Flux<DataBuffer> dataBuffers = JsonDataBufferUtils.toJsonDataBuffers(
+                gson, createDocument(1000), DefaultDataBufferFactory.sharedInstance);
+
+        StepVerifier.create(dataBuffers, 1)
+                .expectNextCount(1)
+                .expectNoEvent(Duration.ofMillis(200))
+                .thenRequest(1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void toJsonDataBuffersAfterFirst_WhenLargeObject_SameAsToJson() {
+        Map<String, Object> document = createDocument(1000);
+
+        Flux<DataBuffer> dataBuffers = JsonDataBufferUtils.toJsonDataBuffersAfterFirst(
+                        gson, document, DefaultDataBufferFactory.sharedInstance)
+                .block();
+
+        assertThat(join(dataBuffers)).isEqualTo(gson.toJson(document));
+    }
+
+    @Test
+    public void toJsonDataBuffersAfterFirst_WhenFailsBeforeFirstBuffer_Errors() {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("failing", new FailingValue());
+        document.putAll(createDocument(1000));
+
+        StepVerifier.create(JsonDataBufferUtils.toJsonDataBuffersAfterFirst(
+                        createFailingGson(), document, DefaultDataBufferFactory.sharedInstance))
+                .expectErrorMessage("Failed to write value")
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void toJsonDataBuffersAfterFirst_WhenFailsAfterFirstBuffer_BuffersError() {
+        Map<String, Object> document = createDocument(1000);
+        document.put("failing", new FailingValue());
+
+        Flux<DataBuffer> dataBuffers = JsonDataBufferUtils.toJsonDataBuffersAfterFirst(
+                        createFailingGson(), document, DefaultDataBufferFactory.sharedInstance)
+                .block();
+
+        StepVerifier.create(dataBuffers.doOnNext(DataBufferUtils::release))
+                .thenConsumeWhile(dataBuffer -> true)
+                .expectErrorMessage("Failed to write value")
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private static class FailingValue {}
+
+    private static Gson createFailingGson() {
+        return new GsonBuilder()
+                .registerTypeAdapter(FailingValue.class, new TypeAdapter<FailingValue>() {
+                    @Override
+                    public void write(JsonWriter out, FailingValue value) {
+                        throw new IllegalStateException("Failed to write value");
+                    }
+
+                    @Override
+                    public FailingValue read(JsonReader in) {
+                        return null;
+                    }
+                })
+                .create();
+    }
+}
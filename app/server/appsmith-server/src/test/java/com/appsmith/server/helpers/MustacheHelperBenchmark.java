@@ -0,0 +1,108 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.models.MustacheBindingToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the CPU time spent extracting the bindings of a large page on a layout update, the way
+ * UpdateLayoutServiceCEImpl and OnLoadExecutablesUtilCEImpl do: extracting the mustache keys of every dynamic binding
+ * path of every widget, and then finding the possible parents of each key.
+ * <p>
+ * The unchanged page benchmark updates the same layout over and over, as happens while a page is being edited, so its
+ * bindings are served from the caches. The changing page benchmark cycles through more distinct bindings than the caches
+ * can hold. The new page benchmark updates layouts whose bindings have never been seen before, which are parsed every
+ * time, as was the case before the caches were added.
+ * <p>
+ * Run with {@code java -cp <test classpath> com.appsmith.server.helpers.MustacheHelperBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MustacheHelperBenchmark {
+
+    private static final int WIDGET_COUNT = 500;
+
+    // Enough distinct pages for their bindings not to fit in the caches together
+    private static final int CHANGING_PAGE_COUNT = 12;
+
+    private List<String> unchangedPageBindings;
+
+    private List<List<String>> changingPagesBindings;
+
+    private int changingPageIndex = 0;
+
+    private int newPageIndex = CHANGING_PAGE_COUNT + 1;
+
+    private static List<String> createPageBindings(int pageIndex) {
+        List<String> bindings = new ArrayList<>();
+        for (int i = 0; i < WIDGET_COUNT; i++) {
+            String suffix = pageIndex + "_" + i;
+            bindings.add("{{Table" + suffix + ".selectedRow.name}}");
+            bindings.add("{{ getUsers" + suffix + ".data.map(user => ({ label: user.name, value: user.id })) }}");
+            bindings.add("Showing {{Table" + suffix + ".pageSize}} of {{getUsers" + suffix + ".data.length}} users");
+            bindings.add("{{JSObject" + suffix + ".isVisible(Select" + suffix + ".selectedOptionValue) ? 'a' : 'b'}}");
+        }
+        return bindings;
+    }
+
+    @Setup
+    public void setUp() {
+        unchangedPageBindings = createPageBindings(0);
+        changingPagesBindings = new ArrayList<>();
+        for (int i = 1; i <= CHANGING_PAGE_COUNT; i++) {
+            changingPagesBindings.add(createPageBindings(i));
+        }
+    }
+
+    private static void extractBindings(List<String> bindings, Blackhole blackhole) {
+        for (String binding : bindings) {
+            for (MustacheBindingToken key : MustacheHelper.extractMustacheKeysFromFields(binding)) {
+                blackhole.consume(MustacheHelper.getPossibleParents(key.getValue()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void extractBindings_unchangedPage(Blackhole blackhole) {
+        extractBindings(unchangedPageBindings, blackhole);
+    }
+
+    @Benchmark
+    public void extractBindings_changingPage(Blackhole blackhole) {
+        extractBindings(changingPagesBindings.get(changingPageIndex), blackhole);
+        changingPageIndex = (changingPageIndex + 1) % CHANGING_PAGE_COUNT;
+    }
+
+    @Benchmark
+    public void extractBindings_newPage(Blackhole blackhole) {
+        extractBindings(createPageBindings(newPageIndex++), blackhole);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(MustacheHelperBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,100 @@
+package com.appsmith.server.helpers;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PermissionGroupsMemoTest {
+
+    private static Mono<Set<String>> countingResolveMono(AtomicInteger resolveCount) {
+        return Mono.fromSupplier(() -> {
+            resolveCount.incrementAndGet();
+            return Set.of("permissionGroup1", "permissionGroup2");
+        });
+    }
+
+    @Test
+    public void getOrResolve_sameKeyInRequest_resolvesOnce() {
+        AtomicInteger resolveCount = new AtomicInteger();
+        Mono<Set<String>> resolveMono = countingResolveMono(resolveCount);
+        PermissionGroupsMemo memo = new PermissionGroupsMemo();
+
+        Mono<Set<String>> lookupsMono = PermissionGroupsMemo.getOrResolve("user/tenant/true", resolveMono)
+                .then(PermissionGroupsMemo.getOrResolve("user/tenant/true", resolveMono))
+                .contextWrite(Context.of(PermissionGroupsMemo.CONTEXT_KEY, memo));
+
+        StepVerifier.create(lookupsMono)
+                .assertNext(permissionGroups ->
+                        assertThat(permissionGroups).containsExactlyInAnyOrder("permissionGroup1", "permissionGroup2"))
+                .verifyComplete();
+        assertThat(resolveCount.get()).isEqualTo(1);
+        assertThat(memo.getLookupCount()).isEqualTo(2);
+        assertThat(memo.getMemoizedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void getOrResolve_memoizedSetModified_otherLookupsUnaffected() {
+        AtomicInteger resolveCount = new AtomicInteger();
+        Mono<Set<String>> resolveMono = countingResolveMono(resolveCount);
+
+        Mono<Set<String>> lookupsMono = PermissionGroupsMemo.getOrResolve("user/tenant/true", resolveMono)
+                .doOnNext(permissionGroups -> permissionGroups.add("permissionGroup3"))
+                .then(PermissionGroupsMemo.getOrResolve("user/tenant/true", resolveMono))
+                .contextWrite(Context.of(PermissionGroupsMemo.CONTEXT_KEY, new PermissionGroupsMemo()));
+
+        StepVerifier.create(lookupsMono)
+                .assertNext(permissionGroups -> assertThat(permissionGroups).doesNotContain("permissionGroup3"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void getOrResolve_afterClear_resolvesAgain() {
+        AtomicInteger resolveCount = new AtomicInteger();
+        Mono<Set<String>> resolveMono = countingResolveMono(resolveCount);
+
+        Mono<Set<String>> lookupsMono = PermissionGroupsMemo.getOrResolve("user/tenant/true", resolveMono)
+                .then(PermissionGroupsMemo.clear())
+                .then(PermissionGroupsMemo.getOrResolve("user/tenant/true", resolveMono))
+                .contextWrite(Context.of(PermissionGroupsMemo.CONTEXT_KEY, new PermissionGroupsMemo()));
+
+        StepVerifier.create(lookupsMono).expectNextCount(1).verifyComplete();
+        assertThat(resolveCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void getOrResolve_withoutMemo_resolvesEveryTime() {
+        AtomicInteger resolveCount = new AtomicInteger();
+        Mono<Set<String>> resolveMono = countingResolveMono(resolveCount);
+
+        Mono<Set<String>> lookupsMono = PermissionGroupsMemo.getOrResolve("user/tenant/true", resolveMono)
+                .then(PermissionGroupsMemo.getOrResolve("user/tenant/true", resolveMono));
+
+        StepVerifier.create(lookupsMono).expectNextCount(1).verifyComplete();
+        assertThat(resolveCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void getOrResolve_errorResolvingGroups_notMemoized() {
+        AtomicInteger resolveCount = new AtomicInteger();
+        Mono<Set<String>> failingResolveMono = Mono.defer(() -> {
+            resolveCount.incrementAndGet();
+            return Mono.error(new IllegalStateException("Cache unavailable"));
+        });
+
+        Mono<Set<String>> lookupsMono = PermissionGroupsMemo.getOrResolve("user/tenant/true", failingResolveMono)
+                .onErrorResume(error -> Mono.empty())
+                .then(PermissionGroupsMemo.getOrResolve("user/tenant/true", failingResolveMono))
+                .contextWrite(Context.of(PermissionGroupsMemo.CONTEXT_KEY, new PermissionGroupsMemo()));
+
+        StepVerifier.create(lookupsMono)
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertThat(resolveCount.get()).isEqualTo(2);
+    }
+}
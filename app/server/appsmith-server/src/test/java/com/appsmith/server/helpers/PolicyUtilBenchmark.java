@@ -0,0 +1,119 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.helpers.ce.PolicyUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the CPU time spent computing the permissions of a user on every application of a large instance, the way
+ * the repositories do for every document they return, against the number of permission groups of the user.
+ * <p>
+ * The applications belong to workspaces that each have an administrator, a developer and an app viewer group, like
+ * the default workspace roles. The policies of an application give every permission to the administrator group, most
+ * of them to the developer group, and the read permission to the app viewer group. The user is a member of the groups
+ * of some of the workspaces, one group per workspace.
+ * <p>
+ * Run with {@code java -cp <test classpath> com.appsmith.server.helpers.PolicyUtilBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyUtilBenchmark {
+
+    private static final int APPLICATION_COUNT = 10_000;
+
+    private static final int WORKSPACE_COUNT = 1_000;
+
+    @Param({"5", "50", "200"})
+    private int userPermissionGroupCount;
+
+    private List<Application> applications;
+
+    private Set<String> userPermissionGroupIds;
+
+    private static String getPermissionGroupId(int workspaceIndex, String role) {
+        return "permissionGroup_" + role + "_" + workspaceIndex;
+    }
+
+    private static Set<Policy> createApplicationPolicies(int workspaceIndex) {
+        String administrator = getPermissionGroupId(workspaceIndex, "administrator");
+        String developer = getPermissionGroupId(workspaceIndex, "developer");
+        String appViewer = getPermissionGroupId(workspaceIndex, "appViewer");
+
+        Set<Policy> policies = new HashSet<>();
+        List<AclPermission> applicationPermissions = Arrays.stream(AclPermission.values())
+                .filter(permission -> Application.class.equals(permission.getEntity()))
+                .toList();
+        for (AclPermission permission : applicationPermissions) {
+            Set<String> permissionGroups = new HashSet<>();
+            permissionGroups.add(administrator);
+            if (permission != AclPermission.MANAGE_APPLICATIONS && permission != AclPermission.DELETE_APPLICATIONS) {
+                permissionGroups.add(developer);
+            }
+            if (permission == AclPermission.READ_APPLICATIONS) {
+                permissionGroups.add(appViewer);
+            }
+            policies.add(Policy.builder()
+                    .permission(permission.getValue())
+                    .permissionGroups(permissionGroups)
+                    .build());
+        }
+        return policies;
+    }
+
+    @Setup
+    public void setUp() {
+        applications = new ArrayList<>();
+        for (int i = 0; i < APPLICATION_COUNT; i++) {
+            Application application = new Application();
+            application.setPolicies(createApplicationPolicies(i % WORKSPACE_COUNT));
+            applications.add(application);
+        }
+
+        String[] roles = {"administrator", "developer", "appViewer"};
+        userPermissionGroupIds = new HashSet<>();
+        for (int i = 0; i < userPermissionGroupCount; i++) {
+            userPermissionGroupIds.add(getPermissionGroupId(i * 3, roles[i % roles.length]));
+        }
+    }
+
+    @Benchmark
+    public void getUserPermissions_allApplications(Blackhole blackhole) {
+        for (Application application : applications) {
+            blackhole.consume(PolicyUtil.getUserPermissions(application.getPolicies(), userPermissionGroupIds));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(PolicyUtilBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,142 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.caching.components.RedisCacheManagerImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import reactor.core.publisher.Flux;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken to evict a complete cache of 100 entries from Redis, with and without 100k unrelated keys in
+ * the keyspace. Once the cache has been looked through for entries that aren't in its index, the eviction only walks
+ * the index, so it takes as long with the unrelated keys as without. The eviction that still has to look for those
+ * entries, as the first one of every node after a restart did before it was recorded in Redis, scans all the keys.
+ * <p>
+ * Needs a Redis server, which is read from {@code APPSMITH_REDIS_URL} and defaults to {@code redis://127.0.0.1:6379}.
+ * All the keys are written under a prefix unique to the run, and are deleted once the run is over.
+ * <p>
+ * Run with {@code java -cp <test classpath> com.appsmith.server.helpers.RedisCacheEvictionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisCacheEvictionBenchmark {
+
+    private static final int ENTRY_COUNT = 100;
+
+    private static final int WRITE_BATCH_SIZE = 1000;
+
+    @Param({"0", "100000"})
+    private int unrelatedKeyCount;
+
+    @Param({"true", "false"})
+    private boolean unindexedEntriesEvicted;
+
+    private final String runPrefix = "benchmark-" + UUID.randomUUID();
+
+    private final String cacheName = runPrefix + "-cache";
+
+    private LettuceConnectionFactory connectionFactory;
+
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    private RedisCacheManagerImpl cacheManager;
+
+    @Setup
+    public void setUp() {
+        URI redisUri = URI.create(System.getenv().getOrDefault("APPSMITH_REDIS_URL", "redis://127.0.0.1:6379"));
+        connectionFactory =
+                new LettuceConnectionFactory(new RedisStandaloneConfiguration(redisUri.getHost(), redisUri.getPort()));
+        connectionFactory.afterPropertiesSet();
+        reactiveRedisTemplate = new ReactiveRedisTemplate<>(
+                connectionFactory,
+                RedisSerializationContext.<String, Object>newSerializationContext(
+                                new GenericJackson2JsonRedisSerializer())
+                        .key(new StringRedisSerializer())
+                        .hashKey(new StringRedisSerializer())
+                        .build());
+
+        Flux.range(0, unrelatedKeyCount)
+                .buffer(WRITE_BATCH_SIZE)
+                .concatMap(indexes -> {
+                    Map<String, Object> values = new HashMap<>();
+                    indexes.forEach(index -> values.put(runPrefix + ":unrelated:" + index, "value"));
+                    return reactiveRedisTemplate.opsForValue().multiSet(values);
+                })
+                .blockLast();
+    }
+
+    @Setup(Level.Invocation)
+    public void fillCache() {
+        // A new cache manager for every eviction, as every node and restart had to look for the unindexed entries
+        cacheManager = new RedisCacheManagerImpl(reactiveRedisTemplate);
+        String markerKey = "cache-index:" + cacheName + ":legacy-swept";
+        if (unindexedEntriesEvicted) {
+            reactiveRedisTemplate.opsForValue().set(markerKey, true).block();
+        } else {
+            reactiveRedisTemplate.delete(markerKey).block();
+        }
+        Flux.range(0, ENTRY_COUNT)
+                .concatMap(index -> cacheManager.put(cacheName, String.valueOf(index), "value"))
+                .blockLast();
+    }
+
+    @TearDown
+    public void tearDown() {
+        deleteKeys(runPrefix + "*");
+        deleteKeys("cache-index:" + runPrefix + "*");
+        connectionFactory.destroy();
+    }
+
+    private void deleteKeys(String pattern) {
+        reactiveRedisTemplate
+                .scan(ScanOptions.scanOptions()
+                        .match(pattern)
+                        .count(WRITE_BATCH_SIZE)
+                        .build())
+                .buffer(WRITE_BATCH_SIZE)
+                .concatMap(keys -> reactiveRedisTemplate.delete(keys.toArray(new String[0])))
+                .blockLast();
+    }
+
+    @Benchmark
+    public void evictAll() {
+        cacheManager.evictAll(cacheName).block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(RedisCacheEvictionBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,130 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.helpers.restApiUtils.helpers.RestAPIActivateUtils;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.util.WebClientUtils;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.ResponseEntity;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of sequential REST API calls to a local server, with the HTTP clients shared by
+ * {@link RestAPIActivateUtils}, and with a new connection provider created for every call, as it was before the clients
+ * were shared. The sample time mode reports the percentiles of the latency along with its average.
+ * <p>
+ * Run with {@code java -cp <test classpath> com.appsmith.server.helpers.RestApiCallBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestApiCallBenchmark {
+
+    static {
+        // Without this, responses on kept alive connections to the stub server are delayed by Nagle's algorithm
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final RestAPIActivateUtils restAPIActivateUtils = new RestAPIActivateUtils();
+
+    private final ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+    private final DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+
+    private final List<ConnectionProvider> connectionProviders = new ArrayList<>();
+
+    private HttpServer server;
+
+    private String url;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            byte[] response = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    @TearDown(Level.Iteration)
+    public void disposeConnectionProviders() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+        connectionProviders.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public ResponseEntity<Void> call_sharedClient() {
+        return restAPIActivateUtils
+                .getWebClientBuilder(actionConfiguration, datasourceConfiguration)
+                .build()
+                .get()
+                .uri(url)
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+    }
+
+    @Benchmark
+    public ResponseEntity<Void> call_newConnectionProvider() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("rest-api-provider")
+                .maxIdleTime(Duration.ofSeconds(600))
+                .maxLifeTime(Duration.ofSeconds(600))
+                .build();
+        connectionProviders.add(connectionProvider);
+
+        return WebClientUtils.builder(HttpClient.create(connectionProvider).compress(true))
+                .build()
+                .get()
+                .uri(url)
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(RestApiCallBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,101 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.helpers.RowSizeEstimator;
+import com.appsmith.external.helpers.Sizeof;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of tracking the size of a result set while the plugins read its rows, with the
+ * {@link RowSizeEstimator} and with the earlier approach of serializing all the rows read so far once every 100 rows.
+ * <p>
+ * The rows look like those of a users table, with numbers, strings, a boolean, a date, a list and a null. Serializing
+ * is quadratic in the number of rows, hence it's measured on a tenth of the rows.
+ * <p>
+ * Run with {@code java -cp <test classpath> com.appsmith.server.helpers.RowSizeEstimatorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowSizeEstimatorBenchmark {
+
+    private static final int ROW_COUNT = 100_000;
+
+    private static final int SERIALIZED_ROW_COUNT = ROW_COUNT / 10;
+
+    private List<Map<String, Object>> rows;
+
+    private static Map<String, Object> createRow(int i) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", i);
+        row.put("username", "user" + i);
+        row.put("email", "user" + i + "@example.com");
+        row.put("balance", new BigDecimal("1024.50").add(BigDecimal.valueOf(i)));
+        row.put("score", i / 7.0);
+        row.put("is_active", i % 2 == 0);
+        row.put("dob", LocalDate.of(2000, 1, 1).plusDays(i % 365).toString());
+        row.put("tags", List.of("a", "b"));
+        row.put("deleted_at", null);
+        return row;
+    }
+
+    @Setup
+    public void setUp() {
+        rows = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows.add(createRow(i));
+        }
+    }
+
+    @Benchmark
+    public long estimator_allRows() {
+        RowSizeEstimator rowSizeEstimator = new RowSizeEstimator(Long.MAX_VALUE);
+        for (Map<String, Object> row : rows) {
+            rowSizeEstimator.addRow(row);
+        }
+        return rowSizeEstimator.getEstimatedSize();
+    }
+
+    @Benchmark
+    public long serialization_tenthOfRows() throws IOException {
+        List<Map<String, Object>> rowsList = new ArrayList<>();
+        long size = 0;
+        for (int i = 0; i < SERIALIZED_ROW_COUNT; i++) {
+            if (i % 100 == 0) {
+                size = Sizeof.sizeof(rowsList);
+            }
+            rowsList.add(rows.get(i));
+        }
+        return size;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(RowSizeEstimatorBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
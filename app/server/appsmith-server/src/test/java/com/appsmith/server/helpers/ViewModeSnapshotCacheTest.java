@@ -0,0 +1,132 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.domains.Theme;
+import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.dtos.UserProfileDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ViewModeSnapshotCacheTest {
+
+    private final ViewModeSnapshotCache viewModeSnapshotCache =
+            new ViewModeSnapshotCache(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    private static ViewModeSnapshotCache.Key createKey(String applicationId) {
+        return new ViewModeSnapshotCache.Key(
+                applicationId, "defaultPageId", Instant.parse("2024-01-01T00:00:00Z"), Set.of("permissionGroup"));
+    }
+
+    private static ConsolidatedAPIResponseDTO createApplicationData(String themeName) {
+        Theme theme = new Theme();
+        theme.setName(themeName);
+        ConsolidatedAPIResponseDTO applicationData = new ConsolidatedAPIResponseDTO();
+        applicationData.setCurrentTheme(new ResponseDTO<>(200, theme, null));
+        return applicationData;
+    }
+
+    private static ConsolidatedAPIResponseDTO createResponse(
+            ViewModeSnapshotCache.Snapshot snapshot, String userEmail) {
+        UserProfileDTO userProfile = new UserProfileDTO();
+        userProfile.setEmail(userEmail);
+        ConsolidatedAPIResponseDTO response = new ConsolidatedAPIResponseDTO();
+        response.setUserProfile(new ResponseDTO<>(200, userProfile, null));
+        response.setCurrentTheme(snapshot.applicationData().getCurrentTheme());
+        response.setApplicationDataHash(snapshot.hash());
+        return response;
+    }
+
+    @Test
+    public void put_noInvalidationDuringLoad_snapshotKept() {
+        ViewModeSnapshotCache.Key key = createKey("applicationId");
+        long invalidationCount = viewModeSnapshotCache.getInvalidationCount();
+
+        ViewModeSnapshotCache.Snapshot snapshot =
+                viewModeSnapshotCache.put(key, createApplicationData("published"), invalidationCount);
+
+        assertThat(snapshot.hash()).isNotNull();
+        assertThat(viewModeSnapshotCache.get(key)).isSameAs(snapshot);
+    }
+
+    @Test
+    public void put_applicationPublishedDuringLoad_snapshotNotKept() {
+        ViewModeSnapshotCache.Key key = createKey("applicationId");
+        // The page load starts while the application is being published, and reads the theme before it's published
+        long invalidationCount = viewModeSnapshotCache.getInvalidationCount();
+        ConsolidatedAPIResponseDTO partlyPublishedData = createApplicationData("published before");
+
+        // The publish completes before the page load does, with the same updatedAt as the key of the page load
+        viewModeSnapshotCache.invalidate("applicationId");
+        ViewModeSnapshotCache.Snapshot snapshot =
+                viewModeSnapshotCache.put(key, partlyPublishedData, invalidationCount);
+
+        assertThat(snapshot.applicationData()).isSameAs(partlyPublishedData);
+        assertThat(viewModeSnapshotCache.get(key)).isNull();
+
+        // The next page load after the publish keeps its snapshot
+        ViewModeSnapshotCache.Snapshot publishedSnapshot = viewModeSnapshotCache.put(
+                key, createApplicationData("published after"), viewModeSnapshotCache.getInvalidationCount());
+        assertThat(viewModeSnapshotCache.get(key)).isSameAs(publishedSnapshot);
+    }
+
+    @Test
+    public void invalidate_application_onlyItsSnapshotsDropped() {
+        ViewModeSnapshotCache.Key publishedKey = createKey("publishedApplicationId");
+        ViewModeSnapshotCache.Key otherKey = createKey("otherApplicationId");
+        viewModeSnapshotCache.put(publishedKey, createApplicationData("published"), 0);
+        viewModeSnapshotCache.put(otherKey, createApplicationData("other"), 0);
+
+        viewModeSnapshotCache.invalidate("publishedApplicationId");
+
+        assertThat(viewModeSnapshotCache.get(publishedKey)).isNull();
+        assertThat(viewModeSnapshotCache.get(otherKey)).isNotNull();
+    }
+
+    @Test
+    public void put_beyondMaxSize_leastRecentlyUsedSnapshotsDropped() {
+        String largeThemeName = "a".repeat((int) (ViewModeSnapshotCache.MAX_SNAPSHOTS_SIZE / 3));
+        ViewModeSnapshotCache.Key firstKey = createKey("firstApplicationId");
+        ViewModeSnapshotCache.Key secondKey = createKey("secondApplicationId");
+        ViewModeSnapshotCache.Key thirdKey = createKey("thirdApplicationId");
+        viewModeSnapshotCache.put(firstKey, createApplicationData(largeThemeName), 0);
+        viewModeSnapshotCache.put(secondKey, createApplicationData(largeThemeName), 0);
+
+        // Using the first snapshot makes the second one the least recently used
+        viewModeSnapshotCache.get(firstKey);
+        viewModeSnapshotCache.put(thirdKey, createApplicationData(largeThemeName), 0);
+
+        assertThat(viewModeSnapshotCache.get(firstKey)).isNotNull();
+        assertThat(viewModeSnapshotCache.get(secondKey)).isNull();
+        assertThat(viewModeSnapshotCache.get(thirdKey)).isNotNull();
+    }
+
+    @Test
+    public void getETag_snapshotResponses_changeOnlyWithTheirData() {
+        ViewModeSnapshotCache.Snapshot snapshot =
+                viewModeSnapshotCache.put(createKey("applicationId"), createApplicationData("published"), 0);
+        ViewModeSnapshotCache.Snapshot republishedSnapshot =
+                viewModeSnapshotCache.put(createKey("applicationId"), createApplicationData("republished"), 0);
+
+        String eTag = viewModeSnapshotCache.getETag(createResponse(snapshot, "user@example.com"));
+
+        assertThat(eTag).isEqualTo(viewModeSnapshotCache.getETag(createResponse(snapshot, "user@example.com")));
+        assertThat(eTag).isNotEqualTo(viewModeSnapshotCache.getETag(createResponse(snapshot, "other@example.com")));
+        assertThat(eTag)
+                .isNotEqualTo(viewModeSnapshotCache.getETag(createResponse(republishedSnapshot, "user@example.com")));
+    }
+
+    @Test
+    public void getETag_responseWithoutSnapshot_hashOfWholeResponse() {
+        ConsolidatedAPIResponseDTO response = createApplicationData("published");
+
+        assertThat(viewModeSnapshotCache.getETag(response))
+                .isEqualTo(viewModeSnapshotCache.getETag(createApplicationData("published")))
+                .isNotEqualTo(viewModeSnapshotCache.getETag(createApplicationData("republished")));
+    }
+}
@@ -0,0 +1,61 @@
+package com.appsmith.server.helpers.ce;
+
+import com.appsmith.external.models.Policy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PolicyUtilTest {
+
+    private static final Set<Policy> POLICIES = Set.of(
+            Policy.builder()
+                    .permission("manage:applications")
+                    .permissionGroups(Set.of("administrator"))
+                    .build(),
+            Policy.builder()
+                    .permission("read:applications")
+                    .permissionGroups(Set.of("administrator", "developer", "appViewer"))
+                    .build(),
+            Policy.builder()
+                    .permission("export:applications")
+                    .permissionGroups(Set.of())
+                    .build());
+
+    @Test
+    public void getPolicyTokens_policies_oneTokenPerPermissionAndPermissionGroup() {
+        assertThat(PolicyUtil.getPolicyTokens(POLICIES))
+                .containsExactlyInAnyOrder(
+                        "manage:applications:administrator",
+                        "read:applications:administrator",
+                        "read:applications:developer",
+                        "read:applications:appViewer");
+    }
+
+    @Test
+    public void getPolicyTokens_permissionAndPermissionGroups_matchPolicyTokens() {
+        assertThat(PolicyUtil.getPolicyTokens("read:applications", Set.of("developer", "otherGroup")))
+                .containsExactlyInAnyOrder("read:applications:developer", "read:applications:otherGroup")
+                .containsAnyElementsOf(PolicyUtil.getPolicyTokens(POLICIES));
+    }
+
+    @Test
+    public void getUserPermissions_fewUserPermissionGroups_permissionsOfMatchingPolicies() {
+        assertThat(PolicyUtil.getUserPermissions(POLICIES, Set.of("developer"))).containsExactly("read:applications");
+    }
+
+    @Test
+    public void getUserPermissions_manyUserPermissionGroups_permissionsOfMatchingPolicies() {
+        Set<String> userPermissionGroupIds = Set.of("group1", "group2", "group3", "group4", "administrator");
+
+        assertThat(PolicyUtil.getUserPermissions(POLICIES, userPermissionGroupIds))
+                .containsExactlyInAnyOrder("manage:applications", "read:applications");
+    }
+
+    @Test
+    public void getUserPermissions_noMatchingPermissionGroups_noPermissions() {
+        assertThat(PolicyUtil.getUserPermissions(POLICIES, Set.of("otherGroup")))
+                .isEmpty();
+    }
+}
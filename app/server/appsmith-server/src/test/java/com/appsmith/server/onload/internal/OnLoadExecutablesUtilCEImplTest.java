@@ -0,0 +1,117 @@
+package com.appsmith.server.onload.internal;
+
+import com.appsmith.external.models.CreatorContextType;
+import com.appsmith.external.models.Executable;
+import com.appsmith.server.configurations.InstanceConfig;
+import com.appsmith.server.domains.ExecutableDependencyEdge;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.onload.executables.ExecutableOnLoadService;
+import com.appsmith.server.services.AstService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuples;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class OnLoadExecutablesUtilCEImplTest {
+
+    private static final int EVALUATION_VERSION = 2;
+
+    private OnLoadExecutablesUtilCEImpl onLoadExecutablesUtil;
+
+    private InstanceConfig instanceConfig;
+
+    // Binding values sent to the ast service, in the order they were requested
+    private final List<String> analysedBindings = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        AstService astService = Mockito.mock(AstService.class);
+        Mockito.when(astService.getPossibleReferencesFromDynamicBinding(anyList(), anyInt()))
+                .thenAnswer(invocation -> {
+                    List<String> bindings = invocation.getArgument(0);
+                    analysedBindings.addAll(bindings);
+                    return Flux.fromIterable(bindings).map(binding -> Tuples.of(binding, Set.of(binding)));
+                });
+
+        ExecutableOnLoadService<NewPage> pageExecutableOnLoadService = Mockito.mock(ExecutableOnLoadService.class);
+        Mockito.when(pageExecutableOnLoadService.getAllExecutablesByCreatorIdFlux(anyString()))
+                .thenReturn(Flux.empty());
+        Mockito.when(pageExecutableOnLoadService.getUnpublishedOnLoadExecutablesExplicitSetByUserInPageFlux(
+                        anyString()))
+                .thenReturn(Flux.empty());
+
+        instanceConfig = Mockito.mock(InstanceConfig.class);
+        Mockito.when(instanceConfig.getIsRtsAccessible()).thenReturn(true);
+
+        onLoadExecutablesUtil = new OnLoadExecutablesUtilCEImpl(
+                astService, new ObjectMapper(), pageExecutableOnLoadService, instanceConfig);
+    }
+
+    private Set<ExecutableDependencyEdge> findAllOnLoadExecutables(Map<String, Set<String>> widgetDynamicBindingsMap) {
+        Set<ExecutableDependencyEdge> edges = new HashSet<>();
+        List<Executable> flatPageLoadExecutables = new ArrayList<>();
+        StepVerifier.create(onLoadExecutablesUtil.findAllOnLoadExecutables(
+                        "pageId",
+                        EVALUATION_VERSION,
+                        Set.of("Text1", "Text2", "Input1", "Input2", "Input3"),
+                        edges,
+                        widgetDynamicBindingsMap,
+                        flatPageLoadExecutables,
+                        new HashSet<>(),
+                        CreatorContextType.PAGE))
+                .assertNext(schedule -> assertThat(schedule).isEmpty())
+                .verifyComplete();
+        return edges;
+    }
+
+    @Test
+    public void findAllOnLoadExecutables_WhenBindingsUnchanged_DoesNotAnalyseThemAgain() {
+        Map<String, Set<String>> widgetDynamicBindingsMap =
+                Map.of("Text1.text", Set.of("Input1.text"), "Text2.text", Set.of("Input2.text"));
+
+        Set<ExecutableDependencyEdge> edges = findAllOnLoadExecutables(widgetDynamicBindingsMap);
+        // Each binding is analysed once, even though both the executable and the widget relationships are looked up
+        assertThat(analysedBindings).containsExactlyInAnyOrder("Input1.text", "Input2.text");
+        assertThat(edges).hasSize(2);
+
+        analysedBindings.clear();
+        Set<ExecutableDependencyEdge> edgesAfterSave = findAllOnLoadExecutables(widgetDynamicBindingsMap);
+        assertThat(analysedBindings).isEmpty();
+        assertThat(edgesAfterSave).isEqualTo(edges);
+
+        // Only the binding that was edited is analysed
+        analysedBindings.clear();
+        findAllOnLoadExecutables(Map.of("Text1.text", Set.of("Input1.text"), "Text2.text", Set.of("Input3.text")));
+        assertThat(analysedBindings).containsExactly("Input3.text");
+    }
+
+    @Test
+    public void findAllOnLoadExecutables_WhenRtsIsNotAccessible_AnalysesBindingsAgain() {
+        // Without RTS, the references of the bindings are approximated, and shouldn't be reused once RTS is accessible
+        Mockito.when(instanceConfig.getIsRtsAccessible()).thenReturn(false);
+        Map<String, Set<String>> widgetDynamicBindingsMap = Map.of("Text1.text", Set.of("Input1.text"));
+
+        findAllOnLoadExecutables(widgetDynamicBindingsMap);
+        assertThat(analysedBindings).contains("Input1.text");
+
+        Mockito.when(instanceConfig.getIsRtsAccessible()).thenReturn(true);
+        analysedBindings.clear();
+        findAllOnLoadExecutables(widgetDynamicBindingsMap);
+        assertThat(analysedBindings).containsExactly("Input1.text");
+    }
+}
@@ -1,16 +1,23 @@
 package com.appsmith.server.repositories.ce;
 
+import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.PluginType;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.PermissionGroup;
 import com.appsmith.server.dtos.PluginTypeAndCountDTO;
 import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.PermissionGroupRepository;
 import com.appsmith.server.solutions.ActionPermission;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.security.test.context.support.WithUserDetails;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -19,7 +26,9 @@ import reactor.util.function.Tuple2;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -32,6 +41,12 @@ public class CustomNewActionRepositoryCEImplTest {
     @Autowired
     ActionPermission actionPermission;
 
+    @Autowired
+    PermissionGroupRepository permissionGroupRepository;
+
+    @Autowired
+    ReactiveMongoOperations mongoOperations;
+
     @Test
     public void bulkUpdate_WhenIdMatches_NewActionsUpdated() {
         String applicationId = UUID.randomUUID().toString();
@@ -286,4 +301,61 @@ public class CustomNewActionRepositoryCEImplTest {
                 })
                 .verifyComplete();
     }
+
+    private NewAction createUnpublishedActionWithPermission(String applicationId, AclPermission permission) {
+        Set<String> permissionGroupIds = permissionGroupRepository.findAll().collectList().block().stream()
+                .map(PermissionGroup::getId)
+                .collect(Collectors.toSet());
+
+        NewAction action = createUnpublishedAction(applicationId, PluginType.DB);
+        action.setPolicies(Set.of(Policy.builder()
+                .permissionGroups(permissionGroupIds)
+                .permission(permission.getValue())
+                .build()));
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT * FROM users");
+        action.getUnpublishedAction().setActionConfiguration(actionConfiguration);
+        return action;
+    }
+
+    @Test
+    @WithUserDetails("api_user")
+    public void publishActions_WhenEditPermissionRequired_OnlyEditableActionsNotArchivedArePublished() {
+        String applicationId = UUID.randomUUID().toString();
+        NewAction editableAction =
+                createUnpublishedActionWithPermission(applicationId, actionPermission.getEditPermission());
+        NewAction readOnlyAction =
+                createUnpublishedActionWithPermission(applicationId, actionPermission.getReadPermission());
+        NewAction archivedAction =
+                createUnpublishedActionWithPermission(applicationId, actionPermission.getEditPermission());
+        archivedAction.setDeletedAt(Instant.now());
+
+        Mono<Tuple2<Integer, List<NewAction>>> publishedCountAndActionsMono = newActionRepository
+                .saveAll(List.of(editableAction, readOnlyAction, archivedAction))
+                .then(newActionRepository.publishActions(applicationId, actionPermission.getEditPermission()))
+                // Read the actions straight from the database, as the repository doesn't return archived ones
+                .zipWhen(publishedCount -> Flux.concat(
+                                mongoOperations.findById(editableAction.getId(), NewAction.class),
+                                mongoOperations.findById(readOnlyAction.getId(), NewAction.class),
+                                mongoOperations.findById(archivedAction.getId(), NewAction.class))
+                        .collectList());
+
+        StepVerifier.create(publishedCountAndActionsMono)
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1()).isEqualTo(1);
+                    List<NewAction> actions = tuple.getT2();
+                    assertThat(actions).hasSize(3);
+                    NewAction publishedAction = actions.get(0);
+                    assertThat(publishedAction.getPublishedAction())
+                            .usingRecursiveComparison()
+                            .isEqualTo(publishedAction.getUnpublishedAction());
+
+                    actions.subList(1, 3).forEach(action -> {
+                        assertThat(action.getPublishedAction().getName()).isNull();
+                        assertThat(action.getPublishedAction().getActionConfiguration())
+                                .isNull();
+                    });
+                })
+                .verifyComplete();
+    }
 }
@@ -1,19 +1,29 @@
 package com.appsmith.server.repositories.ce;
 
+import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Layout;
 import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.PermissionGroup;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.repositories.PermissionGroupRepository;
+import com.appsmith.server.solutions.PagePermission;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.security.test.context.support.WithUserDetails;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import reactor.util.function.Tuple2;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -23,6 +33,15 @@ class CustomNewPageRepositoryTest {
     @Autowired
     NewPageRepository newPageRepository;
 
+    @Autowired
+    PermissionGroupRepository permissionGroupRepository;
+
+    @Autowired
+    PagePermission pagePermission;
+
+    @Autowired
+    ReactiveMongoOperations mongoOperations;
+
     private NewPage createNewPage() {
         String randomString = UUID.randomUUID().toString();
         PageDTO pageDTO = new PageDTO();
@@ -98,6 +117,56 @@ class CustomNewPageRepositoryTest {
                 .verifyComplete();
     }
 
+    private NewPage createNewPageWithPermission(AclPermission permission) {
+        Set<String> permissionGroupIds = permissionGroupRepository.findAll().collectList().block().stream()
+                .map(PermissionGroup::getId)
+                .collect(Collectors.toSet());
+
+        NewPage newPage = createNewPage();
+        newPage.setPolicies(Set.of(Policy.builder()
+                .permissionGroups(permissionGroupIds)
+                .permission(permission.getValue())
+                .build()));
+        return newPage;
+    }
+
+    @Test
+    @WithUserDetails("api_user")
+    void publishPages_WhenEditPermissionRequired_OnlyEditablePagesNotArchivedArePublished() {
+        NewPage editablePage = createNewPageWithPermission(pagePermission.getEditPermission());
+        NewPage readOnlyPage = createNewPageWithPermission(pagePermission.getReadPermission());
+        NewPage archivedPage = createNewPageWithPermission(pagePermission.getEditPermission());
+        archivedPage.setDeletedAt(Instant.now());
+
+        Mono<Tuple2<Integer, List<NewPage>>> publishedCountAndPagesMono = newPageRepository
+                .saveAll(List.of(editablePage, readOnlyPage, archivedPage))
+                .map(NewPage::getId)
+                .collectList()
+                .flatMap(savedPageIds -> newPageRepository
+                        .publishPages(savedPageIds, pagePermission.getEditPermission())
+                        // Read the pages straight from the database, as the repository doesn't return archived ones
+                        .zipWith(Flux.fromIterable(savedPageIds)
+                                .concatMap(pageId -> mongoOperations.findById(pageId, NewPage.class))
+                                .collectList()));
+
+        StepVerifier.create(publishedCountAndPagesMono)
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1()).isEqualTo(1);
+                    List<NewPage> pages = tuple.getT2();
+                    assertThat(pages).hasSize(3);
+                    NewPage publishedPage = pages.get(0);
+                    assertThat(publishedPage.getPublishedPage())
+                            .usingRecursiveComparison()
+                            .isEqualTo(publishedPage.getUnpublishedPage());
+
+                    pages.subList(1, 3).forEach(page -> {
+                        assertThat(page.getPublishedPage().getName()).isNull();
+                        assertThat(page.getPublishedPage().getLayouts()).isNull();
+                    });
+                })
+                .verifyComplete();
+    }
+
     @Test
     void findPageWithoutBranchName() {
         StepVerifier.create(newPageRepository.findPageByBranchNameAndDefaultPageId(
@@ -1,23 +1,40 @@
 package com.appsmith.server.services;
 
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.PluginType;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.actioncollections.base.ActionCollectionService;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationMode;
 import com.appsmith.server.domains.GitArtifactMetadata;
 import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.Workspace;
+import com.appsmith.server.dtos.ActionCollectionDTO;
 import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.dtos.PluginWorkspaceDTO;
+import com.appsmith.server.dtos.WorkspacePluginStatus;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.DSLMigrationUtils;
 import com.appsmith.server.newpages.base.NewPageService;
+import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.repositories.ActionCollectionRepository;
 import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.repositories.PluginRepository;
 import com.appsmith.server.repositories.UserRepository;
+import com.appsmith.server.solutions.ActionPermission;
 import com.appsmith.server.solutions.ApplicationPermission;
+import com.appsmith.server.solutions.PagePermission;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
@@ -30,6 +47,9 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
 import reactor.core.publisher.Mono;
@@ -39,6 +59,7 @@ import java.io.File;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -75,6 +96,36 @@ public class ApplicationPageServiceTest {
     @Autowired
     ApplicationPermission applicationPermission;
 
+    @Autowired
+    PagePermission pagePermission;
+
+    @Autowired
+    ActionPermission actionPermission;
+
+    @Autowired
+    NewPageRepository newPageRepository;
+
+    @Autowired
+    NewActionRepository newActionRepository;
+
+    @Autowired
+    ActionCollectionRepository actionCollectionRepository;
+
+    @Autowired
+    ActionCollectionService actionCollectionService;
+
+    @Autowired
+    LayoutCollectionService layoutCollectionService;
+
+    @Autowired
+    PluginRepository pluginRepository;
+
+    @Autowired
+    PluginService pluginService;
+
+    @Autowired
+    ReactiveMongoOperations mongoOperations;
+
     Workspace workspace;
 
     @BeforeEach
@@ -490,4 +541,153 @@ public class ApplicationPageServiceTest {
                 })
                 .verifyComplete();
     }
+
+    /**
+     * Creates an application with a JS object holding two functions, and publishes it
+     *
+     * @return the JS object that was created, along with the ids of its functions
+     */
+    private ActionCollectionDTO createPublishedApplicationWithJsObject() {
+        Plugin installedJsPlugin =
+                pluginRepository.findByPackageName("installed-js-plugin").block();
+        PluginWorkspaceDTO pluginWorkspaceDTO = new PluginWorkspaceDTO();
+        pluginWorkspaceDTO.setPluginId(installedJsPlugin.getId());
+        pluginWorkspaceDTO.setWorkspaceId(workspace.getId());
+        pluginWorkspaceDTO.setStatus(WorkspacePluginStatus.FREE);
+        pluginService.installPlugin(pluginWorkspaceDTO).block();
+
+        Application application = createApplication("App_" + UUID.randomUUID()).block();
+
+        ActionCollectionDTO actionCollectionDTO = new ActionCollectionDTO();
+        actionCollectionDTO.setName("publishCollection");
+        actionCollectionDTO.setApplicationId(application.getId());
+        actionCollectionDTO.setWorkspaceId(workspace.getId());
+        actionCollectionDTO.setPageId(application.getPages().get(0).getId());
+        actionCollectionDTO.setPluginId(installedJsPlugin.getId());
+        actionCollectionDTO.setPluginType(PluginType.JS);
+        actionCollectionDTO.setBody("export default { first: () => 1, second: () => 2 }");
+        List<ActionDTO> actions = new ArrayList<>();
+        for (String actionName : List.of("first", "second")) {
+            ActionDTO action = new ActionDTO();
+            action.setName(actionName);
+            action.setActionConfiguration(new ActionConfiguration());
+            actions.add(action);
+        }
+        actionCollectionDTO.setActions(actions);
+        ActionCollectionDTO savedActionCollection = layoutCollectionService
+                .createCollection(actionCollectionDTO, null)
+                .block();
+
+        applicationPageService.publish(application.getId(), true).block();
+        return savedActionCollection;
+    }
+
+    private NewAction renameUnpublishedAction(String actionId, String name) {
+        NewAction action = newActionRepository.findById(actionId).block();
+        action.getUnpublishedAction().setName(name);
+        return newActionRepository.save(action).block();
+    }
+
+    @Test
+    @WithUserDetails("api_user")
+    public void publish_WhenOnlyOneActionEditedSinceLastPublish_OnlyEditedActionIsRepublished() {
+        ActionCollectionDTO actionCollection = createPublishedApplicationWithJsObject();
+        String applicationId = actionCollection.getApplicationId();
+        renameUnpublishedAction(actionCollection.getActions().get(0).getId(), "firstRenamed");
+
+        // The publish already done leaves nothing to write, except for the action edited since
+        Mono<List<Integer>> publishedCountsMono = Mono.zip(
+                        newPageRepository.publishPages(
+                                List.of(actionCollection.getPageId()), pagePermission.getEditPermission()),
+                        newActionRepository.publishActions(applicationId, actionPermission.getEditPermission()),
+                        actionCollectionRepository.publishActionCollections(
+                                applicationId, actionPermission.getEditPermission()))
+                .map(tuple -> List.of(tuple.getT1(), tuple.getT2(), tuple.getT3()));
+
+        StepVerifier.create(publishedCountsMono)
+                .assertNext(publishedCounts -> assertThat(publishedCounts).containsExactly(0, 1, 0))
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails("api_user")
+    public void publish_WhenEntitiesEditedSinceLastPublish_EditedEntitiesRepublished() {
+        ActionCollectionDTO actionCollection = createPublishedApplicationWithJsObject();
+        String applicationId = actionCollection.getApplicationId();
+        String firstActionId = actionCollection.getActions().get(0).getId();
+        String secondActionId = actionCollection.getActions().get(1).getId();
+
+        NewPage page = newPageRepository.findById(actionCollection.getPageId()).block();
+        page.getUnpublishedPage().setName("Renamed page");
+        newPageRepository.save(page).block();
+        renameUnpublishedAction(firstActionId, "firstRenamed");
+        ActionCollection collection =
+                actionCollectionRepository.findById(actionCollection.getId()).block();
+        collection.getUnpublishedCollection().setBody("export default { first: () => 3, second: () => 2 }");
+        actionCollectionRepository.save(collection).block();
+
+        applicationPageService.publish(applicationId, true).block();
+
+        StepVerifier.create(Mono.zip(
+                        newPageRepository.findById(actionCollection.getPageId()),
+                        newActionRepository.findById(firstActionId),
+                        newActionRepository.findById(secondActionId),
+                        actionCollectionRepository.findById(actionCollection.getId())))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1().getPublishedPage().getName()).isEqualTo("Renamed page");
+                    assertThat(tuple.getT2().getPublishedAction().getName()).isEqualTo("firstRenamed");
+                    assertThat(tuple.getT3().getPublishedAction().getName()).isEqualTo("second");
+                    assertThat(tuple.getT4().getPublishedCollection().getBody())
+                            .isEqualTo("export default { first: () => 3, second: () => 2 }");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails("api_user")
+    public void publish_WhenActionCollectionDeletedInEditMode_ActionCollectionArchived() {
+        ActionCollectionDTO actionCollection = createPublishedApplicationWithJsObject();
+
+        actionCollectionService
+                .deleteUnpublishedActionCollection(actionCollection.getId())
+                .block();
+        applicationPageService
+                .publish(actionCollection.getApplicationId(), true)
+                .block();
+
+        StepVerifier.create(mongoOperations.findOne(
+                        new Query(Criteria.where(FieldName.ID).is(actionCollection.getId())), ActionCollection.class))
+                .assertNext(archivedActionCollection ->
+                        assertThat(archivedActionCollection.getDeletedAt()).isNotNull())
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails("api_user")
+    public void publish_WhenUserCannotEditEditedAction_ActionNotRepublished() {
+        ActionCollectionDTO actionCollection = createPublishedApplicationWithJsObject();
+        String firstActionId = actionCollection.getActions().get(0).getId();
+        String secondActionId = actionCollection.getActions().get(1).getId();
+
+        renameUnpublishedAction(firstActionId, "firstRenamed");
+        NewAction secondAction = renameUnpublishedAction(secondActionId, "secondRenamed");
+        // Take away the edit permission on the second action
+        secondAction.setPolicies(secondAction.getPolicies().stream()
+                .filter(policy -> !policy.getPermission()
+                        .equals(actionPermission.getEditPermission().getValue()))
+                .collect(Collectors.toSet()));
+        newActionRepository.save(secondAction).block();
+
+        applicationPageService
+                .publish(actionCollection.getApplicationId(), true)
+                .block();
+
+        StepVerifier.create(Mono.zip(
+                        newActionRepository.findById(firstActionId), newActionRepository.findById(secondActionId)))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1().getPublishedAction().getName()).isEqualTo("firstRenamed");
+                    assertThat(tuple.getT2().getPublishedAction().getName()).isEqualTo("second");
+                })
+                .verifyComplete();
+    }
 }
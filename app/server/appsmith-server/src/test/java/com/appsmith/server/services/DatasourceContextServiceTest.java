@@ -19,6 +19,7 @@ import com.appsmith.external.models.OAuth2;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.applications.base.ApplicationService;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.domains.Application;
@@ -47,10 +48,17 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.security.test.context.support.WithUserDetails;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
@@ -64,7 +72,11 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @SpringBootTest
 @Slf4j
@@ -118,6 +130,9 @@ public class DatasourceContextServiceTest {
     @Autowired
     ApplicationPermission applicationPermission;
 
+    @Autowired
+    DatasourceContextConfig datasourceContextConfig;
+
     String defaultEnvironmentId;
 
     String workspaceId;
@@ -170,11 +185,9 @@ public class DatasourceContextServiceTest {
 
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), null);
-
-        Object monitor = new Object();
         // Create one instance of datasource connection
         Mono<DatasourceContext<?>> dsContextMono1 = datasourceContextService.getCachedDatasourceContextMono(
-                datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
 
         Datasource datasource = new Datasource();
         datasource.setId("id1");
@@ -202,7 +215,7 @@ public class DatasourceContextServiceTest {
         Mono<DatasourceContext<?>> dsContextMono2 = datasourceService
                 .archiveById("id1")
                 .flatMap(deleted -> datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier));
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier));
 
         StepVerifier.create(dsContextMono1)
                 .assertNext(dsContext1 -> {
@@ -370,15 +383,13 @@ public class DatasourceContextServiceTest {
 
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
-
-        Object monitor = new Object();
         DatasourceContext<?> dsContext1 = (DatasourceContext<?>) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         DatasourceContext<?> dsContext2 = (DatasourceContext<?>) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
 
         /* They can only be equal if the `datasourceCreate` method was called only once */
@@ -454,15 +465,9 @@ public class DatasourceContextServiceTest {
 
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(createdDatasource.getId(), defaultEnvironmentId);
-
-        Object monitor = new Object();
         final DatasourceContext<?> dsc1 = (DatasourceContext) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        createdDatasourceStorage,
-                        emptyPlugin,
-                        spyMockPluginExecutor,
-                        monitor,
-                        datasourceContextIdentifier)
+                        createdDatasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         assertNotNull(dsc1);
         assertTrue(dsc1.getConnection() instanceof UpdatableConnection);
@@ -471,11 +476,7 @@ public class DatasourceContextServiceTest {
 
         final DatasourceContext<?> dsc2 = (DatasourceContext) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        createdDatasourceStorage,
-                        emptyPlugin,
-                        spyMockPluginExecutor,
-                        monitor,
-                        datasourceContextIdentifier)
+                        createdDatasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         assertNotNull(dsc2);
         assertTrue(dsc2.getConnection() instanceof UpdatableConnection);
@@ -510,11 +511,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
-
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
                 datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
@@ -527,7 +526,7 @@ public class DatasourceContextServiceTest {
     /**
      * This test verifies that if a cached datasource context Mono goes to an error state, then that Mono is invalidated
      * and a new datasource context mono is created on calling
-     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(DatasourceStorage, Plugin, PluginExecutor, Object, DatasourceContextIdentifier)}
+     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(DatasourceStorage, Plugin, PluginExecutor, DatasourceContextIdentifier)}
      * and not fetched from the cache.
      */
     @Test
@@ -552,17 +551,15 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
-
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
                 datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
                 .verify();
 
         Mono<DatasourceContext<?>> validDatasourceContextMono = datasourceContextService.getCachedDatasourceContextMono(
-                datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(validDatasourceContextMono)
                 .assertNext(validDatasourceContext ->
@@ -767,4 +764,254 @@ public class DatasourceContextServiceTest {
                 .expectNextCount(0)
                 .verifyComplete();
     }
+
+    /**
+     * This test checks that contexts which have not been used for longer than the idle timeout are removed and their
+     * connections destroyed, while recently used contexts are kept.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testEvictIdleDatasourceContexts_destroysOnlyIdleContexts() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+        Plugin plugin = new Plugin();
+        plugin.setId("mockPluginId");
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("idle_connection"))
+                .doReturn(Mono.just("active_connection"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+        doReturn(Mono.just(spyMockPluginExecutor)).when(pluginExecutorHelper).getPluginExecutor(any());
+
+        DatasourceStorage idleDatasourceStorage = new DatasourceStorage();
+        idleDatasourceStorage.setDatasourceId("idle_datasource");
+        idleDatasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier idleIdentifier =
+                new DatasourceContextIdentifier(idleDatasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        DatasourceStorage activeDatasourceStorage = new DatasourceStorage();
+        activeDatasourceStorage.setDatasourceId("active_datasource");
+        activeDatasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier activeIdentifier =
+                new DatasourceContextIdentifier(activeDatasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        DatasourceContext<?> idleContext = (DatasourceContext<?>) datasourceContextService
+                .getCachedDatasourceContextMono(idleDatasourceStorage, plugin, spyMockPluginExecutor, idleIdentifier)
+                .block();
+        datasourceContextService
+                .getCachedDatasourceContextMono(
+                        activeDatasourceStorage, plugin, spyMockPluginExecutor, activeIdentifier)
+                .block();
+        idleContext.setLastAccessTime(
+                Instant.now().minus(Duration.ofMinutes(datasourceContextConfig.getIdleTimeoutMinutes() + 1)));
+
+        datasourceContextService.evictIdleDatasourceContexts().block();
+
+        assertFalse(datasourceContextService.isValidDatasourceContextAvailable(idleDatasourceStorage, idleIdentifier));
+        assertTrue(
+                datasourceContextService.isValidDatasourceContextAvailable(activeDatasourceStorage, activeIdentifier));
+        verify(spyMockPluginExecutor, times(1)).datasourceDestroy("idle_connection");
+        verify(spyMockPluginExecutor, never()).datasourceDestroy("active_connection");
+    }
+
+    /**
+     * This test checks that a context whose connection is still being created is not destroyed by the idle eviction,
+     * since its connection would be leaked once created.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testEvictIdleDatasourceContexts_connectionBeingCreated_keepsContext() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+        Plugin plugin = new Plugin();
+        plugin.setId("mockPluginId");
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.never()).when(spyMockPluginExecutor).datasourceCreate(any());
+        doReturn(Mono.just(spyMockPluginExecutor)).when(pluginExecutorHelper).getPluginExecutor(any());
+
+        DatasourceStorage connectingDatasourceStorage = new DatasourceStorage();
+        connectingDatasourceStorage.setDatasourceId("connecting_datasource");
+        connectingDatasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier connectingIdentifier =
+                new DatasourceContextIdentifier(connectingDatasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        Disposable connectingSubscription = datasourceContextService
+                .getCachedDatasourceContextMono(
+                        connectingDatasourceStorage, plugin, spyMockPluginExecutor, connectingIdentifier)
+                .subscribe();
+
+        long idleTimeoutMinutes = datasourceContextConfig.getIdleTimeoutMinutes();
+        datasourceContextConfig.setIdleTimeoutMinutes(0);
+        try {
+            datasourceContextService.evictIdleDatasourceContexts().block();
+        } finally {
+            datasourceContextConfig.setIdleTimeoutMinutes(idleTimeoutMinutes);
+        }
+
+        // The context that is still connecting is reused instead of being created again
+        Disposable reusingSubscription = datasourceContextService
+                .getCachedDatasourceContextMono(
+                        connectingDatasourceStorage, plugin, spyMockPluginExecutor, connectingIdentifier)
+                .subscribe();
+        verify(spyMockPluginExecutor, times(1)).datasourceCreate(any());
+        verify(spyMockPluginExecutor, never()).datasourceDestroy(any());
+
+        connectingSubscription.dispose();
+        reusingSubscription.dispose();
+    }
+
+    /**
+     * This test checks that a context whose connection is being used by a task is neither destroyed by the idle
+     * eviction nor by the eviction of the least recently used contexts, until the task is done.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testEvictDatasourceContexts_taskInFlight_keepsContextUntilTaskIsDone() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+        Plugin plugin = new Plugin();
+        plugin.setId("mockPluginId");
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("busy_connection")).when(spyMockPluginExecutor).datasourceCreate(any());
+        doReturn(Mono.just(spyMockPluginExecutor)).when(pluginExecutorHelper).getPluginExecutor(any());
+
+        DatasourceStorage busyDatasourceStorage = new DatasourceStorage();
+        busyDatasourceStorage.setDatasourceId("busy_datasource");
+        busyDatasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier busyIdentifier =
+                datasourceContextService.initializeDatasourceContextIdentifier(busyDatasourceStorage);
+        DatasourceContext<?> busyContext = (DatasourceContext<?>) datasourceContextService
+                .getCachedDatasourceContextMono(busyDatasourceStorage, plugin, spyMockPluginExecutor, busyIdentifier)
+                .block();
+
+        // A long query, which keeps using the connection well beyond the idle timeout
+        Sinks.Empty<Void> queryResult = Sinks.empty();
+        Disposable querySubscription = datasourceContextService
+                .retryOnce(busyDatasourceStorage, datasourceContext -> queryResult.asMono())
+                .subscribe();
+        busyContext.setLastAccessTime(Instant.EPOCH);
+
+        long idleTimeoutMinutes = datasourceContextConfig.getIdleTimeoutMinutes();
+        int maxContexts = datasourceContextConfig.getMaxContexts();
+        datasourceContextConfig.setIdleTimeoutMinutes(0);
+        datasourceContextConfig.setMaxContexts(0);
+        try {
+            datasourceContextService.evictIdleDatasourceContexts().block();
+
+            assertTrue(
+                    datasourceContextService.isValidDatasourceContextAvailable(busyDatasourceStorage, busyIdentifier));
+            verify(spyMockPluginExecutor, never()).datasourceDestroy("busy_connection");
+
+            queryResult.tryEmitEmpty();
+            datasourceContextService.evictIdleDatasourceContexts().block();
+
+            assertFalse(
+                    datasourceContextService.isValidDatasourceContextAvailable(busyDatasourceStorage, busyIdentifier));
+            verify(spyMockPluginExecutor, times(1)).datasourceDestroy("busy_connection");
+        } finally {
+            datasourceContextConfig.setIdleTimeoutMinutes(idleTimeoutMinutes);
+            datasourceContextConfig.setMaxContexts(maxContexts);
+            querySubscription.dispose();
+        }
+    }
+
+    /**
+     * This test checks that once more contexts than the configured maximum are cached, the least recently used ones
+     * are destroyed.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testDatasourceContextsBeyondMaxContexts_evictsLeastRecentlyUsed() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+        Plugin plugin = new Plugin();
+        plugin.setId("mockPluginId");
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just(spyMockPluginExecutor)).when(pluginExecutorHelper).getPluginExecutor(any());
+
+        // Start from an empty cache by evicting the contexts created by the other tests
+        long idleTimeoutMinutes = datasourceContextConfig.getIdleTimeoutMinutes();
+        datasourceContextConfig.setIdleTimeoutMinutes(0);
+        datasourceContextService.evictIdleDatasourceContexts().block();
+        datasourceContextConfig.setIdleTimeoutMinutes(idleTimeoutMinutes);
+
+        int maxContexts = datasourceContextConfig.getMaxContexts();
+        datasourceContextConfig.setMaxContexts(2);
+        try {
+            List<DatasourceStorage> datasourceStorages = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                DatasourceStorage datasourceStorage = new DatasourceStorage();
+                datasourceStorage.setDatasourceId("lru_datasource_" + i);
+                datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+                datasourceStorages.add(datasourceStorage);
+
+                doReturn(Mono.just("lru_connection_" + i))
+                        .when(spyMockPluginExecutor)
+                        .datasourceCreate(any());
+                DatasourceContext<?> datasourceContext = (DatasourceContext<?>) datasourceContextService
+                        .getCachedDatasourceContextMono(
+                                datasourceStorage,
+                                plugin,
+                                spyMockPluginExecutor,
+                                new DatasourceContextIdentifier("lru_datasource_" + i, defaultEnvironmentId))
+                        .block();
+                // Each context is used later than the previous one
+                datasourceContext.setLastAccessTime(Instant.now().minusSeconds(10 - i));
+            }
+
+            datasourceContextService.evictIdleDatasourceContexts().block();
+
+            assertFalse(datasourceContextService.isValidDatasourceContextAvailable(
+                    datasourceStorages.get(0),
+                    new DatasourceContextIdentifier("lru_datasource_0", defaultEnvironmentId)));
+            assertTrue(datasourceContextService.isValidDatasourceContextAvailable(
+                    datasourceStorages.get(2),
+                    new DatasourceContextIdentifier("lru_datasource_2", defaultEnvironmentId)));
+            // The eviction is also triggered in the background as soon as the third context is created
+            verify(spyMockPluginExecutor, timeout(1000).times(1)).datasourceDestroy("lru_connection_0");
+        } finally {
+            datasourceContextConfig.setMaxContexts(maxContexts);
+        }
+    }
+
+    /**
+     * This test checks that hundreds of concurrent requests against a cold datasource share a single datasource
+     * context, i.e. the connection is created only once, and that they complete on a scheduler with just two threads
+     * while the connection is still being created.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testConcurrentRequestsOnColdDatasource_createOnlyOneDatasourceContext() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+        Plugin plugin = new Plugin();
+        plugin.setId("mockPluginId");
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("cold_connection").delayElement(Duration.ofMillis(500)))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setDatasourceId("cold_datasource");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        // Every subscription goes through the cache lookup, just like separate executions would
+        Mono<DatasourceContext<?>> datasourceContextMono = datasourceContextService.getCachedDatasourceContextMono(
+                datasourceStorage, plugin, spyMockPluginExecutor, datasourceContextIdentifier);
+
+        int requestCount = 500;
+        Scheduler requestScheduler = Schedulers.newParallel("cold-datasource-requests", 2);
+        try {
+            List<DatasourceContext<?>> datasourceContexts = Flux.range(0, requestCount)
+                    .flatMap(i -> datasourceContextMono.subscribeOn(requestScheduler), requestCount)
+                    .collectList()
+                    .block(Duration.ofSeconds(10));
+
+            assertNotNull(datasourceContexts);
+            assertEquals(requestCount, datasourceContexts.size());
+            assertEquals(1, datasourceContexts.stream().distinct().count());
+            assertEquals("cold_connection", datasourceContexts.get(0).getConnection());
+            verify(spyMockPluginExecutor, times(1)).datasourceCreate(any());
+            verify(spyMockPluginExecutor, never()).datasourceDestroy(any());
+        } finally {
+            requestScheduler.dispose();
+        }
+    }
 }
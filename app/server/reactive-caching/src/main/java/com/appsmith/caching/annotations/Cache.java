@@ -22,4 +22,20 @@ public @interface Cache {
      * All method arguments can be used in the expression
      */
     String key() default "";
+
+    /**
+     * Whether the elements of a Flux should be emitted to the caller as they arrive and written to the cache in
+     * chunks, instead of being collected into a list first. Only applies to methods returning Flux.
+     */
+    boolean streaming() default false;
+
+    /**
+     * Results with more elements than this are not cached in streaming mode. -1 means there is no limit.
+     */
+    int maxElements() default -1;
+
+    /**
+     * Results larger than this many serialized bytes are not cached in streaming mode. -1 means there is no limit.
+     */
+    long maxBytes() default -1;
 }
@@ -3,12 +3,14 @@ package com.appsmith.caching.aspects;
 import com.appsmith.caching.annotations.Cache;
 import com.appsmith.caching.annotations.CacheEvict;
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.NearCache;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.ExpressionParser;
@@ -19,7 +21,16 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * CacheAspect is an aspect that is used to cache the results of a method call annotated with Cache.
@@ -32,24 +43,93 @@ public class CacheAspect {
 
     private final CacheManager cacheManager;
 
+    private final NearCache nearCache;
+
+    private final boolean coalescingEnabled;
+
+    private final Duration coalescingMaxWait;
+
+    // Loads that are currently running on cache misses, keyed by cacheName:key
+    private final Map<String, Mono<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
     public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
 
+    // Number of elements written to the cache at once when a Flux is cached in streaming mode
+    private static final int STREAMING_CHUNK_SIZE = 100;
+
     @Autowired
-    public CacheAspect(CacheManager cacheManager) {
+    public CacheAspect(
+            CacheManager cacheManager,
+            NearCache nearCache,
+            @Value("${appsmith.caching.coalescing.enabled:true}") boolean coalescingEnabled,
+            @Value("${appsmith.caching.coalescing.max-wait-seconds:30}") long coalescingMaxWaitSeconds) {
         this.cacheManager = cacheManager;
+        this.nearCache = nearCache;
+        this.coalescingEnabled = coalescingEnabled;
+        this.coalescingMaxWait = Duration.ofSeconds(coalescingMaxWaitSeconds);
     }
 
     /**
-     * This method is used to call original Mono<T> returning method and return the the result after caching it with CacheManager
+     * This method is used to make sure that concurrent cache misses for the same key invoke the original method only
+     * once. The first caller runs the load, while the others subscribe to it. If the load takes longer than the
+     * configured max wait, the waiting callers give up on it and run the load themselves.
      *
-     * @param joinPoint The join point of the method call
      * @param cacheName The name of the cache
      * @param key       The key to be used for caching
+     * @param loader    Supplier of the load that calls the original method and caches the result
+     * @return The result of the in-flight load for the key
+     */
+    private Mono<Object> coalesce(String cacheName, String key, Supplier<Mono<Object>> loader) {
+        if (!coalescingEnabled) {
+            return loader.get();
+        }
+
+        String flightKey = cacheName + ":" + key;
+        AtomicReference<Mono<Object>> loadReference = new AtomicReference<>();
+        Mono<Object> load = Mono.defer(loader)
+                .doFinally(signalType -> inFlightLoads.remove(flightKey, loadReference.get()))
+                .cache();
+        loadReference.set(load);
+
+        Mono<Object> inFlightLoad = inFlightLoads.putIfAbsent(flightKey, load);
+        if (inFlightLoad == null) {
+            return load;
+        }
+
+        cacheManager.getStats(cacheName).getCoalescedCalls().incrementAndGet();
+        log.debug("Cache miss for key {} coalesced with an in-flight load", flightKey);
+        return inFlightLoad.timeout(coalescingMaxWait, Mono.defer(loader));
+    }
+
+    /**
+     * This method is used to look up the cached value, first in the in-process near cache and then in the CacheManager.
+     * Values found in the CacheManager are copied into the near cache.
+     *
+     * @param cacheName  The name of the cache
+     * @param key        The key to be used for caching
+     * @param generation The generation of the near cache observed before the lookup
+     * @return The cached value, Mono.empty() if not found in either tier
+     */
+    private Mono<Object> getFromCache(String cacheName, String key, long generation) {
+        return nearCache.get(cacheName, key).switchIfEmpty(Mono.defer(() -> cacheManager
+                .get(cacheName, key)
+                .doOnNext(value -> nearCache.put(cacheName, key, value, generation))));
+    }
+
+    /**
+     * This method is used to call original Mono<T> returning method and return the the result after caching it with CacheManager
+     *
+     * @param joinPoint  The join point of the method call
+     * @param cacheName  The name of the cache
+     * @param key        The key to be used for caching
+     * @param generation The generation of the near cache observed before the lookup
      * @return The result of the method call
      */
-    private Mono<Object> callMonoMethodAndCache(ProceedingJoinPoint joinPoint, String cacheName, String key) {
+    private Mono<Object> callMonoMethodAndCache(
+            ProceedingJoinPoint joinPoint, String cacheName, String key, long generation) {
         try {
             return ((Mono<?>) joinPoint.proceed())
+                    .doOnNext(value -> nearCache.put(cacheName, key, value, generation))
                     .zipWhen(value ->
                             cacheManager.put(cacheName, key, value)) // Call CacheManager.put() to cache the object
                     .flatMap(value -> Mono.just(value.getT1())); // Maps to the original object
@@ -65,15 +145,18 @@ public class CacheAspect {
     /**
      * This method is used to call original Flux<T> returning method and return the the result after caching it with CacheManager
      *
-     * @param joinPoint The join point
-     * @param cacheName The name of the cache
-     * @param key       The key to be used for caching
+     * @param joinPoint  The join point
+     * @param cacheName  The name of the cache
+     * @param key        The key to be used for caching
+     * @param generation The generation of the near cache observed before the lookup
      * @return The result of the method call after caching
      */
-    private Flux<?> callFluxMethodAndCache(ProceedingJoinPoint joinPoint, String cacheName, String key) {
+    private Flux<?> callFluxMethodAndCache(
+            ProceedingJoinPoint joinPoint, String cacheName, String key, long generation) {
         try {
             return ((Flux<?>) joinPoint.proceed())
                     .collectList() // Collect Flux<T> into Mono<List<T>>
+                    .doOnNext(value -> nearCache.put(cacheName, key, value, generation))
                     .zipWhen(value ->
                             cacheManager.put(cacheName, key, value)) // Call CacheManager.put() to cache the list
                     .flatMap(value -> Mono.just(value.getT1())) // Maps to the original list
@@ -87,6 +170,73 @@ public class CacheAspect {
         }
     }
 
+    /**
+     * This method is used to call original Flux<T> returning method and emit its elements as they arrive, while
+     * writing them to the cache in chunks. If the result grows beyond the element or byte budget of the annotation,
+     * the chunks written so far are discarded and the result is not cached.
+     *
+     * @param joinPoint  The join point
+     * @param cacheName  The name of the cache
+     * @param key        The key to be used for caching
+     * @param annotation The Cache annotation of the method, with the budgets for the result
+     * @return The result of the method call
+     */
+    private Flux<?> callFluxMethodAndStreamToCache(
+            ProceedingJoinPoint joinPoint, String cacheName, String key, Cache annotation) {
+        Flux<?> result;
+        try {
+            result = (Flux<?>) joinPoint.proceed();
+        } catch (Throwable e) {
+            log.error(
+                    "Error occurred in saving to cache when invoking function {}",
+                    joinPoint.getSignature().getName(),
+                    e);
+            return Flux.error(e);
+        }
+
+        String writeId = UUID.randomUUID().toString();
+        AtomicLong elementCount = new AtomicLong();
+        AtomicLong byteCount = new AtomicLong();
+        AtomicBoolean isOverBudget = new AtomicBoolean();
+
+        return result.publish(elements -> Flux.merge(
+                elements,
+                elements.buffer(STREAMING_CHUNK_SIZE)
+                        .concatMap(chunk -> {
+                            if (isOverBudget.get()) {
+                                return Mono.empty();
+                            }
+                            long elementsSoFar = elementCount.addAndGet(chunk.size());
+                            if (annotation.maxElements() >= 0 && elementsSoFar > annotation.maxElements()) {
+                                isOverBudget.set(true);
+                                return Mono.empty();
+                            }
+                            return cacheManager
+                                    .appendToList(cacheName, key, writeId, chunk)
+                                    .doOnNext(chunkBytes -> {
+                                        long bytesSoFar = byteCount.addAndGet(chunkBytes);
+                                        if (annotation.maxBytes() >= 0 && bytesSoFar > annotation.maxBytes()) {
+                                            isOverBudget.set(true);
+                                        }
+                                    });
+                        })
+                        .then(Mono.defer(() -> {
+                            if (isOverBudget.get()) {
+                                log.debug("Result for key {}:{} is over the cache budget, skipping", cacheName, key);
+                                return cacheManager.discardList(cacheName, key, writeId);
+                            }
+                            return cacheManager
+                                    .commitList(cacheName, key, writeId)
+                                    .then();
+                        }))
+                        // Failing to cache the result must not fail the method call
+                        .onErrorResume(error -> {
+                            log.error("Error occurred in saving to cache for key {}:{}", cacheName, key, error);
+                            return cacheManager.discardList(cacheName, key, writeId);
+                        })
+                        .then(Mono.empty())));
+    }
+
     /**
      * This method is used to derive the key name for caching the result of a method call based on method arguments.
      * This uses original strategy used by Spring's Cacheable annotation.
@@ -164,19 +314,44 @@ public class CacheAspect {
 
         Class<?> returnType = method.getReturnType();
         if (returnType.isAssignableFrom(Mono.class)) { // If method returns Mono<T>
-            return cacheManager
-                    .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callMonoMethodAndCache(
-                            joinPoint, cacheName,
-                            key))); // defer the creation of Mono until subscription as it will call original function
+            // The near cache generation is read on subscription, before any tier is consulted
+            return Mono.defer(() -> {
+                long generation = nearCache.generation(cacheName);
+                // defer the creation of Mono until subscription as it will call original function
+                return getFromCache(cacheName, key, generation)
+                        .switchIfEmpty(Mono.defer(() -> coalesce(
+                                cacheName, key, () -> callMonoMethodAndCache(joinPoint, cacheName, key, generation))));
+            });
+        }
+
+        if (returnType.isAssignableFrom(Flux.class) && annotation.streaming()) { // If method streams Flux<T>
+            // Streamed results are never held in memory as a whole, so concurrent misses are not coalesced and the
+            // near cache is only populated from the CacheManager.
+            return Mono.defer(() -> {
+                        long generation = nearCache.generation(cacheName);
+                        return nearCache
+                                .get(cacheName, key)
+                                .switchIfEmpty(Mono.defer(() -> cacheManager
+                                        .getList(cacheName, key)
+                                        .doOnNext(value -> nearCache.put(cacheName, key, value, generation))))
+                                .map(Optional::of)
+                                .defaultIfEmpty(Optional.empty());
+                    })
+                    .flatMapMany(cached -> cached.isPresent()
+                            ? Flux.fromIterable((List<?>) cached.get())
+                            : callFluxMethodAndStreamToCache(joinPoint, cacheName, key, annotation));
         }
 
         if (returnType.isAssignableFrom(Flux.class)) { // If method returns Flux<T>
-            return cacheManager
-                    .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key)
-                            .collectList())) // defer the creation of Flux until subscription as it will call original
-                    // function
+            return Mono.defer(() -> {
+                        long generation = nearCache.generation(cacheName);
+                        // defer the creation of Flux until subscription as it will call original function
+                        return getFromCache(cacheName, key, generation)
+                                .switchIfEmpty(Mono.defer(() -> coalesce(cacheName, key, () -> callFluxMethodAndCache(
+                                                joinPoint, cacheName, key, generation)
+                                        .collectList()
+                                        .map(list -> (Object) list))));
+                    })
                     .map(value -> (List<?>) value)
                     .flatMapMany(Flux::fromIterable);
         }
@@ -209,14 +384,21 @@ public class CacheAspect {
         }
 
         if (all) { // If all is true, evict all keys from the cache
-            return cacheManager.evictAll(cacheName).then((Mono<?>) joinPoint.proceed());
+            return cacheManager
+                    .evictAll(cacheName)
+                    .then(Mono.defer(() -> nearCache.evictAll(cacheName)))
+                    .then((Mono<?>) joinPoint.proceed());
         }
 
         // derive key
         String[] parameterNames = signature.getParameterNames();
         Object[] args = joinPoint.getArgs();
         String key = deriveKey(annotation.key(), parameterNames, args);
-        // Evict key from the cache then call the original method
-        return cacheManager.evict(cacheName, key).then((Mono<?>) joinPoint.proceed());
+        // Evict key from both cache tiers then call the original method. The near cache is evicted after the
+        // CacheManager so that a concurrent lookup cannot copy the old value back into the near cache.
+        return cacheManager
+                .evict(cacheName, key)
+                .then(Mono.defer(() -> nearCache.evict(cacheName, key)))
+                .then((Mono<?>) joinPoint.proceed());
     }
 }
@@ -1,13 +1,23 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.model.CacheStats;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface CacheManager {
     /**
      * This will log the cache stats with INFO severity.
      */
     void logStats();
 
+    /**
+     * This will get the stats of the cache, creating them if this is the first time the cache is used.
+     * @param cacheName The name of the cache.
+     * @return The stats of the cache.
+     */
+    CacheStats getStats(String cacheName);
+
     /**
      * This will get item from the cache, Mono.empty() if not found.
      * @param cacheName The name of the cache.
@@ -25,6 +35,43 @@ public interface CacheManager {
      */
     Mono<Boolean> put(String cacheName, String key, Object value);
 
+    /**
+     * This will get a list that was written in chunks from the cache, Mono.empty() if not found.
+     * @param cacheName The name of the cache.
+     * @param key The key of the list.
+     * @return The Mono of the list.
+     */
+    Mono<Object> getList(String cacheName, String key);
+
+    /**
+     * This will append a chunk of elements to a list that is being written to the cache.
+     * The list is not visible to readers until it is committed with commitList.
+     * @param cacheName The name of the cache.
+     * @param key The key of the list.
+     * @param writeId The id that identifies this write of the list.
+     * @param elements The elements to append.
+     * @return Mono<Long> with the serialized size of the appended elements in bytes.
+     */
+    Mono<Long> appendToList(String cacheName, String key, String writeId, List<?> elements);
+
+    /**
+     * This will make a list written with appendToList visible to readers, replacing any existing item for the key.
+     * @param cacheName The name of the cache.
+     * @param key The key of the list.
+     * @param writeId The id that identifies this write of the list.
+     * @return Mono<Boolean> true if commit was successful, false otherwise.
+     */
+    Mono<Boolean> commitList(String cacheName, String key, String writeId);
+
+    /**
+     * This will drop a list written with appendToList without making it visible to readers.
+     * @param cacheName The name of the cache.
+     * @param key The key of the list.
+     * @param writeId The id that identifies this write of the list.
+     * @return Mono<Void> that will complete after the list is dropped.
+     */
+    Mono<Void> discardList(String cacheName, String key, String writeId);
+
     /**
      * This will remove item from the cache.
      * @param cacheName The name of the cache.
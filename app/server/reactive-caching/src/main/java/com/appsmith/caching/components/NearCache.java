@@ -0,0 +1,283 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheStats;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NearCache is a bounded, in-process cache tier that sits in front of the CacheManager.
+ * Entries are evicted in LRU order once a cache grows beyond the configured size, and expire after the configured TTL.
+ * Evictions are broadcast to peer nodes over Redis pub/sub so that every node drops its local copy.
+ * <p>
+ * Values are shared by reference between callers, so this tier is disabled unless explicitly turned on, either for all
+ * caches or only for the caches whose values are never modified by their callers.
+ */
+@Component
+@ConditionalOnClass({ReactiveRedisTemplate.class})
+@Slf4j
+public class NearCache {
+
+    public static final String INVALIDATION_CHANNEL = "appsmith:cache:invalidations";
+
+    private static final String MESSAGE_SEPARATOR = "|";
+    private static final String EVICT_KEY = "evict";
+    private static final String EVICT_ALL = "evictAll";
+
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+    private final boolean enabled;
+    private final Set<String> enabledCacheNames;
+    private final int maxEntriesPerCache;
+    private final long ttlMillis;
+
+    // Used to ignore the invalidation messages published by this node
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, Segment> segments = new ConcurrentHashMap<>();
+
+    Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
+
+    private Disposable invalidationSubscription;
+
+    public NearCache(
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            boolean enabled,
+            int maxEntriesPerCache,
+            long ttlSeconds) {
+        this(reactiveRedisOperations, enabled, Set.of(), maxEntriesPerCache, ttlSeconds);
+    }
+
+    @Autowired
+    public NearCache(
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            @Value("${appsmith.caching.near-cache.enabled:false}") boolean enabled,
+            @Value("${appsmith.caching.near-cache.cache-names:}") Set<String> enabledCacheNames,
+            @Value("${appsmith.caching.near-cache.max-entries:1000}") int maxEntriesPerCache,
+            @Value("${appsmith.caching.near-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.enabled = enabled;
+        this.enabledCacheNames = Set.copyOf(enabledCacheNames);
+        this.maxEntriesPerCache = maxEntriesPerCache;
+        this.ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+    }
+
+    /**
+     * Subscribes to the invalidation channel so that evictions on peer nodes are applied to this node as well.
+     */
+    @PostConstruct
+    public void subscribeToInvalidations() {
+        if (!enabled && enabledCacheNames.isEmpty()) {
+            return;
+        }
+        invalidationSubscription = reactiveRedisOperations
+                .listenToChannel(INVALIDATION_CHANNEL)
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnNext(this::handleInvalidationMessage)
+                .doOnError(error -> log.warn("Near cache invalidation listener failed, resubscribing", error))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofMinutes(1)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void unsubscribeFromInvalidations() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    /**
+     * Ensures that the key for cacheName is present in statsMap.
+     * @param cacheName The name of the cache.
+     * @return The stats of the cache.
+     */
+    private boolean isEnabled(String cacheName) {
+        return enabled || enabledCacheNames.contains(cacheName);
+    }
+
+    private CacheStats ensureStats(String cacheName) {
+        return statsMap.computeIfAbsent(cacheName, name -> CacheStats.newInstance());
+    }
+
+    private Segment segment(String cacheName) {
+        return segments.computeIfAbsent(cacheName, name -> new Segment(maxEntriesPerCache));
+    }
+
+    public CacheStats getStats(String cacheName) {
+        return ensureStats(cacheName);
+    }
+
+    public void logStats() {
+        statsMap.forEach((cacheName, stats) -> log.debug(
+                "Near cache {} stats: hits = {}, misses = {}, remoteInvalidations = {}",
+                cacheName,
+                stats.getNearCacheHits(),
+                stats.getNearCacheMisses(),
+                stats.getRemoteInvalidations()));
+    }
+
+    /**
+     * Returns the current generation of the cache. A value loaded from a lower tier should be put back with the
+     * generation observed before loading, so that a load racing with an eviction does not repopulate a stale value.
+     * @param cacheName The name of the cache.
+     * @return The current generation of the cache.
+     */
+    public long generation(String cacheName) {
+        return segment(cacheName).generation.get();
+    }
+
+    /**
+     * This will get item from the near cache, Mono.empty() if not found or expired.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @return The Mono of the item.
+     */
+    public Mono<Object> get(String cacheName, String key) {
+        if (!isEnabled(cacheName)) {
+            return Mono.empty();
+        }
+        Object value = segment(cacheName).get(key, System.currentTimeMillis());
+        if (value == null) {
+            ensureStats(cacheName).getNearCacheMisses().incrementAndGet();
+            return Mono.empty();
+        }
+        ensureStats(cacheName).getNearCacheHits().incrementAndGet();
+        return Mono.just(value);
+    }
+
+    /**
+     * This will put item into the near cache, unless the cache has been invalidated since the given generation.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @param value The value of the item.
+     * @param generation The generation of the cache observed before the value was loaded.
+     */
+    public void put(String cacheName, String key, Object value, long generation) {
+        if (!isEnabled(cacheName) || value == null) {
+            return;
+        }
+        segment(cacheName).put(key, value, System.currentTimeMillis() + ttlMillis, generation);
+    }
+
+    /**
+     * This will remove item from the near cache of this node and publish the eviction to peer nodes.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @return Mono<Void> that will complete after the eviction is published.
+     */
+    public Mono<Void> evict(String cacheName, String key) {
+        if (!isEnabled(cacheName)) {
+            return Mono.empty();
+        }
+        segment(cacheName).remove(key);
+        return publish(EVICT_KEY, cacheName, key);
+    }
+
+    /**
+     * This will remove all items of the cache from the near cache of this node and publish the eviction to peer nodes.
+     * @param cacheName The name of the cache.
+     * @return Mono<Void> that will complete after the eviction is published.
+     */
+    public Mono<Void> evictAll(String cacheName) {
+        if (!isEnabled(cacheName)) {
+            return Mono.empty();
+        }
+        segment(cacheName).clear();
+        return publish(EVICT_ALL, cacheName, "");
+    }
+
+    private Mono<Void> publish(String operation, String cacheName, String key) {
+        String message = String.join(MESSAGE_SEPARATOR, nodeId, operation, cacheName, key);
+        return reactiveRedisOperations
+                .convertAndSend(INVALIDATION_CHANNEL, message)
+                .onErrorResume(error -> {
+                    // Peers will still drop the entry once its TTL runs out
+                    log.warn("Failed to publish near cache invalidation for cache {}", cacheName, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    void handleInvalidationMessage(String message) {
+        // Message format is nodeId|operation|cacheName|key, where the key itself may contain the separator
+        String[] parts = message.split("\\" + MESSAGE_SEPARATOR, 4);
+        if (parts.length < 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+        String operation = parts[1];
+        String cacheName = parts[2];
+        if (EVICT_ALL.equals(operation)) {
+            segment(cacheName).clear();
+        } else if (EVICT_KEY.equals(operation)) {
+            segment(cacheName).remove(parts[3]);
+        } else {
+            return;
+        }
+        ensureStats(cacheName).getRemoteInvalidations().incrementAndGet();
+    }
+
+    /**
+     * Bounded LRU map for a single cacheName, along with a generation counter that is bumped on every invalidation.
+     */
+    private static class Segment {
+        private final AtomicLong generation = new AtomicLong();
+        private final LinkedHashMap<String, Entry> entries;
+
+        Segment(int maxEntries) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        synchronized Object get(String key, long now) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= now) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+
+        synchronized void put(String key, Object value, long expiresAt, long expectedGeneration) {
+            if (generation.get() != expectedGeneration) {
+                return;
+            }
+            entries.put(key, new Entry(value, expiresAt));
+        }
+
+        synchronized void remove(String key) {
+            generation.incrementAndGet();
+            entries.remove(key);
+        }
+
+        synchronized void clear() {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    private record Entry(Object value, long expiresAt) {}
+}
@@ -4,18 +4,29 @@ import com.appsmith.caching.model.CacheStats;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
-import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * RedisCacheManagerImpl is a class that implements the CacheManager interface.
  * Used Redis as the cache backend.
+ * <p>
+ * Every cache maintains a Redis set with the keys of its entries, so that evicting a complete cache only touches the
+ * entries of that cache instead of scanning the whole keyspace. Entries written before the sets were introduced aren't
+ * in any set, so the first complete eviction of each cache also looks for them with SCAN, and records in Redis that it
+ * did, so that the keyspace is scanned once per cache rather than once per node and restart.
  */
 @Component
 @ConditionalOnClass({ReactiveRedisTemplate.class})
@@ -23,10 +34,23 @@ import java.util.concurrent.ConcurrentHashMap;
 public class RedisCacheManagerImpl implements CacheManager {
 
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
-    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private static final String INDEX_PREFIX = "cache-index:";
+
+    // Number of keys deleted per DEL command while evicting a complete cache
+    private static final int EVICTION_BATCH_SIZE = 500;
+
+    // First element of every list written in chunks, so that an empty result can be told apart from a miss
+    private static final String LIST_HEADER = "appsmith:cache:list";
+
+    // Staging lists of writes that never complete, e.g. because the node went down, are cleaned up by Redis
+    private static final Duration STAGING_LIST_TTL = Duration.ofMinutes(10);
 
     Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
 
+    // Caches whose entries that aren't in their index are known to have been evicted, so that Redis isn't asked again
+    private final Set<String> unindexedEntriesEvictedCaches = ConcurrentHashMap.newKeySet();
+
     /**
      * Ensures that the key for cacheName is present in statsMap.
      * @param cacheName The name of the cache.
@@ -42,15 +66,22 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.keySet().forEach(key -> {
             CacheStats stats = statsMap.get(key);
             log.debug(
-                    "Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}",
+                    "Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}, coalescedCalls = {}",
                     key,
                     stats.getHits(),
                     stats.getMisses(),
                     stats.getSingleEvictions(),
-                    stats.getCompleteEvictions());
+                    stats.getCompleteEvictions(),
+                    stats.getCoalescedCalls());
         });
     }
 
+    @Override
+    public CacheStats getStats(String cacheName) {
+        ensureStats(cacheName);
+        return statsMap.get(cacheName);
+    }
+
     /**
      * Resets the stats.
      */
@@ -59,11 +90,8 @@ public class RedisCacheManagerImpl implements CacheManager {
     }
 
     @Autowired
-    public RedisCacheManagerImpl(
-            ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
-            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+    public RedisCacheManagerImpl(ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
-        this.reactiveRedisOperations = reactiveRedisOperations;
     }
 
     @Override
@@ -86,12 +114,107 @@ public class RedisCacheManagerImpl implements CacheManager {
                 }));
     }
 
+    /**
+     * Returns the key of the Redis set that tracks all the entries of the cache.
+     * @param cacheName The name of the cache.
+     * @return The key of the index set.
+     */
+    private String indexKey(String cacheName) {
+        return INDEX_PREFIX + cacheName;
+    }
+
+    /**
+     * Returns the key that records that the entries of the cache that aren't in its index have been evicted.
+     * @param cacheName The name of the cache.
+     * @return The key of the marker.
+     */
+    private String unindexedEntriesEvictedKey(String cacheName) {
+        return indexKey(cacheName) + ":legacy-swept";
+    }
+
     @Override
     public Mono<Boolean> put(String cacheName, String key, Object value) {
         ensureStats(cacheName);
         String path = cacheName + ":" + key;
         log.debug("Cache entry added for key {}", path);
-        return reactiveRedisTemplate.opsForValue().set(path, value);
+        return reactiveRedisTemplate.opsForValue().set(path, value).flatMap(isSet -> reactiveRedisTemplate
+                .opsForSet()
+                .add(indexKey(cacheName), path)
+                .thenReturn(isSet));
+    }
+
+    private String stagingKey(String cacheName, String key, String writeId) {
+        return cacheName + ":" + key + ":staging:" + writeId;
+    }
+
+    @Override
+    public Mono<Object> getList(String cacheName, String key) {
+        ensureStats(cacheName);
+        String path = cacheName + ":" + key;
+        return reactiveRedisTemplate
+                .opsForList()
+                .range(path, 0, -1)
+                .collectList()
+                // Entries that were not written in chunks are stored as plain values, treat them as a miss
+                .onErrorResume(error -> Mono.just(List.of()))
+                .filter(elements -> !elements.isEmpty() && LIST_HEADER.equals(elements.get(0)))
+                .map(elements -> {
+                    // This is a cache hit, update stats and return the elements without the header
+                    statsMap.get(cacheName).getHits().incrementAndGet();
+                    return (Object) new ArrayList<>(elements.subList(1, elements.size()));
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    // This is a cache miss, update stats and return empty
+                    statsMap.get(cacheName).getMisses().incrementAndGet();
+                    log.debug("Cache miss for key {}", path);
+                    return Mono.empty();
+                }));
+    }
+
+    @Override
+    public Mono<Long> appendToList(String cacheName, String key, String writeId, List<?> elements) {
+        String stagingKey = stagingKey(cacheName, key, writeId);
+        RedisSerializationContext<String, Object> serializationContext =
+                reactiveRedisTemplate.getSerializationContext();
+
+        // Serialize the elements once, so that their size can be reported without serializing them again
+        List<ByteBuffer> serializedElements = new ArrayList<>(elements.size());
+        long size = 0;
+        for (Object element : elements) {
+            ByteBuffer serializedElement =
+                    serializationContext.getValueSerializationPair().write(element);
+            size += serializedElement.remaining();
+            serializedElements.add(serializedElement);
+        }
+        ByteBuffer serializedKey =
+                serializationContext.getKeySerializationPair().write(stagingKey);
+
+        final long serializedSize = size;
+        return reactiveRedisTemplate
+                .execute(connection -> connection.listCommands().rPush(serializedKey, serializedElements))
+                .then(reactiveRedisTemplate.expire(stagingKey, STAGING_LIST_TTL))
+                .thenReturn(serializedSize);
+    }
+
+    @Override
+    public Mono<Boolean> commitList(String cacheName, String key, String writeId) {
+        ensureStats(cacheName);
+        String path = cacheName + ":" + key;
+        String stagingKey = stagingKey(cacheName, key, writeId);
+        log.debug("Cache entry added for key {}", path);
+        // The header also creates the staging list when the result had no elements
+        return reactiveRedisTemplate
+                .opsForList()
+                .leftPush(stagingKey, LIST_HEADER)
+                .then(reactiveRedisTemplate.rename(stagingKey, path))
+                .then(reactiveRedisTemplate.persist(path))
+                .then(reactiveRedisTemplate.opsForSet().add(indexKey(cacheName), path))
+                .thenReturn(true);
+    }
+
+    @Override
+    public Mono<Void> discardList(String cacheName, String key, String writeId) {
+        return reactiveRedisTemplate.delete(stagingKey(cacheName, key, writeId)).then();
     }
 
     @Override
@@ -100,17 +223,66 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
         String path = cacheName + ":" + key;
         log.debug("Cache entry evicted for key {}", path);
-        return reactiveRedisTemplate.delete(path).then();
+        return reactiveRedisTemplate
+                .delete(path)
+                .then(reactiveRedisTemplate.opsForSet().remove(indexKey(cacheName), path))
+                .then();
     }
 
     @Override
     public Mono<Void> evictAll(String cacheName) {
         ensureStats(cacheName);
         statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
-        String path = cacheName;
-        // Remove all matching keys with wildcard
-        final String script =
-                "for _,k in ipairs(redis.call('keys','" + path + ":*'))" + " do redis.call('del',k) " + "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
+        // Move the index out of the way first, so that entries added while we are evicting go to a fresh index
+        // and are not lost. RENAME fails when the index doesn't exist, which means there is nothing to evict.
+        String evictingIndexKey = indexKey(cacheName) + ":evicting:" + UUID.randomUUID();
+        return reactiveRedisTemplate
+                .rename(indexKey(cacheName), evictingIndexKey)
+                .onErrorResume(error -> Mono.just(false))
+                .filter(Boolean.TRUE::equals)
+                // SSCAN walks the index incrementally instead of loading it in one blocking call
+                .flatMapMany(isRenamed -> reactiveRedisTemplate.opsForSet().scan(evictingIndexKey))
+                .map(String::valueOf)
+                .buffer(EVICTION_BATCH_SIZE)
+                .concatMap(paths -> reactiveRedisTemplate.delete(paths.toArray(new String[0])))
+                .then(reactiveRedisTemplate.delete(evictingIndexKey))
+                .then(Mono.defer(() -> unindexedEntriesEvictedCaches.contains(cacheName)
+                        ? Mono.empty()
+                        : evictUnindexedEntriesOnce(cacheName)));
+    }
+
+    /**
+     * Evicts the entries of the cache that aren't in its index, unless any node already did. The marker is only set
+     * once the eviction completes, so that an eviction that fails or is interrupted is tried again. Nodes that evict
+     * the first time concurrently may both scan, which is harmless as deleting the entries is idempotent.
+     */
+    private Mono<Void> evictUnindexedEntriesOnce(String cacheName) {
+        String markerKey = unindexedEntriesEvictedKey(cacheName);
+        return reactiveRedisTemplate
+                .hasKey(markerKey)
+                .flatMap(isEvicted -> isEvicted
+                        ? Mono.empty()
+                        : evictUnindexedEntries(cacheName)
+                                .then(reactiveRedisTemplate.opsForValue().set(markerKey, true)))
+                .doOnSuccess(ignored -> unindexedEntriesEvictedCaches.add(cacheName))
+                .then();
+    }
+
+    /**
+     * Evicts the entries of the cache that aren't in its index, like the entries written before the index existed.
+     * SCAN walks the keyspace incrementally, so unlike KEYS it doesn't block Redis while it runs. The lists that are
+     * still being written are left alone, so that their writes can complete.
+     */
+    private Mono<Void> evictUnindexedEntries(String cacheName) {
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(cacheName + ":*")
+                .count(EVICTION_BATCH_SIZE)
+                .build();
+        return reactiveRedisTemplate
+                .scan(scanOptions)
+                .filter(path -> !path.contains(":staging:"))
+                .buffer(EVICTION_BATCH_SIZE)
+                .concatMap(paths -> reactiveRedisTemplate.delete(paths.toArray(new String[0])))
+                .then();
     }
 }
@@ -31,4 +31,24 @@ public class CacheStats {
      * The number of times the cache was evicted (all keys).
      */
     private AtomicInteger completeEvictions = new AtomicInteger(0);
+
+    /**
+     * The number of times the in-process near cache tier was hit.
+     */
+    private AtomicInteger nearCacheHits = new AtomicInteger(0);
+
+    /**
+     * The number of times the in-process near cache tier was missed.
+     */
+    private AtomicInteger nearCacheMisses = new AtomicInteger(0);
+
+    /**
+     * The number of near cache invalidations received from peer nodes.
+     */
+    private AtomicInteger remoteInvalidations = new AtomicInteger(0);
+
+    /**
+     * The number of calls that were served by an in-flight load for the same key instead of invoking the method.
+     */
+    private AtomicInteger coalescedCalls = new AtomicInteger(0);
 }
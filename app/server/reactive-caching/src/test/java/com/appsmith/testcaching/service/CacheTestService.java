@@ -85,6 +85,44 @@ public class CacheTestService {
         return Mono.empty();
     }
 
+    /**
+     * This method is used to test the streaming caching functionality for Flux<T>.
+     * @param id The id
+     * @return The Flux<TestModel>, random every time
+     */
+    @Cache(cacheName = "streamcache", streaming = true)
+    public Flux<TestModel> getStreamFor(String id) {
+        return Flux.range(0, 250).map(i -> {
+            TestModel model = factory.manufacturePojo(TestModel.class);
+            model.setId(id);
+            return model;
+        });
+    }
+
+    /**
+     * This method is used to test that streamed results beyond the element budget are not cached.
+     * @param id The id
+     * @return The Flux<TestModel>, random every time
+     */
+    @Cache(cacheName = "streamcache", streaming = true, maxElements = 10)
+    public Flux<TestModel> getBoundedStreamFor(String id) {
+        return Flux.range(0, 50).map(i -> {
+            TestModel model = factory.manufacturePojo(TestModel.class);
+            model.setId(id);
+            return model;
+        });
+    }
+
+    /**
+     * This method is used to test the eviction functionality for streamed Flux<T>.
+     * @param id The id
+     * @return Mono<Void> that completes after eviction
+     */
+    @CacheEvict(cacheName = "streamcache")
+    public Mono<Void> evictStreamFor(String id) {
+        return Mono.empty();
+    }
+
     /**
      * This method is used to test SPEL expression in the caching annotation.
      * @param ArgumentModel The argument model
@@ -0,0 +1,121 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.components.NearCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NearCacheTest {
+
+    private ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        reactiveRedisOperations = mock(ReactiveRedisOperations.class);
+        when(reactiveRedisOperations.convertAndSend(anyString(), anyString())).thenReturn(Mono.just(1L));
+        doReturn(Flux.never()).when(reactiveRedisOperations).listenToChannel(anyString());
+    }
+
+    @Test
+    public void testPutAndGet() {
+        NearCache nearCache = new NearCache(reactiveRedisOperations, true, 10, 60);
+        nearCache.put("cache", "key", "value", nearCache.generation("cache"));
+
+        assertEquals("value", nearCache.get("cache", "key").block());
+        assertNull(nearCache.get("cache", "missing").block());
+        assertEquals(1, nearCache.getStats("cache").getNearCacheHits().get());
+        assertEquals(1, nearCache.getStats("cache").getNearCacheMisses().get());
+    }
+
+    @Test
+    public void testDisabledCacheNeverReturnsValues() {
+        NearCache nearCache = new NearCache(reactiveRedisOperations, false, 10, 60);
+        nearCache.put("cache", "key", "value", nearCache.generation("cache"));
+
+        assertNull(nearCache.get("cache", "key").block());
+    }
+
+    @Test
+    public void testCacheEnabledByNameWhileDisabledForOthers() {
+        NearCache nearCache = new NearCache(reactiveRedisOperations, false, Set.of("enabledCache"), 10, 60);
+        nearCache.put("enabledCache", "key", "value", nearCache.generation("enabledCache"));
+        nearCache.put("cache", "key", "value", nearCache.generation("cache"));
+
+        assertEquals("value", nearCache.get("enabledCache", "key").block());
+        assertNull(nearCache.get("cache", "key").block());
+
+        nearCache.evict("enabledCache", "key").block();
+        verify(reactiveRedisOperations).convertAndSend(eq(NearCache.INVALIDATION_CHANNEL), anyString());
+        assertNull(nearCache.get("enabledCache", "key").block());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvictedBeyondMaxEntries() {
+        NearCache nearCache = new NearCache(reactiveRedisOperations, true, 2, 60);
+        nearCache.put("cache", "key1", "value1", nearCache.generation("cache"));
+        nearCache.put("cache", "key2", "value2", nearCache.generation("cache"));
+        // Touch key1 so that key2 becomes the least recently used entry
+        nearCache.get("cache", "key1").block();
+        nearCache.put("cache", "key3", "value3", nearCache.generation("cache"));
+
+        assertEquals("value1", nearCache.get("cache", "key1").block());
+        assertNull(nearCache.get("cache", "key2").block());
+        assertEquals("value3", nearCache.get("cache", "key3").block());
+    }
+
+    @Test
+    public void testEntryExpiresAfterTtl() throws InterruptedException {
+        NearCache nearCache = new NearCache(reactiveRedisOperations, true, 10, 1);
+        nearCache.put("cache", "key", "value", nearCache.generation("cache"));
+        assertEquals("value", nearCache.get("cache", "key").block());
+
+        Thread.sleep(1100);
+
+        assertNull(nearCache.get("cache", "key").block());
+    }
+
+    @Test
+    public void testEvictPublishesInvalidationAndRejectsStalePut() {
+        NearCache nearCache = new NearCache(reactiveRedisOperations, true, 10, 60);
+        long generation = nearCache.generation("cache");
+        nearCache.put("cache", "key", "value", generation);
+
+        nearCache.evict("cache", "key").block();
+        verify(reactiveRedisOperations).convertAndSend(eq(NearCache.INVALIDATION_CHANNEL), anyString());
+        assertNull(nearCache.get("cache", "key").block());
+
+        // A value loaded before the eviction must not repopulate the near cache
+        nearCache.put("cache", "key", "stale", generation);
+        assertNull(nearCache.get("cache", "key").block());
+    }
+
+    @Test
+    public void testInvalidationFromPeerNodeIsApplied() {
+        doReturn(Flux.just(new ReactiveSubscription.ChannelMessage<>(
+                        NearCache.INVALIDATION_CHANNEL, "peer-node|evictAll|cache|")))
+                .when(reactiveRedisOperations)
+                .listenToChannel(anyString());
+        NearCache nearCache = new NearCache(reactiveRedisOperations, true, 10, 60);
+        nearCache.put("cache", "key", "value", nearCache.generation("cache"));
+
+        nearCache.subscribeToInvalidations();
+
+        assertNull(nearCache.get("cache", "key").block());
+        assertEquals(1, nearCache.getStats("cache").getRemoteInvalidations().get());
+    }
+}
@@ -1,6 +1,7 @@
 package com.appsmith.testcaching.test;
 
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
 import com.appsmith.testcaching.model.ArgumentModel;
 import com.appsmith.testcaching.model.TestModel;
 import com.appsmith.testcaching.service.CacheTestService;
@@ -10,12 +11,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -28,6 +35,12 @@ public class TestCachingMethods {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    @Autowired
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
     /**
      * This Test is used to test the caching of a method that returns a Mono<T>
      */
@@ -64,6 +77,60 @@ public class TestCachingMethods {
         }
     }
 
+    /**
+     * This Test is used to test the caching of a Flux<T> in streaming mode
+     */
+    @Test
+    public void testCacheAndEvictStreamingFlux() {
+        List<TestModel> model =
+                cacheTestService.getStreamFor("test1").collectList().block();
+        List<TestModel> model2 =
+                cacheTestService.getStreamFor("test1").collectList().block();
+        assertEquals(250, model.size());
+        assertArrayEquals(model.toArray(), model2.toArray());
+
+        cacheTestService.evictStreamFor("test1").block();
+
+        // If not evicted with above call, this will return the same list
+        model2 = cacheTestService.getStreamFor("test1").collectList().block();
+        assertNotEquals(model.get(0), model2.get(0));
+    }
+
+    /**
+     * This Test is used to test that streamed results beyond the budget are returned but not cached
+     */
+    @Test
+    public void testStreamingFluxOverBudgetIsNotCached() {
+        List<TestModel> model =
+                cacheTestService.getBoundedStreamFor("test2").collectList().block();
+        List<TestModel> model2 =
+                cacheTestService.getBoundedStreamFor("test2").collectList().block();
+        assertEquals(50, model.size());
+        assertEquals(50, model2.size());
+        assertNotEquals(model.get(0), model2.get(0));
+    }
+
+    /**
+     * This Test is used to test that concurrent cache misses for the same key invoke the method only once
+     */
+    @Test
+    public void testConcurrentMissesAreCoalesced() {
+        cacheTestService.evictObjectFor("test3").block();
+        int coalescedCallsBefore =
+                cacheManager.getStats("objectcache").getCoalescedCalls().get();
+
+        List<TestModel> models = Flux.range(0, 10)
+                .flatMap(i -> cacheTestService.getObjectFor("test3"))
+                .collectList()
+                .block();
+
+        // All callers should receive the result of a single method invocation
+        models.forEach(model -> assertEquals(models.get(0), model));
+        assertEquals(
+                coalescedCallsBefore + 9,
+                cacheManager.getStats("objectcache").getCoalescedCalls().get());
+    }
+
     /**
      * This Test is used to test evict all
      */
@@ -116,6 +183,50 @@ public class TestCachingMethods {
         log.info("Time taken for cache operation " + (timeTaken / count) + " nanos");
     }
 
+    /**
+     * This Test is used to test that evict all also evicts the entries that were written before the cache index existed
+     */
+    @Test
+    public void testEvictAllEvictsUnindexedEntries() {
+        cacheManager.put("unindexedcache", "indexed", "value").block();
+        reactiveRedisOperations
+                .opsForValue()
+                .set("unindexedcache:unindexed", "value")
+                .block();
+
+        cacheManager.evictAll("unindexedcache").block();
+
+        assertNull(cacheManager.get("unindexedcache", "indexed").block());
+        assertFalse(reactiveRedisOperations.hasKey("unindexedcache:unindexed").block());
+    }
+
+    /**
+     * This Test is used to test that the entries that aren't in the cache index are only looked for once per cache,
+     * and not again by other nodes or after a restart
+     */
+    @Test
+    public void testEvictAllLooksForUnindexedEntriesOnce() {
+        cacheManager.put("sweptcache", "indexed", "value").block();
+        cacheManager.evictAll("sweptcache").block();
+        assertTrue(reactiveRedisOperations
+                .hasKey("cache-index:sweptcache:legacy-swept")
+                .block());
+
+        // A new cache manager stands for another node, or this one after a restart
+        RedisCacheManagerImpl otherCacheManager = new RedisCacheManagerImpl(reactiveRedisTemplate);
+        otherCacheManager.put("sweptcache", "indexed", "value").block();
+        reactiveRedisOperations
+                .opsForValue()
+                .set("sweptcache:unindexed", "value")
+                .block();
+
+        otherCacheManager.evictAll("sweptcache").block();
+
+        assertNull(otherCacheManager.get("sweptcache", "indexed").block());
+        assertTrue(reactiveRedisOperations.hasKey("sweptcache:unindexed").block());
+        reactiveRedisOperations.delete("sweptcache:unindexed").block();
+    }
+
     /**
      * Log stats in the end
      */